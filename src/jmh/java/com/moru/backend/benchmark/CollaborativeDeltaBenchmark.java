@@ -0,0 +1,125 @@
+package com.moru.backend.benchmark;
+
+import it.unimi.dsi.fastutil.ints.Int2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 협업 필터링 증분 반영(CollaborativeRoutineIndex.applyDelta) 좋아요/스크랩 1건 비용
+ * - 자기 루틴과 사용자의 최근 반응 루틴(최대 fanOut개) 양쪽 ZSET 점수를 올리고, 건드린 ZSET마다 상위 N개만 남긴다
+ * - 파이프라인 명령 수는 1 + 5 * fanOut + 3개 (fanOut 50 → 254개, 200 → 1004개)
+ * - fanOut별로 비교해 max-delta-neighbours 상한이 증분 반영 스레드의 일을 얼마나 줄이는지 본다
+ * Redis 왕복 비용은 빼고, ZSET(skip list)과 같은 정렬 구조로 명령이 해야 하는 계산량만 흉내 낸다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CollaborativeDeltaBenchmark {
+    private static final int NEIGHBOUR_SIZE = 50;
+    private static final int MAX_ITEMS_PER_USER = 200;
+    private static final int WARMUP_INTERACTIONS = 200000;
+
+    @Param({"50", "200"})
+    private int fanOut;
+
+    @Param({"200000"})
+    private int routineCount;
+
+    private SimulatedZSet[] neighbourSets;
+    private int[] itemCounts;
+
+    private record Entry(double score, int member) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Integer.compare(member, other.member);
+        }
+    }
+
+    // 루틴 하나의 이웃 ZSET (점수 조회용 해시 + 순위용 정렬 집합)
+    private static final class SimulatedZSet {
+        private final Int2DoubleOpenHashMap scores = new Int2DoubleOpenHashMap();
+        private final TreeSet<Entry> ordered = new TreeSet<>();
+
+        // ZINCRBY
+        void incrementScore(int member, double delta) {
+            double before = scores.get(member);
+            if (scores.containsKey(member)) {
+                ordered.remove(new Entry(before, member));
+            }
+            double after = before + delta;
+            scores.put(member, after);
+            ordered.add(new Entry(after, member));
+        }
+
+        // ZREMRANGEBYSCORE -inf 0 + ZREMRANGEBYRANK 0 -(keep + 1)
+        void trim(int keep) {
+            while (!ordered.isEmpty() && (ordered.first().score() <= 0 || ordered.size() > keep)) {
+                scores.remove(ordered.pollFirst().member());
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        neighbourSets = new SimulatedZSet[routineCount];
+        for (int i = 0; i < routineCount; i++) {
+            neighbourSets[i] = new SimulatedZSet();
+        }
+        itemCounts = new int[routineCount];
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP_INTERACTIONS; i++) {
+            applyDelta(skewedItem(random), recentItems(random), 1);
+        }
+    }
+
+    @Benchmark
+    public void applyDelta(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        blackhole.consume(applyDelta(skewedItem(random), recentItems(random), 1));
+    }
+
+    // CollaborativeRoutineIndex.applyDelta와 같은 순서, 반환값은 파이프라인 명령 수
+    private int applyDelta(int item, IntArrayList others, int delta) {
+        int commands = 1;
+        itemCounts[item] += delta;
+        SimulatedZSet own = neighbourSets[item];
+        for (int i = 0; i < others.size(); i++) {
+            int other = others.getInt(i);
+            if (other == item) {
+                continue;
+            }
+            SimulatedZSet otherSet = neighbourSets[other];
+            own.incrementScore(other, delta);
+            otherSet.incrementScore(item, delta);
+            otherSet.trim(NEIGHBOUR_SIZE);
+            commands += 5;
+        }
+        own.trim(NEIGHBOUR_SIZE);
+        return commands + 3;
+    }
+
+    // 반응이 max-items-per-user개까지 쌓인 사용자의 최근 반응 루틴 중 앞쪽 fanOut개
+    private IntArrayList recentItems(Random random) {
+        int size = Math.min(fanOut, MAX_ITEMS_PER_USER);
+        IntArrayList items = new IntArrayList(size);
+        while (items.size() < size) {
+            int item = skewedItem(random);
+            if (!items.contains(item)) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private int skewedItem(Random random) {
+        double r = random.nextDouble();
+        return (int) (r * r * routineCount);
+    }
+}
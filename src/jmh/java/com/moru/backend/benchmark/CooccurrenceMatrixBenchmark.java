@@ -0,0 +1,87 @@
+package com.moru.backend.benchmark;
+
+import com.moru.backend.domain.routine.application.ItemCooccurrenceMatrix;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 협업 필터링 공동 반응 행렬 비용 측정 (액션 1천만 건 기준)
+ * - buildMatrix: 사용자 순으로 정렬된 액션 전체로 행렬을 만들고 루틴별 상위 N개 이웃을 뽑는 배치 전체 비용
+ * - topNeighbours: 루틴 하나의 이웃 상위 N개 선택 비용
+ * 인기 루틴에 반응이 몰리는 분포를 흉내 내기 위해 루틴 선택은 제곱 분포로 치우치게 한다.
+ * 좋아요/스크랩 1건의 증분 반영(Redis ZSET) 비용은 CollaborativeDeltaBenchmark에서 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class CooccurrenceMatrixBenchmark {
+    private static final int NEIGHBOUR_SIZE = 50;
+    private static final int MAX_ITEMS_PER_USER = 200;
+
+    @Param({"10000000"})
+    private int actionCount;
+
+    @Param({"500000"})
+    private int userCount;
+
+    @Param({"200000"})
+    private int routineCount;
+
+    // 사용자 순으로 정렬된 (사용자별 루틴 목록) — 배치가 스트림에서 모으는 형태와 같다
+    private IntArrayList[] itemsByUser;
+    private ItemCooccurrenceMatrix builtMatrix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        itemsByUser = new IntArrayList[userCount];
+        for (int u = 0; u < userCount; u++) {
+            itemsByUser[u] = new IntArrayList();
+        }
+        for (int i = 0; i < actionCount; i++) {
+            IntArrayList items = itemsByUser[random.nextInt(userCount)];
+            int item = skewedItem(random);
+            if (items.size() < MAX_ITEMS_PER_USER && !items.contains(item)) {
+                items.add(item);
+            }
+        }
+        builtMatrix = build();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void buildMatrix(Blackhole blackhole) {
+        ItemCooccurrenceMatrix matrix = build();
+        for (int item = 0; item < routineCount; item++) {
+            blackhole.consume(matrix.topNeighbours(item, NEIGHBOUR_SIZE));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void topNeighbours(Blackhole blackhole) {
+        int item = skewedItem(ThreadLocalRandom.current());
+        blackhole.consume(builtMatrix.topNeighbours(item, NEIGHBOUR_SIZE));
+    }
+
+    private ItemCooccurrenceMatrix build() {
+        ItemCooccurrenceMatrix matrix = new ItemCooccurrenceMatrix(routineCount);
+        for (IntArrayList items : itemsByUser) {
+            if (!items.isEmpty()) {
+                matrix.addUserItems(items);
+            }
+        }
+        return matrix;
+    }
+
+    private int skewedItem(Random random) {
+        double r = random.nextDouble();
+        return (int) (r * r * routineCount);
+    }
+}
@@ -0,0 +1,121 @@
+package com.moru.backend.benchmark;
+
+import com.moru.backend.domain.routine.application.TrendingScore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 루틴 100만 개 기준 인기 루틴 정렬 비교
+ * - sqlRanking: findHotRoutinesIds와 같은 방식 (최근 7일 루틴 전체를 훑으며 가중치 점수 계산 후 상위 N개)
+ * - trendingTopK: 정렬된 인덱스(Redis ZSET과 같은 skip list)에서 상위 N개를 읽고 본인 루틴만 건너뜀
+ * - trendingUpdate: 이벤트 1건 반영 비용 (log-sum-exp + 인덱스 재배치, Lua 스크립트의 ZSCORE/ZADD에 해당)
+ * DB/Redis 왕복 비용은 빼고 각 방식이 해야 하는 계산량만 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HotRankingBenchmark {
+    private static final int LIMIT = 10;
+    private static final double VIEW_WEIGHT = 0.3;
+    private static final double LIKE_WEIGHT = 0.7;
+
+    @Param({"1000000"})
+    private int routineCount;
+
+    private long[] createdAtEpochSeconds;
+    private int[] viewCounts;
+    private int[] likeCounts;
+    private int[] ownerIds;
+
+    private TrendingScore trendingScore;
+    private double[] logScores;
+    private ConcurrentSkipListSet<Entry> trendingIndex;
+
+    private long nowEpochSecond;
+    private int excludeOwnerId;
+
+    private record Entry(double logScore, int routineIndex) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = Double.compare(other.logScore, logScore);
+            return byScore != 0 ? byScore : Integer.compare(routineIndex, other.routineIndex);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Instant now = Instant.now();
+        nowEpochSecond = now.getEpochSecond();
+        excludeOwnerId = 42;
+
+        createdAtEpochSeconds = new long[routineCount];
+        viewCounts = new int[routineCount];
+        likeCounts = new int[routineCount];
+        ownerIds = new int[routineCount];
+        logScores = new double[routineCount];
+        trendingScore = new TrendingScore(24);
+        trendingIndex = new ConcurrentSkipListSet<>();
+
+        for (int i = 0; i < routineCount; i++) {
+            // 최근 1년 동안 고르게 생성되었다고 가정
+            createdAtEpochSeconds[i] = nowEpochSecond - random.nextLong(365L * 24 * 3600);
+            viewCounts[i] = random.nextInt(1000);
+            likeCounts[i] = random.nextInt(100);
+            ownerIds[i] = random.nextInt(100_000);
+
+            Instant lastEventAt = Instant.ofEpochSecond(createdAtEpochSeconds[i]);
+            logScores[i] = trendingScore.eventLogScore(1 + viewCounts[i] + likeCounts[i] * 3.0, lastEventAt);
+            trendingIndex.add(new Entry(logScores[i], i));
+        }
+    }
+
+    @Benchmark
+    public void sqlRanking(Blackhole blackhole) {
+        long weekAgo = nowEpochSecond - 7L * 24 * 3600;
+        PriorityQueue<double[]> top = new PriorityQueue<>(LIMIT + 1, Comparator.comparingDouble(a -> a[0]));
+        for (int i = 0; i < routineCount; i++) {
+            if (createdAtEpochSeconds[i] < weekAgo || ownerIds[i] == excludeOwnerId) {
+                continue;
+            }
+            double score = viewCounts[i] * VIEW_WEIGHT + likeCounts[i] * LIKE_WEIGHT;
+            top.add(new double[]{score, i});
+            if (top.size() > LIMIT) {
+                top.poll();
+            }
+        }
+        blackhole.consume(top);
+    }
+
+    @Benchmark
+    public void trendingTopK(Blackhole blackhole) {
+        List<Integer> result = new ArrayList<>(LIMIT);
+        for (Entry entry : trendingIndex) {
+            if (ownerIds[entry.routineIndex()] == excludeOwnerId) {
+                continue;
+            }
+            result.add(entry.routineIndex());
+            if (result.size() >= LIMIT) {
+                break;
+            }
+        }
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void trendingUpdate(Blackhole blackhole) {
+        int index = ThreadLocalRandom.current().nextInt(routineCount);
+        double previous = logScores[index];
+        double next = TrendingScore.logAdd(previous, trendingScore.eventLogScore(1, Instant.now()));
+        trendingIndex.remove(new Entry(previous, index));
+        trendingIndex.add(new Entry(next, index));
+        logScores[index] = next;
+        blackhole.consume(next);
+    }
+}
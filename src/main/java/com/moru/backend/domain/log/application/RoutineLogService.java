@@ -15,6 +15,7 @@ import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.RoutineStep;
 import com.moru.backend.domain.routine.domain.meta.RoutineApp;
 import com.moru.backend.domain.routine.domain.meta.RoutineTag;
+import com.moru.backend.domain.routine.event.RoutineRankingChangedEvent;
 import com.moru.backend.domain.routine.dto.response.RoutineAppResponse;
 import com.moru.backend.domain.log.dto.RoutineLogCursor;
 import com.moru.backend.domain.user.domain.User;
@@ -26,6 +27,7 @@ import com.moru.backend.global.util.S3Directory;
 import com.moru.backend.global.util.S3Service;
 import com.moru.backend.global.validator.RoutineValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -50,6 +52,7 @@ public class RoutineLogService {
     private final RoutineStepLogRepository routineStepLogRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UUID startRoutine(User user, UUID routineId) {
         if (routineLogRepository.existsByUserIdAndEndedAtIsNull(user.getId())) {
@@ -75,6 +78,12 @@ public class RoutineLogService {
                 .build();
 
         routineLogRepository.save(routineLog);
+        // 트렌딩 점수/태그는 커밋 후 반영 (RoutineRankingEventListener)
+        eventPublisher.publishEvent(RoutineRankingChangedEvent.builder()
+                .type(RoutineRankingChangedEvent.Type.STARTED)
+                .routineId(routine.getId()).ownerId(routine.getUser().getId()).createdAt(routine.getCreatedAt())
+                .tagNames(snapshot.getTagSnapshots().stream().map(RoutineTagSnapshot::getTagName).toList())
+                .build());
         return routineLog.getId();
     }
 
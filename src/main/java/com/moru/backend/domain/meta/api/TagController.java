@@ -1,31 +1,38 @@
 package com.moru.backend.domain.meta.api;
 
-import com.moru.backend.domain.meta.dao.TagRepository;
-import com.moru.backend.domain.meta.domain.Tag;
+import com.moru.backend.domain.meta.application.TagDictionary;
 import com.moru.backend.domain.meta.dto.response.TagResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/tags")
 @RequiredArgsConstructor
 @io.swagger.v3.oas.annotations.tags.Tag(name = "태그", description = "시스템 내장 태그 전체 목록 조회 API")
 public class TagController {
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
 
-    @Operation(summary = "태그 전체 목록 조회", description = "시스템에 내장된 모든 태그를 조회합니다.")
+    @Operation(summary = "태그 전체 목록 조회", description = "시스템에 내장된 모든 태그를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @GetMapping
-    public ResponseEntity<List<TagResponse>> getAllTag() {
-        List<Tag> tags = tagRepository.findAll();
-        List<TagResponse> response = tags.stream()
-                .map(TagResponse::from)
-                .toList();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<TagResponse>> getAllTag(WebRequest webRequest) {
+        String etag = tagDictionary.getEtag();
+        CacheControl cacheControl = CacheControl.maxAge(10, TimeUnit.MINUTES).cachePublic();
+        // 목록이 바뀌지 않았으면 본문 없이 304
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(304).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(tagDictionary.getAllTags());
     }
 }
\ No newline at end of file
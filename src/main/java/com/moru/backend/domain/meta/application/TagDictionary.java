@@ -0,0 +1,135 @@
+package com.moru.backend.domain.meta.application;
+
+import com.moru.backend.domain.meta.dao.TagRepository;
+import com.moru.backend.domain.meta.domain.Tag;
+import com.moru.backend.domain.meta.dto.response.TagResponse;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 태그 ID ↔ 이름 사전. 태그는 개수가 적고 거의 바뀌지 않으므로 전체를 메모리에 불변 구조로 들고 있는다.
+ * - 서버 기동 시 한 번 로드
+ * - 태그가 생성되면 Redis 채널로 알려 모든 노드가 다시 로드
+ * - 사전에 없는 값은 호출하는 쪽에서 DB로 한 번 더 확인한다 (다른 노드에서 막 생성된 경우)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary implements MessageListener {
+    private final TagRepository tagRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile Entries entries;
+
+    // 한 번에 교체되는 불변 스냅샷
+    private record Entries(Map<UUID, TagResponse> byId, Map<String, UUID> idsByName, List<TagResponse> all, String etag) {}
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.TAG_DICTIONARY_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<Tag> tags = tagRepository.findAll();
+        Map<UUID, TagResponse> byId = new HashMap<>();
+        Map<String, UUID> idsByName = new HashMap<>();
+        List<TagResponse> all = new ArrayList<>();
+        for (Tag tag : tags) {
+            TagResponse response = TagResponse.from(tag);
+            byId.put(tag.getId(), response);
+            idsByName.putIfAbsent(tag.getName(), tag.getId());
+            all.add(response);
+        }
+        entries = new Entries(Map.copyOf(byId), Map.copyOf(idsByName), List.copyOf(all), computeEtag(tags));
+        log.info("태그 사전 로드 완료: {}개", tags.size());
+    }
+
+    public Optional<UUID> findIdByName(String name) {
+        return Optional.ofNullable(current().idsByName().get(name));
+    }
+
+    public Optional<String> findNameById(UUID id) {
+        return findById(id).map(TagResponse::getName);
+    }
+
+    public Optional<TagResponse> findById(UUID id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public boolean contains(UUID id) {
+        return current().byId().containsKey(id);
+    }
+
+    public List<TagResponse> getAllTags() {
+        return current().all();
+    }
+
+    /**
+     * 태그 전체 목록의 ETag (목록이 바뀔 때만 달라진다)
+     */
+    public String getEtag() {
+        return current().etag();
+    }
+
+    /**
+     * 태그 생성 후 모든 노드(자신 포함)에 다시 로드하라고 알린다.
+     */
+    public void publishInvalidation() {
+        reload();
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.TAG_DICTIONARY_CHANNEL, "reload");
+        } catch (Exception e) {
+            log.warn("태그 사전 갱신 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("태그 사전 다시 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    private Entries current() {
+        Entries loaded = entries;
+        if (loaded == null) {
+            reload();
+            loaded = entries;
+        }
+        return loaded;
+    }
+
+    private String computeEtag(List<Tag> tags) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            tags.stream()
+                    .sorted(Comparator.comparing(Tag::getId))
+                    .forEach(tag -> {
+                        digest.update(tag.getId().toString().getBytes(StandardCharsets.UTF_8));
+                        digest.update(tag.getName().getBytes(StandardCharsets.UTF_8));
+                    });
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
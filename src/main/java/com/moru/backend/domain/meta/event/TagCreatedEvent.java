@@ -0,0 +1,17 @@
+package com.moru.backend.domain.meta.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 새 태그가 생성되었음을 알린다. (태그 사전 갱신용)
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class TagCreatedEvent {
+    private final UUID tagId;
+}
@@ -0,0 +1,26 @@
+package com.moru.backend.domain.meta.listener;
+
+import com.moru.backend.domain.meta.application.TagDictionary;
+import com.moru.backend.domain.meta.event.TagCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionaryEventListener {
+    private final TagDictionary tagDictionary;
+
+    // 커밋된 뒤에야 다른 노드에서 새 태그를 읽을 수 있으므로 AFTER_COMMIT
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTagCreated(TagCreatedEvent event) {
+        try {
+            tagDictionary.publishInvalidation();
+        } catch (Exception e) {
+            log.warn("태그 사전 갱신 실패: tagId={}, {}", event.getTagId(), e.getMessage());
+        }
+    }
+}
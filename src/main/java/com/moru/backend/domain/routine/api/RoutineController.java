@@ -5,10 +5,12 @@ import com.moru.backend.domain.log.dto.LiveUserResponse;
 import com.moru.backend.domain.meta.dto.response.TagResponse;
 import com.moru.backend.domain.routine.application.*;
 import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.domain.routine.dto.RoutineCursor;
 import com.moru.backend.domain.routine.dto.request.*;
 import com.moru.backend.domain.routine.dto.response.*;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.annotation.CurrentUser;
+import com.moru.backend.global.common.dto.ScrollResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -49,6 +51,18 @@ public class RoutineController {
         return ResponseEntity.ok(routineQueryService.getRoutineList(currentUser, sortType, dayOfWeek, PageRequest.of(page, size)));
     }
 
+    @Operation(summary = "내 루틴 목록 조회 (무한 스크롤)", description = "내 루틴 목록과 같은 정렬을 커서로 이어서 조회합니다. 전체 개수 없이 다음 요청에 nextCursor의 값을 그대로 전달합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResponse<RoutineListResponse, RoutineCursor>> scrollRoutineList(
+            @CurrentUser User currentUser,
+            @RequestParam(value = "sortType", defaultValue = "TIME") SortType sortType,
+            @RequestParam(value = "dayOfWeek", required = false) DayOfWeek dayOfWeek,
+            @ModelAttribute RoutineCursor cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(routineQueryService.scrollRoutineList(currentUser, sortType, dayOfWeek, cursor, size));
+    }
+
     @Operation(summary = "루틴 상세 조회", description = "특정 루틴의 상세 정보를 조회합니다.")
     @GetMapping("/{routineId}")
     public ResponseEntity<RoutineDetailResponse> getRoutineDetail(
@@ -2,7 +2,7 @@ package com.moru.backend.domain.routine.api;
 
 import com.moru.backend.domain.log.application.RoutineLogService;
 import com.moru.backend.domain.log.dto.LiveUserResponse;
-import com.moru.backend.domain.routine.application.RoutineRecommendService;
+import com.moru.backend.domain.routine.application.RecommendFeedCacheService;
 import com.moru.backend.domain.routine.dto.response.RecommendFeedResponse;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.annotation.CurrentUser;
@@ -22,13 +22,13 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "루틴 피드/추천", description = "루틴 피드 및 추천 관련 API")
 public class RoutineFeedController {
-    private final RoutineRecommendService routineRecommendService;
+    private final RecommendFeedCacheService recommendFeedCacheService;
     private final RoutineLogService routineLogService;
 
     @Operation(summary = "루틴 피드 추천", description = "루틴 피드 추천을 받습니다.")
     @GetMapping("/recommend/feed")
     public ResponseEntity<RecommendFeedResponse> getRecommendFeed(@CurrentUser User currentUser) {
-        RecommendFeedResponse response = routineRecommendService.getRecommendFeed(currentUser);
+        RecommendFeedResponse response = recommendFeedCacheService.getRecommendFeed(currentUser);
         return ResponseEntity.ok(response);
     }
 
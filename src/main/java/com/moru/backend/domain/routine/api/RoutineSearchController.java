@@ -2,11 +2,16 @@ package com.moru.backend.domain.routine.api;
 
 import com.moru.backend.domain.routine.application.RoutineSearchService;
 import com.moru.backend.domain.routine.domain.search.SearchType;
+import com.moru.backend.domain.routine.domain.search.TrendWindow;
+import com.moru.backend.domain.routine.dto.RoutineCursor;
 import com.moru.backend.domain.routine.dto.request.RoutineSearchRequest;
 import com.moru.backend.domain.routine.dto.response.RoutineSearchResponse;
 import com.moru.backend.domain.routine.dto.response.SearchHistoryResponse;
+import com.moru.backend.domain.routine.dto.response.TagFacetResponse;
+import com.moru.backend.domain.routine.dto.response.TrendingTermResponse;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.annotation.CurrentUser;
+import com.moru.backend.global.common.dto.ScrollResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -30,8 +35,9 @@ public class RoutineSearchController {
             @CurrentUser User currentUser,
             @RequestBody RoutineSearchRequest request
     ) {
-        // 사용자가 request - titleKeyword로 검색했으면, 검색 기록 저장하기
-        if (request.getTitleKeyword() != null && !request.getTitleKeyword().trim().isEmpty()) {
+        // 사용자가 request - titleKeyword로 검색했으면, 첫 페이지에서만 검색 기록 저장하기 (페이지를 넘길 때마다 쌓이지 않도록)
+        boolean firstPage = request.getPage() == null || request.getPage() == 0;
+        if (firstPage && request.getTitleKeyword() != null && !request.getTitleKeyword().trim().isEmpty()) {
             routineSearchService.saveSearchHistory(
                     request.getTitleKeyword(),
                     SearchType.ROUTINE_NAME, // 루틴명 검색 기록 유형
@@ -43,6 +49,51 @@ public class RoutineSearchController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "루틴 검색 (무한 스크롤)", description = "루틴 검색과 같은 조건/정렬을 커서로 이어서 조회 (전체 개수 없음, 다음 요청에 nextCursor를 cursor로 전달)")
+    @PostMapping("/scroll")
+    public ResponseEntity<ScrollResponse<RoutineSearchResponse, RoutineCursor>> scrollRoutines(
+            @CurrentUser User currentUser,
+            @RequestBody RoutineSearchRequest request
+    ) {
+        // 첫 페이지에서만 검색 기록 저장 (스크롤마다 같은 검색어가 쌓이지 않도록)
+        boolean firstPage = request.getCursor() == null || request.getCursor().isFirstPage();
+        if (firstPage && request.getTitleKeyword() != null && !request.getTitleKeyword().trim().isEmpty()) {
+            routineSearchService.saveSearchHistory(
+                    request.getTitleKeyword(),
+                    SearchType.ROUTINE_NAME,
+                    currentUser
+            );
+        }
+        return ResponseEntity.ok(routineSearchService.scrollRoutines(request, currentUser));
+    }
+
+    @Operation(summary = "검색 결과 태그별 개수", description = "검색어에 일치하는 루틴을 태그별로 센 개수 (많은 순)")
+    @PostMapping("/facets")
+    public ResponseEntity<List<TagFacetResponse>> getTagFacets(
+            @RequestBody RoutineSearchRequest request,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(routineSearchService.getTagFacets(request, limit));
+    }
+
+    @Operation(summary = "실시간 인기 검색어", description = "구간(window: 1h, 24h, 7d) 동안 많이 검색된 루틴명 검색어")
+    @GetMapping("/trending/keywords")
+    public ResponseEntity<List<TrendingTermResponse>> getTrendingKeywords(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(routineSearchService.getTrendingKeywords(TrendWindow.from(window), limit));
+    }
+
+    @Operation(summary = "실시간 인기 태그", description = "구간(window: 1h, 24h, 7d) 동안 루틴 생성/실행에 많이 쓰인 태그")
+    @GetMapping("/trending/tags")
+    public ResponseEntity<List<TrendingTermResponse>> getTrendingTags(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(routineSearchService.getTrendingTags(TrendWindow.from(window), limit));
+    }
+
     @Operation(summary = "최근 루틴명 검색 기록 조회", description = "사용자의 최근 루틴명 검색 기록을 조회")
     @GetMapping("/history/routine-name")
     public ResponseEntity<List<SearchHistoryResponse>> getRecentRoutineNameHistory(
@@ -70,7 +121,7 @@ public class RoutineSearchController {
         return ResponseEntity.ok().build();
     }
 
-    @Operation(summary = "루틴명 자동완성", description = "입력한 키워드로 시작하는 루틴명을 제안")
+    @Operation(summary = "루틴명 자동완성", description = "입력한 키워드로 시작하는 루틴명을 인기순으로 제안 (입력 중인 자모 포함, 최대 10개)")
     @GetMapping("/suggestions/routine-title")
     public ResponseEntity<List<String>> getRoutineTitleSuggestions(
             @RequestParam String keyword) {
@@ -0,0 +1,330 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.application.ItemCooccurrenceMatrix.Neighbour;
+import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
+import com.moru.backend.domain.social.dao.UserRoutinePair;
+import com.moru.backend.global.util.RedisKeyUtil;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 좋아요/스크랩 기록(routine_user_action)으로 만드는 아이템 기반 협업 필터링.
+ * - 배치: 액션을 사용자 순으로 흘려 읽어 루틴 간 공동 반응 행렬을 만들고, 루틴별 공동 반응 횟수 상위 N개 이웃을 Redis에 저장
+ * - 증분: 좋아요/스크랩 커밋 후 별도 스레드에서 그 사용자의 최근 반응 루틴들(최대 max-delta-neighbours개)과의
+ *   공동 반응 횟수를 올리고(취소 시 내리고) 같은 기준(공동 반응 횟수)으로 상위 N개만 남긴다.
+ *   좋아요 한 건의 파이프라인 명령 수는 약 5 * max-delta-neighbours개로 묶이고, 그보다 오래된 반응과의 차이는 배치가 보정한다
+ * - 조회: 사용자가 최근 반응한 루틴들의 이웃 점수(코사인)를 합산해 아직 반응하지 않은 루틴을 추천
+ * 이웃 ZSET에는 공동 반응 횟수를, 루틴별 반응 사용자 수는 해시에 두고 코사인은 조회 시점에 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollaborativeRoutineIndex {
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final Duration KEY_TTL = Duration.ofDays(3);
+
+    private final RoutineUserActionRepository routineUserActionRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    // 증분 반영 전용 스레드 풀 (좋아요/스크랩 요청 스레드를 막지 않도록 분리, 넘치면 버리고 배치에서 보정)
+    // 대기열이 가득 차기 전에는 코어 수 이상으로 늘지 않으므로 코어 = 최대로 고정한다
+    private static final int INTERACTION_THREADS = 2;
+    private final ExecutorService interactionExecutor = new ThreadPoolExecutor(
+            INTERACTION_THREADS, INTERACTION_THREADS, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(10000));
+
+    // 루틴별로 보관할 이웃 수 (증분 반영으로 순위가 바뀔 여지를 두어 조회 개수보다 넉넉히)
+    @Value("${moru.routine.recommend.collaborative.neighbour-size:50}")
+    private int neighbourSize;
+
+    // 사용자 한 명이 행렬에 기여하는 최대 루틴 수 (반응이 아주 많은 사용자의 제곱 비용을 막는다)
+    @Value("${moru.routine.recommend.collaborative.max-items-per-user:200}")
+    private int maxItemsPerUser;
+
+    // 좋아요/스크랩 한 건을 증분 반영할 때 함께 갱신하는 최근 반응 루틴 수 (건당 Redis 명령 수 상한)
+    @Value("${moru.routine.recommend.collaborative.max-delta-neighbours:50}")
+    private int maxDeltaNeighbours;
+
+    // 추천 계산에 쓰는 사용자의 최근 반응 루틴 수
+    @Value("${moru.routine.recommend.collaborative.seed-size:20}")
+    private int seedSize;
+
+    /**
+     * 전체 액션으로 공동 반응 행렬을 다시 만들고 루틴별 이웃 목록을 덮어쓴다. 읽기 전용 트랜잭션 안에서 호출해야 한다.
+     * @return 이웃 목록을 저장한 루틴 수
+     */
+    public int rebuild() {
+        Object2IntOpenHashMap<UUID> ordinals = new Object2IntOpenHashMap<>();
+        ordinals.defaultReturnValue(-1);
+        List<UUID> routineIds = new ArrayList<>();
+        ItemCooccurrenceMatrix matrix = new ItemCooccurrenceMatrix(1 << 16);
+
+        try (Stream<UserRoutinePair> rows = routineUserActionRepository.streamAllOrderByUser()) {
+            UserItemsCollector collector = new UserItemsCollector(matrix::addUserItems);
+            rows.forEach(row -> {
+                int ordinal = ordinals.getInt(row.getRoutineId());
+                if (ordinal < 0) {
+                    ordinal = routineIds.size();
+                    ordinals.put(row.getRoutineId(), ordinal);
+                    routineIds.add(row.getRoutineId());
+                }
+                collector.accept(row.getUserId(), ordinal);
+            });
+            collector.flush();
+        }
+
+        int written = 0;
+        for (int from = 0; from < routineIds.size(); from += WRITE_BATCH_SIZE) {
+            int to = Math.min(from + WRITE_BATCH_SIZE, routineIds.size());
+            written += writeBatch(matrix, routineIds, from, to);
+        }
+        return written;
+    }
+
+    @PreDestroy
+    void shutdownInteractionExecutor() {
+        interactionExecutor.shutdown();
+    }
+
+    /**
+     * 커밋된 좋아요/스크랩 한 건을 이웃 목록에 반영하도록 예약한다. (커밋 후 리스너에서 호출)
+     * 같은 루틴에 이미 다른 종류의 반응이 있었다면 사용자 수/공동 반응 횟수가 이미 반영된 것이므로 건너뛴다.
+     */
+    public void recordInteraction(UUID userId, UUID routineId) {
+        submit(routineId, () -> {
+            List<UUID> recent = routineUserActionRepository.findRecentRoutineIdsByUserId(
+                    userId, PageRequest.of(0, maxItemsPerUser + 1));
+            if (recent.stream().filter(routineId::equals).count() > 1) {
+                return;
+            }
+            applyDelta(routineId, deltaNeighbours(recent, routineId), 1);
+        });
+    }
+
+    /**
+     * 커밋된 좋아요/스크랩 취소 한 건을 이웃 목록에서 되돌리도록 예약한다. (커밋 후 리스너에서 호출)
+     * 같은 루틴에 다른 종류의 반응이 남아 있으면 사용자 수/공동 반응 횟수는 그대로이므로 건너뛴다.
+     */
+    public void recordRemoval(UUID userId, UUID routineId) {
+        submit(routineId, () -> {
+            List<UUID> recent = routineUserActionRepository.findRecentRoutineIdsByUserId(
+                    userId, PageRequest.of(0, maxItemsPerUser));
+            if (recent.contains(routineId)) {
+                return;
+            }
+            applyDelta(routineId, deltaNeighbours(recent, routineId), -1);
+        });
+    }
+
+    // 최근 반응 순으로 자기 자신을 뺀 앞쪽 max-delta-neighbours개만 증분 반영 대상으로 쓴다
+    private Set<UUID> deltaNeighbours(List<UUID> recent, UUID routineId) {
+        Set<UUID> others = new LinkedHashSet<>();
+        for (UUID other : recent) {
+            if (others.size() >= maxDeltaNeighbours) {
+                break;
+            }
+            if (!other.equals(routineId)) {
+                others.add(other);
+            }
+        }
+        return others;
+    }
+
+    private void submit(UUID routineId, Runnable task) {
+        try {
+            interactionExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("협업 필터링 증분 반영 실패: routineId={}, {}", routineId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("협업 필터링 증분 반영 대기열 초과: routineId={}", routineId);
+        }
+    }
+
+    // 공동 반응 횟수를 양방향으로 더하고, 0 이하가 된 이웃은 지우고, 횟수 상위 N개만 남긴다
+    private void applyDelta(UUID routineId, Set<UUID> others, int delta) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(RedisKeyUtil.COLLABORATIVE_ITEM_COUNTS, routineId.toString(), delta);
+                String key = RedisKeyUtil.collaborativeRoutineKey(routineId);
+                for (UUID other : others) {
+                    String otherKey = RedisKeyUtil.collaborativeRoutineKey(other);
+                    ops.opsForZSet().incrementScore(key, other.toString(), delta);
+                    ops.opsForZSet().incrementScore(otherKey, routineId.toString(), delta);
+                    trim(ops, otherKey);
+                }
+                trim(ops, key);
+                return null;
+            }
+        });
+    }
+
+    private void trim(RedisOperations<String, String> ops, String key) {
+        ops.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, 0);
+        ops.opsForZSet().removeRange(key, 0, -(neighbourSize + 1));
+        ops.expire(key, KEY_TTL);
+    }
+
+    /**
+     * 사용자가 최근 반응한 루틴들의 이웃 점수(코사인)를 합산한 추천 루틴 ID (점수 내림차순).
+     * 이미 반응한 루틴은 빼며, 본인 루틴 제외는 카드를 불러온 뒤 호출하는 쪽에서 한다.
+     */
+    public List<UUID> recommendFor(UUID userId, int limit) {
+        // 최근 반응 루틴을 한 번만 읽어 앞쪽은 시드로, 전체는 제외 목록으로 쓴다
+        List<UUID> recent = routineUserActionRepository.findRecentRoutineIdsByUserId(userId, PageRequest.of(0, maxItemsPerUser));
+        List<UUID> seeds = recent.stream().distinct().limit(seedSize).toList();
+        if (seeds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> neighbourLists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                seeds.forEach(seed -> ops.opsForZSet().reverseRangeWithScores(RedisKeyUtil.collaborativeRoutineKey(seed), 0, neighbourSize - 1));
+                return null;
+            }
+        });
+
+        Set<UUID> excluded = new HashSet<>(recent);
+        Map<UUID, Map<UUID, Double>> cooccurrenceBySeed = new LinkedHashMap<>();
+        Set<String> countFields = new LinkedHashSet<>();
+        for (int i = 0; i < seeds.size(); i++) {
+            Map<UUID, Double> neighbours = new HashMap<>();
+            if (neighbourLists.get(i) instanceof Set<?> tuples) {
+                for (Object tuple : tuples) {
+                    TypedTuple<?> typed = (TypedTuple<?>) tuple;
+                    UUID candidate = UUID.fromString(String.valueOf(typed.getValue()));
+                    if (!excluded.contains(candidate) && typed.getScore() != null) {
+                        neighbours.put(candidate, typed.getScore());
+                        countFields.add(candidate.toString());
+                    }
+                }
+            }
+            if (!neighbours.isEmpty()) {
+                cooccurrenceBySeed.put(seeds.get(i), neighbours);
+                countFields.add(seeds.get(i).toString());
+            }
+        }
+        if (cooccurrenceBySeed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Long> itemCounts = readItemCounts(countFields);
+        Map<UUID, Double> scores = new HashMap<>();
+        cooccurrenceBySeed.forEach((seed, neighbours) -> {
+            double seedNorm = Math.sqrt(Math.max(itemCounts.getOrDefault(seed, 1L), 1L));
+            neighbours.forEach((candidate, cooccurrence) -> {
+                double candidateNorm = Math.sqrt(Math.max(itemCounts.getOrDefault(candidate, 1L), 1L));
+                scores.merge(candidate, cooccurrence / (seedNorm * candidateNorm), Double::sum);
+            });
+        });
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<UUID, Long> readItemCounts(Set<String> fields) {
+        List<Object> keys = new ArrayList<>(fields);
+        List<Object> values = redisTemplate.opsForHash().multiGet(RedisKeyUtil.COLLABORATIVE_ITEM_COUNTS, keys);
+        Map<UUID, Long> counts = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                counts.put(UUID.fromString((String) keys.get(i)), Long.parseLong(value.toString()));
+            }
+        }
+        return counts;
+    }
+
+    private int writeBatch(ItemCooccurrenceMatrix matrix, List<UUID> routineIds, int from, int to) {
+        int[] written = {0};
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                Map<String, String> counts = new HashMap<>();
+                for (int ordinal = from; ordinal < to; ordinal++) {
+                    UUID routineId = routineIds.get(ordinal);
+                    counts.put(routineId.toString(), Integer.toString(matrix.itemCount(ordinal)));
+
+                    String key = RedisKeyUtil.collaborativeRoutineKey(routineId);
+                    ops.delete(key);
+                    Neighbour[] neighbours = matrix.topNeighboursByCooccurrence(ordinal, neighbourSize);
+                    if (neighbours.length == 0) {
+                        continue;
+                    }
+                    Set<TypedTuple<String>> tuples = new HashSet<>();
+                    for (Neighbour neighbour : neighbours) {
+                        tuples.add(TypedTuple.of(routineIds.get(neighbour.item()).toString(), (double) neighbour.cooccurrence()));
+                    }
+                    ops.opsForZSet().add(key, tuples);
+                    ops.expire(key, KEY_TTL);
+                    written[0]++;
+                }
+                ops.opsForHash().putAll(RedisKeyUtil.COLLABORATIVE_ITEM_COUNTS, counts);
+                return null;
+            }
+        });
+        return written[0];
+    }
+
+    // 사용자 순으로 들어오는 행을 사용자 단위로 모아 행렬에 넘긴다 (같은 루틴의 좋아요+스크랩은 한 번만)
+    private final class UserItemsCollector {
+        private final Consumer<IntArrayList> sink;
+        private final IntArrayList items = new IntArrayList();
+        private UUID currentUserId;
+
+        UserItemsCollector(Consumer<IntArrayList> sink) {
+            this.sink = sink;
+        }
+
+        void accept(UUID userId, int ordinal) {
+            if (!userId.equals(currentUserId)) {
+                flush();
+                currentUserId = userId;
+            }
+            if (items.size() < maxItemsPerUser && !items.contains(ordinal)) {
+                items.add(ordinal);
+            }
+        }
+
+        void flush() {
+            // 반응이 하나뿐인 사용자도 루틴별 사용자 수(n)에는 반영한다
+            if (!items.isEmpty()) {
+                sink.accept(items);
+            }
+            items.clear();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollaborativeRoutineIndexRebuildScheduler {
+    private final CollaborativeRoutineIndex collaborativeRoutineIndex;
+    private final RedisLock redisLock;
+
+    // 재계산이 이보다 오래 걸리면 다른 노드가 다시 돌 수 있다 (결과는 같고 일만 겹친다)
+    @Value("${moru.routine.recommend.collaborative.rebuild-lock-ttl-ms:3600000}")
+    private long lockTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 매일 새벽 4시 30분에 좋아요/스크랩 전체로 협업 필터링 이웃 목록 재계산 (증분 반영에서 빠진 취소/삭제 보정)
+     * 액션 전체를 메모리에 올리는 작업이라 락을 잡은 노드 하나만 실행한다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional(readOnly = true)
+    public void rebuildCollaborativeRoutineIndex() {
+        try {
+            if (!redisLock.tryLock(RedisKeyUtil.COLLABORATIVE_REBUILD_LOCK, nodeId, Duration.ofMillis(lockTtlMs))) {
+                log.info("[CollaborativeBatch] 다른 노드에서 재계산 중이라 건너뜀");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[CollaborativeBatch] 락 획득 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            return;
+        }
+        try {
+            log.info("[CollaborativeBatch] 협업 필터링 이웃 재계산 시작");
+            int routineCount = collaborativeRoutineIndex.rebuild();
+            log.info("[CollaborativeBatch] 협업 필터링 이웃 재계산 종료: {}개", routineCount);
+        } catch (Exception e) {
+            log.warn("[CollaborativeBatch] 협업 필터링 이웃 재계산 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+        } finally {
+            redisLock.unlock(RedisKeyUtil.COLLABORATIVE_REBUILD_LOCK, nodeId);
+        }
+    }
+}
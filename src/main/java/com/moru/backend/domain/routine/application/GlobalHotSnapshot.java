@@ -0,0 +1,153 @@
+package com.moru.backend.domain.routine.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 모든 사용자에게 공통인 "지금 가장 핫한 루틴" 카드 목록을 메모리에 들고 있는다.
+ * - refresh-ms마다 Redis 락을 잡은 노드 하나만 목록을 계산해 Redis에 저장하고 채널로 알린다
+ * - 나머지 노드는 알림을 받으면 Redis에서 읽어 자신의 스냅샷을 교체한다
+ * - 요청 시에는 본인 루틴만 빼고 돌려주며, isRunning은 호출하는 쪽에서 덮어쓴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GlobalHotSnapshot implements MessageListener {
+    private final HotRoutineRanking hotRoutineRanking;
+    private final RoutineCardLoader routineCardLoader;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    // 노드 식별자 (락 소유자 확인용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${moru.routine.recommend.hot-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${moru.routine.recommend.hot-snapshot.refresh-ms:30000}")
+    private long refreshMs;
+
+    // 본인 루틴을 빼고도 충분히 남도록 피드 노출 개수보다 넉넉히 보관
+    @Value("${moru.routine.recommend.hot-snapshot.size:50}")
+    private int snapshotSize;
+
+    private volatile Snapshot snapshot;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    record Snapshot(long version, LocalDateTime builtAt, List<RoutineCard> cards) {}
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.HOT_SNAPSHOT_CHANNEL));
+    }
+
+    /**
+     * 본인 루틴을 제외한 인기 카드 목록. 스냅샷이 없거나 오래되었거나,
+     * 본인 루틴을 빼고 나니 개수가 모자라면 비어 있는 Optional을 반환한다. (호출하는 쪽에서 직접 계산)
+     */
+    public Optional<List<RoutineCard>> findFor(UUID userId, int limit) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null || isStale(current, 10)) {
+            return Optional.empty();
+        }
+        List<RoutineCard> result = current.cards().stream()
+                .filter(card -> !card.ownerId().equals(userId))
+                .limit(limit)
+                .toList();
+        if (result.size() < limit && current.cards().size() >= snapshotSize) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+    @Scheduled(fixedDelayString = "${moru.routine.recommend.hot-snapshot.refresh-ms:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    RedisKeyUtil.HOT_SNAPSHOT_LOCK, nodeId, Duration.ofMillis(Math.max(refreshMs - 1000, 1000)));
+            if (Boolean.TRUE.equals(acquired)) {
+                rebuildAndPublish();
+            } else if (snapshot == null || isStale(snapshot, 3)) {
+                // 알림을 놓쳤거나 막 기동한 노드는 저장된 스냅샷을 직접 읽는다
+                loadFromRedis();
+            }
+        } catch (Exception e) {
+            log.warn("인기 루틴 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            long version = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            Snapshot current = snapshot;
+            if (current == null || current.version() < version) {
+                loadFromRedis();
+            }
+        } catch (Exception e) {
+            log.warn("인기 루틴 스냅샷 알림 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void rebuildAndPublish() throws Exception {
+        List<RoutineCard> cards = readOnlyTransaction.execute(status -> buildCards());
+        long version = System.currentTimeMillis();
+        Snapshot built = new Snapshot(version, LocalDateTime.now(), cards == null ? List.of() : cards);
+
+        redisTemplate.opsForValue().set(RedisKeyUtil.HOT_SNAPSHOT, objectMapper.writeValueAsString(built),
+                Duration.ofMillis(refreshMs * 10));
+        snapshot = built;
+        redisTemplate.convertAndSend(RedisKeyUtil.HOT_SNAPSHOT_CHANNEL, Long.toString(version));
+    }
+
+    private List<RoutineCard> buildCards() {
+        List<UUID> ids = hotRoutineRanking.findHotRoutineIds(null, snapshotSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return routineCardLoader.loadOrderedCards(ids);
+    }
+
+    private void loadFromRedis() throws Exception {
+        String json = redisTemplate.opsForValue().get(RedisKeyUtil.HOT_SNAPSHOT);
+        if (json == null) {
+            return;
+        }
+        Snapshot loaded = objectMapper.readValue(json, Snapshot.class);
+        Snapshot current = snapshot;
+        if (current == null || current.version() < loaded.version()) {
+            snapshot = loaded;
+        }
+    }
+
+    private boolean isStale(Snapshot target, int intervals) {
+        return target.builtAt().plus(Duration.ofMillis(refreshMs * intervals)).isBefore(LocalDateTime.now());
+    }
+}
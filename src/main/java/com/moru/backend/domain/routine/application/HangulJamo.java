@@ -0,0 +1,71 @@
+package com.moru.backend.domain.routine.application;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절을 자판 입력 단위의 자모로 분해한다. (자동완성 접두사 비교용)
+ * 입력 중인 글자("운ㄷ", "운도")도 완성된 제목("운동")의 접두사로 비교할 수 있도록
+ * 겹받침·이중모음(ㄳ, ㅘ 등)까지 기본 자모로 풀어서 쓴다.
+ */
+public final class HangulJamo {
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulJamo() {}
+
+    /**
+     * 소문자 변환, 앞뒤 공백 제거, 연속 공백은 하나로 줄인 비교용 키
+     */
+    public static String normalizeKey(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                appendJamo(builder, CHOSEONG.charAt(index / 588));
+                appendJamo(builder, JUNGSEONG.charAt((index % 588) / 28));
+                int jong = index % 28;
+                if (jong != 0) {
+                    appendJamo(builder, JONGSEONG.charAt(jong));
+                }
+            } else {
+                appendJamo(builder, c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void appendJamo(StringBuilder builder, char jamo) {
+        switch (jamo) {
+            case 'ㄳ' -> builder.append("ㄱㅅ");
+            case 'ㄵ' -> builder.append("ㄴㅈ");
+            case 'ㄶ' -> builder.append("ㄴㅎ");
+            case 'ㄺ' -> builder.append("ㄹㄱ");
+            case 'ㄻ' -> builder.append("ㄹㅁ");
+            case 'ㄼ' -> builder.append("ㄹㅂ");
+            case 'ㄽ' -> builder.append("ㄹㅅ");
+            case 'ㄾ' -> builder.append("ㄹㅌ");
+            case 'ㄿ' -> builder.append("ㄹㅍ");
+            case 'ㅀ' -> builder.append("ㄹㅎ");
+            case 'ㅄ' -> builder.append("ㅂㅅ");
+            case 'ㅘ' -> builder.append("ㅗㅏ");
+            case 'ㅙ' -> builder.append("ㅗㅐ");
+            case 'ㅚ' -> builder.append("ㅗㅣ");
+            case 'ㅝ' -> builder.append("ㅜㅓ");
+            case 'ㅞ' -> builder.append("ㅜㅔ");
+            case 'ㅟ' -> builder.append("ㅜㅣ");
+            case 'ㅢ' -> builder.append("ㅡㅣ");
+            default -> builder.append(jamo);
+        }
+    }
+}
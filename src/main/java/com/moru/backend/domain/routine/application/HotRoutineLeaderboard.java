@@ -0,0 +1,251 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.routine.HotRoutineScoreSource;
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 최근 7일간 생성된 루틴의 인기 점수를 Redis ZSET으로 관리한다.
+ * - 루틴 생성일 기준 하루 단위 버킷(routine:hot:{yyyy-MM-dd})에 저장하고, 7일이 지난 버킷은 TTL로 자동 삭제
+ * - 조회수/좋아요 증감 시 ZINCRBY로 점수(조회수 * viewWeight + 좋아요 수 * likeWeight)를 갱신
+ * - 조회 시 버킷별 ZREVRANGE 결과를 병합하고, 본인 루틴과 기간 밖 루틴은 메모리에서 제외
+ * 멤버는 "routineId|ownerId|생성시각(epoch초)" 형태라 별도 조회 없이 걸러낼 수 있다.
+ * 생성/조회/삭제/좋아요는 커밋 후 리스너에서 반영하고(RoutineRankingEventListener, RoutineEngagementEventListener),
+ * 재구성은 임시 키에 채운 뒤 RENAME으로 바꿔 끼워 DB에 없는 멤버가 남지 않게 한다.
+ * 재구성하는 동안의 증감은 버킷과 델타 키에 함께 쓰고(델타 키가 있을 때만), 교체할 때 델타를 합쳐 잃지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotRoutineLeaderboard {
+    private static final int WINDOW_DAYS = 7;
+    private static final String MEMBER_DELIMITER = "|";
+    // 델타 키가 재구성 중임을 나타내도록 넣어 두는 표시 멤버 (합칠 때 뺀다)
+    private static final String DELTA_MARKER = "~";
+
+    // KEYS[1]=버킷, KEYS[2]=델타 / ARGV[1]=멤버, ARGV[2]=증감
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 새 루틴은 점수 0으로, 재구성 중이면 델타에도 0으로 넣어 DB를 읽은 뒤 생긴 루틴도 남게 한다
+    private static final DefaultRedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], 'NX', 0, ARGV[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZINCRBY', KEYS[2], 0, ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 삭제는 재구성 중이면 델타에 -inf로 남겨, 합친 결과에서도 지워지게 한다
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZADD', KEYS[2], '-inf', ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=버킷, KEYS[2]=재구성 키, KEYS[3]=델타 / ARGV[1]=표시 멤버, ARGV[2]=만료 시각(epoch ms)
+    // 델타를 재구성 결과에 더하고 삭제 표시(-inf)를 지운 뒤 버킷과 바꿔 끼운다. 한 번에 실행되므로 사이에 들어온 증감이 없다
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '-inf')
+            redis.call('DEL', KEYS[3])
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            redis.call('RENAME', KEYS[2], KEYS[1])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${moru.routine.recommend.hot-score.view-weight}")
+    private double viewWeight;
+
+    @Value("${moru.routine.recommend.hot-score.like-weight}")
+    private double likeWeight;
+
+    // 재구성이 중간에 멈춰도 델타 키가 계속 쌓이지 않도록 하는 만료 시간
+    @Value("${moru.routine.hot.delta-ttl-ms:600000}")
+    private long deltaTtlMs;
+
+    public record HotEntry(UUID routineId, UUID ownerId, LocalDateTime createdAt, double score) {}
+
+    /**
+     * 새 루틴을 점수 0으로 등록한다. (아직 반응이 없는 루틴도 인기 목록 후보에 포함되도록)
+     */
+    public void register(UUID routineId, UUID ownerId, LocalDateTime createdAt) {
+        write(routineId, createdAt, REGISTER_SCRIPT, member(routineId, ownerId, createdAt));
+    }
+
+    public void recordView(UUID routineId, UUID ownerId, LocalDateTime createdAt) {
+        incrementScore(routineId, ownerId, createdAt, viewWeight);
+    }
+
+    // 좋아요는 커밋 후 카드 프로젝션으로 반영한다 (엔티티를 읽지 않음)
+    public void recordLike(RoutineCardRow routine) {
+        incrementScore(routine.id(), routine.ownerId(), routine.createdAt(), likeWeight);
+    }
+
+    public void recordUnlike(RoutineCardRow routine) {
+        incrementScore(routine.id(), routine.ownerId(), routine.createdAt(), -likeWeight);
+    }
+
+    public void remove(UUID routineId, UUID ownerId, LocalDateTime createdAt) {
+        write(routineId, createdAt, REMOVE_SCRIPT, member(routineId, ownerId, createdAt));
+    }
+
+    /**
+     * 본인 루틴을 제외한 최근 7일 인기 루틴을 점수 내림차순으로 반환한다.
+     * 각 버킷에서 조건을 만족하는 상위 limit개만 읽으면 전체 상위 limit개를 정확히 얻을 수 있다.
+     */
+    public List<HotEntry> findTop(UUID excludeOwnerId, int limit) {
+        LocalDateTime since = LocalDateTime.now().minusDays(WINDOW_DAYS);
+        LocalDate today = LocalDate.now();
+
+        List<HotEntry> candidates = new ArrayList<>();
+        for (LocalDate day = since.toLocalDate(); !day.isAfter(today); day = day.plusDays(1)) {
+            candidates.addAll(readBucket(RedisKeyUtil.hotRoutineBucketKey(day), excludeOwnerId, since, limit));
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(HotEntry::score).reversed()
+                        .thenComparing(HotEntry::createdAt, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * DB 값을 기준으로 기간 안의 버킷을 통째로 바꾼다. (Redis 초기화 이후 복구, 누락된 증감·삭제 보정용)
+     * DB를 읽기 전에 날짜별 델타 키를 만들어 그때부터의 증감을 함께 모으고, 임시 키에 DB 값을 채운 뒤
+     * 델타를 더해 RENAME으로 교체한다. 조회 중에 버킷이 비어 보이지 않고, DB에 없는 멤버는 사라지며, 재구성 중의 증감도 남는다.
+     * 여러 노드가 동시에 돌면 델타 키를 서로 지우므로 호출하는 쪽에서 락을 잡는다.
+     * 커밋 직후 DB를 읽는 순간과 겹친 증감은 두 번 더해질 수 있고, 다음 재구성 때 맞춰진다.
+     * @return DB에서 읽은 루틴 수
+     */
+    public int rebuild(Supplier<List<HotRoutineScoreSource>> sourceLoader) {
+        LocalDate today = LocalDate.now();
+        for (LocalDate day = today.minusDays(WINDOW_DAYS); !day.isAfter(today); day = day.plusDays(1)) {
+            String deltaKey = RedisKeyUtil.hotRoutineDeltaKey(day);
+            redisTemplate.delete(deltaKey);
+            redisTemplate.opsForZSet().add(deltaKey, DELTA_MARKER, 0);
+            redisTemplate.expire(deltaKey, Duration.ofMillis(deltaTtlMs));
+        }
+
+        List<HotRoutineScoreSource> sources = sourceLoader.get();
+        Map<LocalDate, Set<TypedTuple<String>>> buckets = new HashMap<>();
+        for (HotRoutineScoreSource source : sources) {
+            double score = source.getViewCount() * viewWeight + source.getLikeCount() * likeWeight;
+            buckets.computeIfAbsent(source.getCreatedAt().toLocalDate(), day -> new HashSet<>())
+                    .add(new DefaultTypedTuple<>(member(source.getId(), source.getOwnerId(), source.getCreatedAt()), score));
+        }
+        for (LocalDate day = today.minusDays(WINDOW_DAYS); !day.isAfter(today); day = day.plusDays(1)) {
+            String tempKey = RedisKeyUtil.hotRoutineRebuildKey(day);
+            redisTemplate.delete(tempKey);
+            Set<TypedTuple<String>> members = buckets.get(day);
+            if (members != null) {
+                redisTemplate.opsForZSet().add(tempKey, members);
+            }
+            redisTemplate.execute(SWAP_SCRIPT,
+                    List.of(RedisKeyUtil.hotRoutineBucketKey(day), tempKey, RedisKeyUtil.hotRoutineDeltaKey(day)),
+                    DELTA_MARKER, Long.toString(expireAt(day).toEpochMilli()));
+        }
+        return sources.size();
+    }
+
+    private List<HotEntry> readBucket(String key, UUID excludeOwnerId, LocalDateTime since, int limit) {
+        List<HotEntry> result = new ArrayList<>();
+        // 본인 루틴이나 기간이 지난 루틴이 섞여 있을 수 있으므로 넉넉히 읽고, 부족하면 다음 구간을 이어서 읽는다
+        int pageSize = limit * 2;
+        long start = 0;
+        while (result.size() < limit) {
+            Set<TypedTuple<String>> page = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(key, start, start + pageSize - 1);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (TypedTuple<String> tuple : page) {
+                HotEntry entry = parse(tuple);
+                if (entry == null || entry.ownerId().equals(excludeOwnerId) || entry.createdAt().isBefore(since)) {
+                    continue;
+                }
+                result.add(entry);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+            start += pageSize;
+        }
+        return result;
+    }
+
+    private void incrementScore(UUID routineId, UUID ownerId, LocalDateTime createdAt, double delta) {
+        write(routineId, createdAt, INCREMENT_SCRIPT, member(routineId, ownerId, createdAt), Double.toString(delta));
+    }
+
+    // 리더보드 갱신 실패가 조회/좋아요 요청 자체를 실패시키지 않도록 한다 (다음 재구성 때 보정)
+    private void write(UUID routineId, LocalDateTime createdAt, DefaultRedisScript<Long> script, String... args) {
+        if (createdAt == null || createdAt.isBefore(LocalDateTime.now().minusDays(WINDOW_DAYS))) {
+            return;
+        }
+        LocalDate day = createdAt.toLocalDate();
+        String key = RedisKeyUtil.hotRoutineBucketKey(day);
+        try {
+            redisTemplate.execute(script, List.of(key, RedisKeyUtil.hotRoutineDeltaKey(day)), (Object[]) args);
+            expireAfterWindow(key, day);
+        } catch (Exception e) {
+            log.warn("인기 루틴 리더보드 갱신 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    // 버킷의 마지막 루틴이 7일 범위를 벗어나는 시점(다음날 0시 + 7일)에 만료
+    private void expireAfterWindow(String key, LocalDate day) {
+        redisTemplate.expireAt(key, expireAt(day));
+    }
+
+    private Instant expireAt(LocalDate day) {
+        return day.plusDays(WINDOW_DAYS + 1L).atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    private String member(UUID routineId, UUID ownerId, LocalDateTime createdAt) {
+        long epochSecond = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return routineId + MEMBER_DELIMITER + ownerId + MEMBER_DELIMITER + epochSecond;
+    }
+
+    private HotEntry parse(TypedTuple<String> tuple) {
+        String value = tuple.getValue();
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split("\\|");
+        if (parts.length != 3) {
+            return null;
+        }
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(Long.parseLong(parts[2])), ZoneId.systemDefault());
+        double score = tuple.getScore() == null ? 0 : tuple.getScore();
+        return new HotEntry(UUID.fromString(parts[0]), UUID.fromString(parts[1]), createdAt, score);
+    }
+}
@@ -0,0 +1,59 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotRoutineLeaderboardScheduler {
+    private final RoutineRepository routineRepository;
+    private final HotRoutineLeaderboard hotRoutineLeaderboard;
+    private final RedisLock redisLock;
+
+    // 재구성이 이보다 오래 걸리면 다른 노드가 다시 돌 수 있다
+    @Value("${moru.routine.hot.rebuild-lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 서버 기동 시 한 번, 이후 매일 새벽 3시 40분에 최근 7일 루틴의 점수를 DB 기준으로 다시 맞춘다.
+     * (Redis 초기화나 갱신 실패로 생긴 차이를 보정, 기동 시 재구성은 스케줄러 스레드에서 돌아 기동을 막지 않는다)
+     * 락을 잡은 노드 하나만 실행한다. (다른 노드가 재구성 중이면 그 결과를 그대로 쓴다)
+     */
+    @Scheduled(initialDelayString = "${moru.routine.hot.warm-up-delay-ms:0}")
+    @Scheduled(cron = "0 40 3 * * *")
+    @Transactional(readOnly = true)
+    public void rebuildHotRoutineLeaderboard() {
+        try {
+            if (!redisLock.tryLock(RedisKeyUtil.HOT_ROUTINE_REBUILD_LOCK, nodeId, Duration.ofMillis(lockTtlMs))) {
+                log.info("[HotRoutineBatch] 다른 노드에서 재구성 중이라 건너뜀");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[HotRoutineBatch] 락 획득 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            return;
+        }
+        try {
+            int count = hotRoutineLeaderboard.rebuild(
+                    () -> routineRepository.findHotScoreSourcesCreatedAfter(LocalDateTime.now().minusDays(7)));
+            log.info("[HotRoutineBatch] 인기 루틴 리더보드 재구성 완료: {}개", count);
+        } catch (Exception e) {
+            log.warn("[HotRoutineBatch] 인기 루틴 리더보드 재구성 실패: {}", e.getMessage());
+        } finally {
+            redisLock.unlock(RedisKeyUtil.HOT_ROUTINE_REBUILD_LOCK, nodeId);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.domain.HotRankingMode;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 설정된 정렬 방식(hot-ranking-mode)에 따라 인기 루틴 ID를 순서대로 반환한다.
+ * Redis 조회에 실패하면 DB 정렬로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotRoutineRanking {
+    private final RoutineRepository routineRepository;
+    private final HotRoutineLeaderboard hotRoutineLeaderboard;
+    private final TrendingRoutineEngine trendingRoutineEngine;
+
+    @Value("${moru.routine.recommend.hot-score.view-weight}")
+    private double viewWeight;
+
+    @Value("${moru.routine.recommend.hot-score.like-weight}")
+    private double likeWeight;
+
+    // 인기 루틴 정렬 방식 (SQL / LEADERBOARD / TRENDING)
+    @Value("${moru.routine.recommend.hot-ranking-mode:LEADERBOARD}")
+    private HotRankingMode hotRankingMode;
+
+    /**
+     * @param excludeOwnerId 제외할 소유자 ID (null이면 전체 사용자 대상)
+     * @param limit          최대 개수
+     */
+    public List<UUID> findHotRoutineIds(@Nullable UUID excludeOwnerId, int limit) {
+        try {
+            switch (hotRankingMode) {
+                case LEADERBOARD -> {
+                    return hotRoutineLeaderboard.findTop(excludeOwnerId, limit).stream()
+                            .map(HotRoutineLeaderboard.HotEntry::routineId)
+                            .toList();
+                }
+                case TRENDING -> {
+                    return trendingRoutineEngine.findTop(excludeOwnerId, limit).stream()
+                            .map(TrendingRoutineEngine.TrendingEntry::routineId)
+                            .toList();
+                }
+                case SQL -> { }
+            }
+        } catch (Exception e) {
+            log.warn("인기 루틴 {} 조회 실패, DB 정렬로 대체합니다: {}", hotRankingMode, e.getMessage());
+        }
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        return routineRepository.findHotRoutinesIds(weekAgo, viewWeight, likeWeight, excludeOwnerId, PageRequest.of(0, limit));
+    }
+}
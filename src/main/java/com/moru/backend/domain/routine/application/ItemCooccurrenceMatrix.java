@@ -0,0 +1,165 @@
+package com.moru.backend.domain.routine.application;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * 루틴(아이템) 간 공동 반응 횟수를 담는 희소 대칭 행렬.
+ * - 루틴은 0부터 시작하는 조밀한 정수 순번으로 다룬다 (UUID ↔ 순번 변환은 호출하는 쪽 책임)
+ * - 행마다 원시 타입 해시맵(열 순번 → 횟수)을 두어 박싱 없이 액션 1천만 건 규모를 메모리에 올린다
+ * - 유사도는 코사인: co(a, b) / sqrt(n(a) * n(b)), n은 루틴에 반응한 사용자 수
+ * 스레드 안전하지 않으므로 배치 한 번 안에서만 쓴다.
+ */
+public final class ItemCooccurrenceMatrix {
+    private Int2IntOpenHashMap[] rows;
+    private int[] itemCounts;
+
+    public record Neighbour(int item, int cooccurrence, double score) {}
+
+    public ItemCooccurrenceMatrix(int expectedItems) {
+        this.rows = new Int2IntOpenHashMap[Math.max(expectedItems, 16)];
+        this.itemCounts = new int[rows.length];
+    }
+
+    /**
+     * 한 사용자가 반응한 루틴 순번 목록을 반영한다. 목록 안의 중복은 호출하는 쪽에서 제거해서 넘긴다.
+     */
+    public void addUserItems(IntArrayList items) {
+        int size = items.size();
+        for (int i = 0; i < size; i++) {
+            int a = items.getInt(i);
+            ensureCapacity(a);
+            itemCounts[a]++;
+            for (int j = i + 1; j < size; j++) {
+                increment(a, items.getInt(j));
+            }
+        }
+    }
+
+    public int itemCount(int item) {
+        return item < itemCounts.length ? itemCounts[item] : 0;
+    }
+
+    public int cooccurrence(int a, int b) {
+        Int2IntOpenHashMap row = a < rows.length ? rows[a] : null;
+        return row == null ? 0 : row.get(b);
+    }
+
+    /**
+     * 코사인 유사도 상위 n개 이웃 (점수 내림차순). 크기 n의 최소 힙으로 행 전체를 한 번만 훑는다.
+     */
+    public Neighbour[] topNeighbours(int item, int n) {
+        return select(item, n, false);
+    }
+
+    /**
+     * 공동 반응 횟수 상위 n개 이웃 (횟수 내림차순, score는 코사인).
+     * Redis 이웃 목록은 증분 반영 때도 공동 반응 횟수로 잘라내므로, 배치도 같은 기준으로 고른다.
+     */
+    public Neighbour[] topNeighboursByCooccurrence(int item, int n) {
+        return select(item, n, true);
+    }
+
+    // byCooccurrence면 공동 반응 횟수(같으면 코사인)로, 아니면 코사인으로 순위를 매긴다
+    private Neighbour[] select(int item, int n, boolean byCooccurrence) {
+        Int2IntOpenHashMap row = item < rows.length ? rows[item] : null;
+        if (row == null || row.isEmpty() || n <= 0) {
+            return new Neighbour[0];
+        }
+        int[] heapItems = new int[n];
+        int[] heapCounts = new int[n];
+        double[] heapScores = new double[n];
+        int heapSize = 0;
+        double selfNorm = Math.sqrt(itemCounts[item]);
+
+        for (Int2IntMap.Entry entry : row.int2IntEntrySet()) {
+            int other = entry.getIntKey();
+            int count = entry.getIntValue();
+            double cosine = count / (selfNorm * Math.sqrt(Math.max(itemCounts[other], 1)));
+            // 코사인은 1 이하이므로 횟수에 더해도 횟수 순서를 바꾸지 않는다
+            double score = byCooccurrence ? count + cosine / 2 : cosine;
+            if (heapSize < n) {
+                heapItems[heapSize] = other;
+                heapCounts[heapSize] = count;
+                heapScores[heapSize] = score;
+                siftUp(heapItems, heapCounts, heapScores, heapSize++);
+            } else if (score > heapScores[0]) {
+                heapItems[0] = other;
+                heapCounts[0] = count;
+                heapScores[0] = score;
+                siftDown(heapItems, heapCounts, heapScores, heapSize);
+            }
+        }
+
+        Neighbour[] result = new Neighbour[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            double cosine = heapCounts[0] / (selfNorm * Math.sqrt(Math.max(itemCounts[heapItems[0]], 1)));
+            result[i] = new Neighbour(heapItems[0], heapCounts[0], cosine);
+            heapItems[0] = heapItems[i];
+            heapCounts[0] = heapCounts[i];
+            heapScores[0] = heapScores[i];
+            siftDown(heapItems, heapCounts, heapScores, i);
+        }
+        return result;
+    }
+
+    private void increment(int a, int b) {
+        ensureCapacity(Math.max(a, b));
+        row(a).addTo(b, 1);
+        row(b).addTo(a, 1);
+    }
+
+    private Int2IntOpenHashMap row(int item) {
+        Int2IntOpenHashMap row = rows[item];
+        if (row == null) {
+            row = new Int2IntOpenHashMap(4);
+            rows[item] = row;
+        }
+        return row;
+    }
+
+    private void ensureCapacity(int item) {
+        if (item < rows.length) {
+            return;
+        }
+        int capacity = Math.max(item + 1, rows.length + (rows.length >> 1));
+        rows = Arrays.copyOf(rows, capacity);
+        itemCounts = Arrays.copyOf(itemCounts, capacity);
+    }
+
+    private static void siftUp(int[] items, int[] counts, double[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(items, counts, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] items, int[] counts, double[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(items, counts, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] items, int[] counts, double[] scores, int i, int j) {
+        int item = items[i]; items[i] = items[j]; items[j] = item;
+        int count = counts[i]; counts[i] = counts[j]; counts[j] = count;
+        double score = scores[i]; scores[i] = scores[j]; scores[j] = score;
+    }
+}
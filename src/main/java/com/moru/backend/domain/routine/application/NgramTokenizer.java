@@ -0,0 +1,82 @@
+package com.moru.backend.domain.routine.application;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 검색 인덱스용 음절 n-gram 토크나이저.
+ * 한국어는 형태소 분석 없이도 음절 2-gram/3-gram이면 조사·어미가 붙은 단어에서도 부분 일치를 찾을 수 있다.
+ * - 정규화: NFKC + 소문자, 글자/숫자가 아닌 문자는 단어 구분자로 취급
+ * - 2글자 이상 단어: 2-gram과 3-gram, 1글자 단어: 그 글자 자체
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {}
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문서 토큰을 term → 등장 횟수로 센다. weight는 필드 가중치 (제목은 본문보다 크게)
+     */
+    public static void countTerms(String text, int weight, Map<String, Integer> termFrequencies) {
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                termFrequencies.merge(word, weight, Integer::sum);
+                continue;
+            }
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    termFrequencies.merge(word.substring(i, i + n), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어의 필수 term (모두 포함해야 일치) — 단어별 2-gram. 1글자 단어가 있으면 null (인덱스로 처리하지 않음)
+     */
+    public static List<String> requiredTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() < 2) {
+                return null;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms.isEmpty() ? null : List.copyOf(terms);
+    }
+
+    /**
+     * 점수 계산에 쓰는 검색어 term — 2-gram과 3-gram (3-gram이 맞으면 더 가까운 일치로 본다)
+     */
+    public static List<String> scoringTerms(String keyword) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        countTerms(keyword, 1, terms);
+        return List.copyOf(terms.keySet());
+    }
+
+    private static List<String> words(String text) {
+        String normalized = normalize(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,279 @@
+package com.moru.backend.domain.routine.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moru.backend.domain.routine.application.RoutineRecommendService.RecommendFeedResult;
+import com.moru.backend.domain.routine.dto.response.RecommendFeedResponse;
+import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
+import com.moru.backend.domain.routine.dto.response.TagPairSection;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
+import com.moru.backend.domain.user.dao.UserRepository;
+import com.moru.backend.domain.user.domain.User;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 추천 피드를 Redis에 미리 계산해 두고 바로 내려준다.
+ * - 캐시가 없으면 동기로 계산해서 저장
+ * - 오래되었거나(fresh 시간 초과) 전역 버전이 바뀌었으면 기존 값을 내려주고 백그라운드에서 재계산
+ * - 전역 버전은 새 루틴마다 올리지 않고, 무효화 표시만 남겨 두었다가 최대 N분에 한 번 올린다 (모든 피드의 동시 재계산 방지)
+ * - isRunning은 자주 바뀌므로 응답 직전에 한 번의 쿼리로 다시 계산
+ * - 좋아요/스크랩 여부도 응답 직전에 참여 상태 캐시 한 번 조회로 덮어쓴다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendFeedCacheService {
+    // 무효화 표시가 있고 최근 N분 안에 올린 적이 없을 때만 전역 버전을 올린다 (여러 노드가 동시에 돌아도 한 번)
+    private static final DefaultRedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if not redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[1]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[3])
+            return 1
+            """, Long.class);
+
+    private final RoutineRecommendService routineRecommendService;
+    private final UserEngagementCache userEngagementCache;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 피드 재계산 전용 스레드 풀 (요청 스레드를 막지 않도록 분리)
+    // 재계산 한 번이 섹션별 DB 쿼리 여러 개라 커넥션 풀을 다 쓰지 않도록 고정 크기로 둔다
+    // (LinkedBlockingQueue는 가득 차기 전에는 코어 수 이상으로 늘지 않으므로 코어 = 최대)
+    private static final int REFRESH_THREADS = 4;
+    private final ExecutorService refreshExecutor = new ThreadPoolExecutor(
+            REFRESH_THREADS, REFRESH_THREADS, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(1000));
+
+    // 같은 사용자의 재계산이 중복으로 쌓이지 않도록 진행 중인 사용자 ID를 기록
+    // 값이 true면 재계산 도중 무효화가 들어온 것이므로 끝난 뒤 한 번 더 계산한다
+    private final ConcurrentHashMap<UUID, Boolean> refreshingUserIds = new ConcurrentHashMap<>();
+
+    @Value("${moru.routine.recommend.feed-cache.fresh-minutes:10}")
+    private long freshMinutes;
+
+    @Value("${moru.routine.recommend.feed-cache.ttl-hours:24}")
+    private long ttlHours;
+
+    // 전역 버전을 올리는 최소 간격
+    @Value("${moru.routine.recommend.feed-cache.invalidate-interval-minutes:5}")
+    private long invalidateIntervalMinutes;
+
+    // Redis에 저장되는 캐시 항목
+    record CacheEntry(
+            long version,
+            LocalDateTime builtAt,
+            RecommendFeedResponse feed,
+            Map<UUID, UUID> routineOwnerIds
+    ) {}
+
+    public RecommendFeedResponse getRecommendFeed(User user) {
+        String key = RedisKeyUtil.recommendFeedKey(user.getId());
+        long version;
+        CacheEntry entry;
+        try {
+            // 전역 버전과 사용자 피드를 한 번의 왕복으로 조회
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(RedisKeyUtil.RECOMMEND_FEED_VERSION, key));
+            version = parseVersion(values == null ? null : values.get(0));
+            entry = deserialize(values == null ? null : values.get(1));
+        } catch (Exception e) {
+            log.warn("추천 피드 캐시 조회 실패, 직접 계산합니다: {}", e.getMessage());
+            return overlayEngagement(user.getId(), routineRecommendService.getRecommendFeed(user));
+        }
+
+        if (entry == null) {
+            return overlayEngagement(user.getId(), refresh(user, version).feed());
+        }
+
+        boolean expired = entry.builtAt().plusMinutes(freshMinutes).isBefore(LocalDateTime.now());
+        if (expired || entry.version() != version) {
+            refreshInBackground(user.getId());
+        }
+        return overlayEngagement(user.getId(), overlayRunning(entry));
+    }
+
+    /**
+     * 특정 사용자의 피드를 백그라운드에서 다시 계산한다. (좋아요/스크랩/관심 태그 변경 시)
+     */
+    public void invalidateUser(UUID userId) {
+        refreshInBackground(userId);
+    }
+
+    /**
+     * 모든 사용자의 피드를 낡은 것으로 표시하도록 예약한다. (새 루틴 생성 시)
+     * 실제 전역 버전은 applyPendingInvalidation이 최대 N분에 한 번 올리고,
+     * 각 피드는 그 다음 조회 때 기존 값을 내려주면서 백그라운드에서 재계산된다.
+     */
+    public void invalidateAll() {
+        redisTemplate.opsForValue().set(RedisKeyUtil.RECOMMEND_FEED_INVALIDATE_PENDING, "1");
+    }
+
+    /**
+     * 예약된 전역 무효화가 있으면 전역 버전을 올린다. 직전 증가 후 N분이 지나지 않았으면 다음 주기로 미룬다.
+     * @return 버전을 올렸으면 true
+     */
+    public boolean applyPendingInvalidation() {
+        Long bumped = redisTemplate.execute(BUMP_VERSION_SCRIPT,
+                List.of(RedisKeyUtil.RECOMMEND_FEED_INVALIDATE_PENDING,
+                        RedisKeyUtil.RECOMMEND_FEED_INVALIDATE_THROTTLE,
+                        RedisKeyUtil.RECOMMEND_FEED_VERSION),
+                Long.toString(Duration.ofMinutes(invalidateIntervalMinutes).toMillis()));
+        return Long.valueOf(1).equals(bumped);
+    }
+
+    private CacheEntry refresh(User user, long version) {
+        RecommendFeedResult result = routineRecommendService.assembleRecommendFeed(user);
+        CacheEntry entry = new CacheEntry(version, LocalDateTime.now(), result.feed(), result.routineOwnerIds());
+        try {
+            redisTemplate.opsForValue().set(
+                    RedisKeyUtil.recommendFeedKey(user.getId()),
+                    objectMapper.writeValueAsString(entry),
+                    Duration.ofHours(ttlHours)
+            );
+        } catch (Exception e) {
+            log.warn("추천 피드 캐시 저장 실패: {}", e.getMessage());
+        }
+        return entry;
+    }
+
+    private void refreshInBackground(UUID userId) {
+        // 이미 재계산 중이면 다시 돌도록 표시만 남긴다 (도중에 바뀐 내용이 이전 계산 결과에 덮이지 않도록)
+        boolean[] start = {false};
+        refreshingUserIds.compute(userId, (id, rerun) -> {
+            if (rerun == null) {
+                start[0] = true;
+                return Boolean.FALSE;
+            }
+            return Boolean.TRUE;
+        });
+        if (!start[0]) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                do {
+                    try {
+                        long version = parseVersion(redisTemplate.opsForValue().get(RedisKeyUtil.RECOMMEND_FEED_VERSION));
+                        userRepository.findById(userId).ifPresent(user -> refresh(user, version));
+                    } catch (Exception e) {
+                        log.warn("추천 피드 백그라운드 재계산 실패: {}", e.getMessage());
+                    }
+                } while (rerunRequested(userId));
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 낡은 피드를 계속 내려주지 않도록 지워서 다음 조회 때 새로 계산하게 한다
+            refreshingUserIds.remove(userId);
+            evict(userId);
+        }
+    }
+
+    // 재계산 도중 무효화가 들어왔으면 표시를 지우고 true, 아니면 진행 중 기록을 지우고 false
+    private boolean rerunRequested(UUID userId) {
+        return refreshingUserIds.compute(userId, (id, rerun) -> Boolean.TRUE.equals(rerun) ? Boolean.FALSE : null) != null;
+    }
+
+    private void evict(UUID userId) {
+        try {
+            redisTemplate.delete(RedisKeyUtil.recommendFeedKey(userId));
+        } catch (Exception e) {
+            log.warn("추천 피드 캐시 삭제 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private RecommendFeedResponse overlayRunning(CacheEntry entry) {
+        Set<UUID> runningIds = routineRecommendService.findRunningByOwnerRoutineIds(entry.routineOwnerIds());
+        return overlay(entry.feed(), r -> r.withRunning(runningIds.contains(r.id())));
+    }
+
+    private RecommendFeedResponse overlayEngagement(UUID userId, RecommendFeedResponse feed) {
+        Set<UUID> routineIds = new HashSet<>();
+        for (List<RoutineListResponse> routines : sections(feed)) {
+            routines.forEach(r -> routineIds.add(r.id()));
+        }
+        Map<UUID, Engagement> engagements = userEngagementCache.findAll(userId, routineIds);
+        if (engagements.isEmpty()) {
+            return feed;
+        }
+        return overlay(feed, r -> {
+            Engagement engagement = engagements.getOrDefault(r.id(), Engagement.NONE);
+            return r.withEngagement(engagement.liked(), engagement.scrapped());
+        });
+    }
+
+    private List<List<RoutineListResponse>> sections(RecommendFeedResponse feed) {
+        List<List<RoutineListResponse>> sections = new ArrayList<>();
+        sections.add(feed.hotRoutines());
+        sections.add(feed.personalRoutines());
+        sections.add(feed.tagPairSection1() == null ? null : feed.tagPairSection1().routines());
+        sections.add(feed.tagPairSection2() == null ? null : feed.tagPairSection2().routines());
+        sections.add(feed.collaborativeRoutines());
+        sections.removeIf(Objects::isNull);
+        return sections;
+    }
+
+    // 모든 섹션의 카드에 같은 변환을 적용한다
+    private RecommendFeedResponse overlay(RecommendFeedResponse feed, UnaryOperator<RoutineListResponse> mapper) {
+        return new RecommendFeedResponse(
+                overlay(feed.hotRoutines(), mapper),
+                overlay(feed.personalRoutines(), mapper),
+                overlay(feed.tagPairSection1(), mapper),
+                overlay(feed.tagPairSection2(), mapper),
+                overlay(feed.collaborativeRoutines(), mapper)
+        );
+    }
+
+    private TagPairSection overlay(TagPairSection section, UnaryOperator<RoutineListResponse> mapper) {
+        if (section == null) {
+            return null;
+        }
+        return new TagPairSection(section.tag1(), section.tag2(), overlay(section.routines(), mapper));
+    }
+
+    private List<RoutineListResponse> overlay(List<RoutineListResponse> routines, UnaryOperator<RoutineListResponse> mapper) {
+        if (routines == null) {
+            return List.of();
+        }
+        return routines.stream()
+                .map(mapper)
+                .toList();
+    }
+
+    private CacheEntry deserialize(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CacheEntry.class);
+        } catch (JsonProcessingException e) {
+            // 구조가 바뀐 예전 캐시는 무시하고 새로 계산
+            return null;
+        }
+    }
+
+    private long parseVersion(String raw) {
+        return raw == null ? 0L : Long.parseLong(raw);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+}
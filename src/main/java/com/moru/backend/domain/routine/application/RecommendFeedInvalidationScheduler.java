@@ -0,0 +1,27 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendFeedInvalidationScheduler {
+    private final RecommendFeedCacheService recommendFeedCacheService;
+
+    /**
+     * 1분마다 예약된 추천 피드 전역 무효화를 반영한다. (실제 증가는 invalidate-interval-minutes에 한 번까지)
+     */
+    @Scheduled(fixedDelayString = "${moru.routine.recommend.feed-cache.invalidate-check-ms:60000}")
+    public void applyPendingInvalidation() {
+        try {
+            if (recommendFeedCacheService.applyPendingInvalidation()) {
+                log.debug("[RecommendFeedBatch] 추천 피드 전역 버전 증가");
+            }
+        } catch (Exception e) {
+            log.warn("[RecommendFeedBatch] 추천 피드 전역 무효화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.RoutineTagName;
+import com.moru.backend.domain.routine.dao.RoutineTagRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
+import com.moru.backend.global.util.S3Service;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 ID 목록을 카드 응답으로 바꾸는 공통 단계.
+ * 루틴 컬럼 조회 1번 + 태그 이름 조회 1번으로 끝나며, 스텝/앱을 함께 JOIN FETCH하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineCardLoader {
+    private final RoutineRepository routineRepository;
+    private final RoutineTagRepository routineTagRepository;
+    private final S3Service s3Service;
+
+    /**
+     * 카드 한 장 (isRunning 계산을 위해 소유자 ID를 함께 보관)
+     */
+    public record RoutineCard(RoutineListResponse response, UUID ownerId) {}
+
+    /**
+     * 중복 없이 한 번에 조회한 카드를 ID로 찾을 수 있게 반환한다. (존재하지 않는 ID는 빠진다)
+     */
+    public Map<UUID, RoutineCard> loadCards(Collection<UUID> routineIds) {
+        if (routineIds == null || routineIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(routineIds));
+
+        Map<UUID, RoutineCard> cards = new HashMap<>();
+        for (RoutineCard card : toCards(routineRepository.findCardRowsByIds(ids))) {
+            cards.put(card.response().id(), card);
+        }
+        return cards;
+    }
+
+    /**
+     * 이미 조회한 카드 행에 태그 이름(조회 1번)을 붙여 행 순서대로 카드로 만든다.
+     */
+    public List<RoutineCard> toCards(List<RoutineCardRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<String>> tagNamesByRoutine = loadTagNames(rows.stream().map(RoutineCardRow::id).toList());
+        return rows.stream()
+                .map(row -> new RoutineCard(
+                        RoutineListResponse.fromCardRow(
+                                row,
+                                s3Service.getImageUrl(row.imageUrl()),
+                                tagNamesByRoutine.getOrDefault(row.id(), List.of()),
+                                false
+                        ),
+                        row.ownerId()))
+                .toList();
+    }
+
+    /**
+     * 여러 루틴의 태그 이름을 한 번에 조회한다. (태그가 없는 루틴은 결과에서 빠진다)
+     */
+    public Map<UUID, List<String>> loadTagNames(Collection<UUID> routineIds) {
+        if (routineIds == null || routineIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return routineTagRepository.findTagNamesByRoutineIds(routineIds).stream()
+                .collect(Collectors.groupingBy(RoutineTagName::getRoutineId,
+                        Collectors.mapping(RoutineTagName::getTagName, Collectors.toList())));
+    }
+
+    /**
+     * 주어진 순서대로 카드를 반환한다.
+     */
+    public List<RoutineCard> loadOrderedCards(List<UUID> routineIds) {
+        Map<UUID, RoutineCard> cards = loadCards(routineIds);
+        return routineIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,12 +1,18 @@
 package com.moru.backend.domain.routine.application;
 
+import com.moru.backend.domain.meta.application.TagDictionary;
 import com.moru.backend.domain.meta.dao.AppRepository;
 import com.moru.backend.domain.meta.dao.TagRepository;
 import com.moru.backend.domain.meta.domain.App;
 import com.moru.backend.domain.meta.domain.Tag;
+import com.moru.backend.domain.meta.event.TagCreatedEvent;
 import com.moru.backend.domain.notification.event.RoutineCreatedEvent;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
 import com.moru.backend.domain.routine.domain.Routine;
+import com.moru.backend.domain.routine.event.RoutineContentChangedEvent;
+import com.moru.backend.domain.routine.event.RoutineRankingChangedEvent;
+import com.moru.backend.domain.routine.event.RoutineScheduleChangedEvent;
+import com.moru.backend.domain.routine.event.RoutineTagsChangedEvent;
 import com.moru.backend.domain.routine.domain.RoutineStep;
 import com.moru.backend.domain.routine.domain.meta.RoutineApp;
 import com.moru.backend.domain.routine.domain.meta.RoutineTag;
@@ -41,6 +47,8 @@ public class RoutineCommandService {
     private final S3Service s3Service;
     private final RoutineScheduleFcmPreloader routineScheduleFcmPreloader;
     private final ApplicationEventPublisher eventPublisher;
+    private final TagCooccurrenceService tagCooccurrenceService;
+    private final TagDictionary tagDictionary;
 
     public RoutineCreateResponse createRoutine(RoutineCreateRequest request, User user) {
         routineValidator.validateCreateRequest(request);
@@ -69,6 +77,12 @@ public class RoutineCommandService {
         updateSteps(routine, request.steps());
         updateApps(routine, request.selectedApps());
         Routine savedRoutine = routineRepository.save(routine);
+        eventPublisher.publishEvent(RoutineRankingChangedEvent.builder()
+                .type(RoutineRankingChangedEvent.Type.CREATED)
+                .routineId(savedRoutine.getId()).ownerId(user.getId()).createdAt(savedRoutine.getCreatedAt())
+                .tagNames(request.tags())
+                .build());
+        eventPublisher.publishEvent(RoutineTagsChangedEvent.builder().routineId(savedRoutine.getId()).build());
 
         // 공개 루틴인 경우에만 알림 이벤트 발행
         if(routine.isUserVisible()) {
@@ -90,7 +104,13 @@ public class RoutineCommandService {
         Routine routine = routineValidator.validateRoutineAndUserPermission(routineId, currentUser);
 
         updateSimpleFields(routine, request);
-        if (request.tags() != null) updateTags(routine, request.tags());
+        if (request.title() != null || request.description() != null || request.steps() != null) {
+            eventPublisher.publishEvent(RoutineContentChangedEvent.builder().routineId(routineId).build());
+        }
+        if (request.tags() != null) {
+            updateTags(routine, request.tags());
+            eventPublisher.publishEvent(RoutineTagsChangedEvent.builder().routineId(routineId).build());
+        }
         if (request.steps() != null) updateSteps(routine, request.steps());
         if (request.selectedApps() != null) updateApps(routine, request.selectedApps());
 
@@ -102,8 +122,17 @@ public class RoutineCommandService {
         Routine routine = routineValidator.validateRoutineAndUserPermission(routineId, currentUser);
         // 루틴 삭제에 따른 푸시 알림 예약 삭제
         routineScheduleFcmPreloader.removeRoutineScheduleFcm(routine);
+        // 태그 쌍 동시 등장 횟수에서 제외
+        tagCooccurrenceService.applyTagChange(tagIdsOf(routine), List.of());
+
+        eventPublisher.publishEvent(RoutineRankingChangedEvent.builder()
+                .type(RoutineRankingChangedEvent.Type.DELETED)
+                .routineId(routineId).ownerId(currentUser.getId()).createdAt(routine.getCreatedAt())
+                .build());
 
         routineRepository.delete(routine);
+        eventPublisher.publishEvent(RoutineTagsChangedEvent.builder().routineId(routineId).build());
+        eventPublisher.publishEvent(RoutineScheduleChangedEvent.builder().userId(currentUser.getId()).build());
     }
 
     private void updateSimpleFields(Routine routine, RoutineUpdateRequest request) {
@@ -121,13 +150,34 @@ public class RoutineCommandService {
 
     private void updateTags(Routine routine, List<String> tagNames) {
         if (tagNames == null) return;
+        List<UUID> beforeTagIds = tagIdsOf(routine);
         // JPA의 변경 감지(Dirty Checking)와 orphanRemoval=true를 활용하기 위해 clear 후 add
         routine.getRoutineTags().clear();
         routineRepository.flush();
         tagNames.stream()
-                .map(tagName -> tagRepository.findByName(tagName)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build())))
+                .map(this::findOrCreateTag)
                 .forEach(tag -> routine.addRoutineTag(RoutineTag.builder().tag(tag).build()));
+        tagCooccurrenceService.applyTagChange(beforeTagIds, tagIdsOf(routine));
+    }
+
+    // 태그 사전에 있으면 조회 없이 참조만 사용하고, 없을 때만 DB 확인 후 생성
+    private Tag findOrCreateTag(String tagName) {
+        Optional<UUID> tagId = tagDictionary.findIdByName(tagName);
+        if (tagId.isPresent()) {
+            return tagRepository.getReferenceById(tagId.get());
+        }
+        return tagRepository.findByName(tagName)
+                .orElseGet(() -> {
+                    Tag created = tagRepository.save(Tag.builder().name(tagName).build());
+                    eventPublisher.publishEvent(TagCreatedEvent.builder().tagId(created.getId()).build());
+                    return created;
+                });
+    }
+
+    private List<UUID> tagIdsOf(Routine routine) {
+        return routine.getRoutineTags().stream()
+                .map(rt -> rt.getTag().getId())
+                .toList();
     }
 
     private void updateSteps(Routine routine, List<RoutineStepRequest> steps) {
@@ -142,6 +192,7 @@ public class RoutineCommandService {
             }
             routine.addRoutineStep(builder.build());
         });
+        routine.setStepCount(routine.getRoutineSteps().size());
     }
 
     private void updateApps(Routine routine, List<String> selectedApps) {
@@ -0,0 +1,69 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * step_count / scrap_count 컬럼 추가 전에 쌓인 데이터를 한 번만 채운다.
+ * 기동 직후 스케줄러 스레드에서 돌아 메인 스레드를 막지 않고, 락을 잡은 노드 하나만 실행한 뒤 완료 표시를 남긴다.
+ * 완료 표시가 사라져(Redis 초기화 등) 다시 돌더라도 구간마다 다시 세는 것이라 결과는 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineCountBackfillMigration {
+    private final RoutineCountSynchronizer routineCountSynchronizer;
+    private final RoutineSearchIndexScheduler routineSearchIndexScheduler;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+
+    @Value("${moru.routine.count-sync.batch-size:1000}")
+    private int batchSize;
+
+    // 보정이 이보다 오래 걸리면 다른 노드가 이어서 돌 수 있다 (결과는 같고 일만 겹친다)
+    @Value("${moru.routine.count-backfill.lock-ttl-ms:1800000}")
+    private long lockTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 기동 후 한 번만 실행된다. (cron 없이 initialDelay만 지정)
+     */
+    @Scheduled(initialDelayString = "${moru.routine.count-backfill.initial-delay-ms:10000}")
+    public void backfill() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.ROUTINE_COUNT_BACKFILL_DONE))) {
+                return;
+            }
+            if (!redisLock.tryLock(RedisKeyUtil.ROUTINE_COUNT_BACKFILL_LOCK, nodeId, Duration.ofMillis(lockTtlMs))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[CountBackfill] 완료 여부 확인 실패, 다음 기동 때 다시 시도: {}", e.getMessage());
+            return;
+        }
+        try {
+            int steps = routineCountSynchronizer.syncStepCounts(batchSize);
+            int scraps = routineCountSynchronizer.syncScrapCounts(batchSize);
+            redisTemplate.opsForValue().set(RedisKeyUtil.ROUTINE_COUNT_BACKFILL_DONE, "1");
+            log.info("[CountBackfill] 루틴 집계 컬럼 보정 완료: 스텝 수 {}개, 스크랩 수 {}개", steps, scraps);
+            if (steps > 0) {
+                // 검색 인덱스가 스텝 수를 읽으므로 보정한 값으로 다시 만든다
+                routineSearchIndexScheduler.rebuildRoutineSearchIndex();
+            }
+        } catch (Exception e) {
+            log.warn("[CountBackfill] 루틴 집계 컬럼 보정 실패, 다음 기동 때 다시 시도: {}", e.getMessage());
+        } finally {
+            redisLock.unlock(RedisKeyUtil.ROUTINE_COUNT_BACKFILL_LOCK, nodeId);
+        }
+    }
+}
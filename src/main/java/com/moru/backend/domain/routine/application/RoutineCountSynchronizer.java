@@ -0,0 +1,55 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * 루틴의 집계 컬럼(step_count, scrap_count)을 실제 행 개수와 맞춘다.
+ * 테이블 전체를 한 번에 UPDATE하지 않고 ID 구간마다 짧은 트랜잭션으로 나눠, 요청 처리 중인 행 락과 오래 겹치지 않게 한다.
+ * 구간마다 다시 세는 것이라 여러 번 실행하거나 중간에 끊겨도 결과는 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineCountSynchronizer {
+    private final RoutineRepository routineRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * @return 보정한 루틴 수
+     */
+    public int syncStepCounts(int batchSize) {
+        return syncByRange(batchSize, routineRepository::syncStepCountsInRange);
+    }
+
+    /**
+     * @return 보정한 루틴 수
+     */
+    public int syncScrapCounts(int batchSize) {
+        return syncByRange(batchSize, routineRepository::syncScrapCountsInRange);
+    }
+
+    private int syncByRange(int batchSize, BiFunction<UUID, UUID, Integer> syncInRange) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int synced = 0;
+        UUID lastId = null;
+        while (true) {
+            List<UUID> ids = routineRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return synced;
+            }
+            UUID fromId = lastId;
+            UUID toId = ids.getLast();
+            Integer count = transaction.execute(status -> syncInRange.apply(fromId, toId));
+            synced += count == null ? 0 : count;
+            lastId = toId;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineLikeCountScheduler {
+    private final RoutineLikeCounter routineLikeCounter;
+
+    // UPDATE 한 번에 반영할 루틴 수
+    @Value("${moru.routine.like.flush-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Redis에 모인 좋아요 수 증감분을 DB에 묶음으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${moru.routine.like.flush-ms:5000}")
+    public void flushLikeCounts() {
+        try {
+            int routineCount = routineLikeCounter.flush(batchSize);
+            if (routineCount > 0) {
+                log.debug("[LikeCountBatch] 루틴 {}개 좋아요 수 반영", routineCount);
+            }
+        } catch (Exception e) {
+            log.warn("[LikeCountBatch] 좋아요 수 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 40분에 좋아요 수를 실제 좋아요 기록과 맞춘다.
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void repairLikeCounts() {
+        try {
+            int repaired = routineLikeCounter.repair(batchSize);
+            log.info("[LikeCountBatch] 루틴 좋아요 수 보정: {}개", repaired);
+        } catch (Exception e) {
+            log.warn("[LikeCountBatch] 루틴 좋아요 수 보정 실패: {}", e.getMessage());
+        }
+    }
+}
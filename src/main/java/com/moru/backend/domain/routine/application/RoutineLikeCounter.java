@@ -0,0 +1,277 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.CounterFlushBatchRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 루틴 좋아요 수 증감을 Redis에 모았다가 Routine.likeCount에 묶음으로 반영한다.
+ * - 누적: 줄무늬(stripe) N개의 HASH 중 하나를 골라 HINCRBY, 좋아요 요청은 routine 행 락을 잡지 않는다
+ * - 반영: 락을 잡은 노드 하나가 줄무늬별 HASH를 처리용 키로 RENAME한 뒤, N개 루틴씩 UPDATE 한 번으로 더한다
+ * - 보정: 같은 락을 잡고 ID 구간마다, 구간의 좋아요 행을 잠근 트랜잭션 안에서 대기 증감분을 버리고 실제 개수로 덮어쓴다
+ * - 진행 표시: 좋아요 커밋 직전에 루틴별 카운터를 올리고 add()에서 내린다. 보정은 커밋됐지만 아직 add()가 돌지 않은
+ *   좋아요가 있는 구간을 다시 시도해, 같은 좋아요가 다시 센 값과 이후 반영에 두 번 들어가지 않게 한다
+ * 줄무늬마다 대기/처리용 키가 같은 해시 태그를 써서, 클러스터에서도 RENAME 스크립트가 한 슬롯 안에서 돈다.
+ * 증감분은 좋아요 트랜잭션 커밋 후에 기록하므로(RoutineEngagementEventListener), 롤백된 좋아요는 세지 않는다.
+ * 처리용 키마다 배치 ID를 붙여 DB에 반영 기록을 남기므로, 키 삭제가 실패해도 같은 배치를 두 번 더하지 않는다.
+ * 반영 주기만큼 likeCount가 늦게 보일 수 있다. (검색 인덱스는 publishLikeDelta로 바로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineLikeCounter {
+    // 대기 HASH가 있으면 처리용 키로 옮기고 배치 ID를 붙인다 (이전에 실패해서 남은 처리용 키가 있으면 그것부터)
+    private static final DefaultRedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return false
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('HGET', KEYS[2], ARGV[1])
+            """, String.class);
+
+    private static final String BATCH_FIELD = "_batch";
+
+    // 진행 표시를 0 밑으로 내리지 않는다 (트랜잭션 밖에서 바로 add()된 경우 표시가 없다)
+    private static final DefaultRedisScript<Long> CLEAR_IN_FLIGHT_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if current > 1 then
+                return redis.call('DECR', KEYS[1])
+            end
+            redis.call('DEL', KEYS[1])
+            return 0
+            """, Long.class);
+
+    private final RoutineRepository routineRepository;
+    private final CounterFlushBatchRepository counterFlushBatchRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final PlatformTransactionManager transactionManager;
+
+    // 증감분을 나눠 담을 HASH 개수 (클러스터에서 슬롯이 갈리도록)
+    @Value("${moru.routine.like.stripes:8}")
+    private int stripes;
+
+    // 반영/보정 락 유지 시간 (보정은 ID 구간마다 연장한다)
+    @Value("${moru.routine.like.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    // 진행 표시 유지 시간 (커밋 후 add() 전에 노드가 죽어도 이 시간 뒤에는 보정이 다시 돈다)
+    @Value("${moru.routine.like.in-flight-ttl-seconds:60}")
+    private long inFlightTtlSeconds;
+
+    // 진행 중인 좋아요가 있는 구간을 보정할 때 다시 시도하는 횟수 (넘으면 다음 보정으로 미룬다)
+    @Value("${moru.routine.like.repair-attempts:5}")
+    private int repairAttempts;
+
+    // 노드 식별자 (락 소유자 확인용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 좋아요 커밋 직전에 진행 표시를 올린다. (실패해도 좋아요는 커밋되며, 그 좋아요만 보정과 겹칠 때 보호받지 못한다)
+     */
+    public void markInFlight(UUID routineId) {
+        try {
+            String key = RedisKeyUtil.routineLikeInFlightKey(routineId);
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, Duration.ofSeconds(inFlightTtlSeconds));
+        } catch (Exception e) {
+            log.warn("좋아요 진행 표시 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    private void clearInFlight(UUID routineId) {
+        try {
+            redisTemplate.execute(CLEAR_IN_FLIGHT_SCRIPT, List.of(RedisKeyUtil.routineLikeInFlightKey(routineId)));
+        } catch (Exception e) {
+            log.warn("좋아요 진행 표시 해제 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 좋아요 수 증감을 기록하고 진행 표시를 내린다. Redis를 쓸 수 없으면 DB에 바로 반영한다.
+     * 대기 증감분을 먼저 올린 뒤 표시를 내리므로, 보정은 둘 중 하나는 반드시 본다.
+     * 커밋 후 리스너에서 호출되므로 DB 반영은 새 트랜잭션으로 연다.
+     */
+    public void add(UUID routineId, int delta) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        try {
+            redisTemplate.opsForHash().increment(RedisKeyUtil.routineLikePendingKey(stripe), routineId.toString(), delta);
+        } catch (Exception e) {
+            log.warn("좋아요 수 기록 실패, DB에 바로 반영: routineId={}, {}", routineId, e.getMessage());
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.executeWithoutResult(status -> routineRepository.addLikeCounts(Map.of(routineId, (long) delta)));
+        }
+        clearInFlight(routineId);
+    }
+
+    /**
+     * 줄무늬별로 쌓인 증감분을 batchSize개 루틴씩 DB에 반영한다. 반영한 뒤에만 처리용 키를 지우므로,
+     * 중간에 실패하면 다음 주기에(다른 노드라도) 같은 배치를 다시 시도한다. 다른 노드가 반영/보정 중이면 건너뛴다.
+     * @return 반영한 루틴 수
+     */
+    public int flush(int batchSize) {
+        Duration ttl = Duration.ofMillis(lockTtlMs);
+        if (!redisLock.tryLock(RedisKeyUtil.ROUTINE_LIKE_FLUSH_LOCK, nodeId, ttl)) {
+            return 0;
+        }
+        try {
+            int flushed = 0;
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                flushed += flushStripe(stripe, batchSize);
+            }
+            return flushed;
+        } finally {
+            redisLock.unlock(RedisKeyUtil.ROUTINE_LIKE_FLUSH_LOCK, nodeId);
+        }
+    }
+
+    /**
+     * 좋아요 수를 routine_user_action 기준으로 다시 맞춘다. 반영 락을 잡은 채로(반영과 겹치지 않음) ID 구간마다 한 트랜잭션에서
+     * 1) 구간의 좋아요 행을 잠가 이후 이 구간의 좋아요가 트랜잭션이 끝날 때까지 커밋되지 않게 하고
+     * 2) 진행 표시가 남은 루틴이 있으면(커밋됐지만 아직 add() 전일 수 있음) 롤백하고 잠시 뒤 다시 시도하며
+     * 3) 대기 증감분을 버리고 실제 개수로 덮어쓴다.
+     * 2)를 통과하면 대기 증감분에 오를 좋아요는 모두 이미 올라 있으므로, 버린 증감분은 정확히 다시 센 값에 든 좋아요다.
+     * @return 보정한 루틴 수
+     */
+    public int repair(int batchSize) {
+        Duration ttl = Duration.ofMillis(lockTtlMs);
+        if (!redisLock.lock(RedisKeyUtil.ROUTINE_LIKE_FLUSH_LOCK, nodeId, ttl, 50, Duration.ofMillis(200))) {
+            log.warn("좋아요 수 보정 건너뜀: 반영 락을 잡지 못함");
+            return 0;
+        }
+        try {
+            // 처리용 키에 남은 증감분도 이미 커밋된 좋아요이므로 버린다 (락을 잡고 있어 반영 중인 노드는 없다)
+            // 줄무늬마다 슬롯이 다르므로 키 하나씩 지운다
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                redisTemplate.delete(RedisKeyUtil.routineLikeProcessingKey(stripe));
+            }
+
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            int repaired = 0;
+            UUID lastId = null;
+            while (true) {
+                List<UUID> ids = routineRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                UUID fromId = lastId;
+                UUID toId = ids.getLast();
+                repaired += repairRange(transaction, ids, fromId, toId);
+                lastId = toId;
+                redisLock.extend(RedisKeyUtil.ROUTINE_LIKE_FLUSH_LOCK, nodeId, ttl);
+            }
+            return repaired;
+        } finally {
+            redisLock.unlock(RedisKeyUtil.ROUTINE_LIKE_FLUSH_LOCK, nodeId);
+        }
+    }
+
+    private int repairRange(TransactionTemplate transaction, List<UUID> ids, UUID fromId, UUID toId) {
+        Object[] fields = ids.stream().map(UUID::toString).toArray();
+        for (int attempt = 0; attempt < repairAttempts; attempt++) {
+            Integer count = transaction.execute(status -> {
+                routineRepository.lockLikeRowsInRange(fromId, toId);
+                if (hasInFlight(ids)) {
+                    status.setRollbackOnly();
+                    return null;
+                }
+                for (int stripe = 0; stripe < stripes; stripe++) {
+                    redisTemplate.opsForHash().delete(RedisKeyUtil.routineLikePendingKey(stripe), fields);
+                }
+                return routineRepository.syncLikeCountsInRange(fromId, toId);
+            });
+            if (count != null) {
+                return count;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.warn("좋아요 수 보정 구간 건너뜀: 진행 중인 좋아요가 계속 있음 ({} ~ {}]", fromId, toId);
+        return 0;
+    }
+
+    // 구간 루틴 중 진행 표시가 남은 것이 있는지 (키마다 슬롯이 다르므로 파이프라인으로 GET)
+    private boolean hasInFlight(List<UUID> ids) {
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (UUID id : ids) {
+                    ops.opsForValue().get(RedisKeyUtil.routineLikeInFlightKey(id));
+                }
+                return null;
+            }
+        });
+        return counts.stream().anyMatch(count -> count != null && Long.parseLong(count.toString()) > 0);
+    }
+
+    private int flushStripe(int stripe, int batchSize) {
+        String processingKey = RedisKeyUtil.routineLikeProcessingKey(stripe);
+        String batchId = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(RedisKeyUtil.routineLikePendingKey(stripe), processingKey),
+                BATCH_FIELD, UUID.randomUUID().toString());
+        if (batchId == null) {
+            return 0;
+        }
+        Map<UUID, Long> deltas = new LinkedHashMap<>();
+        redisTemplate.opsForHash().entries(processingKey).forEach((field, value) -> {
+            if (BATCH_FIELD.equals(field.toString())) {
+                return;
+            }
+            long delta = Long.parseLong(value.toString());
+            if (delta != 0) {
+                deltas.put(UUID.fromString(field.toString()), delta);
+            }
+        });
+
+        List<Map.Entry<UUID, Long>> entries = new ArrayList<>(deltas.entrySet());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                counterFlushBatchRepository.insertBatch(batchId);
+                for (int from = 0; from < entries.size(); from += batchSize) {
+                    Map<UUID, Long> batch = new LinkedHashMap<>();
+                    entries.subList(from, Math.min(from + batchSize, entries.size()))
+                            .forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+                    routineRepository.addLikeCounts(batch);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 배치 기록이 이미 있을 때만 지난 주기에 반영하고 키 삭제만 실패한 배치다
+            // 그 밖의 무결성 오류면 처리용 키를 남겨 다음 주기에 같은 배치를 다시 시도한다
+            if (!counterFlushBatchRepository.existsById(batchId)) {
+                log.warn("좋아요 수 배치 반영 실패, 다음 주기에 다시 시도: batchId={}, {}", batchId, e.getMessage());
+                return 0;
+            }
+            log.info("이미 반영된 좋아요 수 배치 건너뜀: batchId={}", batchId);
+        }
+        redisTemplate.delete(processingKey);
+        return deltas.size();
+    }
+}
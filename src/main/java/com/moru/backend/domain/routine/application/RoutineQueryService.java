@@ -1,33 +1,38 @@
 package com.moru.backend.domain.routine.application;
 
 import com.moru.backend.domain.log.dao.RoutineLogRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineKeysetRow;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineTimeKeysetRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineUpcomingKey;
 import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.schedule.DayOfWeek;
 import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.domain.routine.dto.RoutineCursor;
+import com.moru.backend.domain.routine.event.RoutineRankingChangedEvent;
 import com.moru.backend.domain.routine.dto.response.RoutineDetailResponse;
 import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
 import com.moru.backend.domain.routine.dto.response.SimilarRoutineResponse;
-import com.moru.backend.domain.social.application.LikeService;
-import com.moru.backend.domain.social.application.ScrapService;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.domain.user.dto.AuthorInfo;
+import com.moru.backend.global.common.dto.ScrollResponse;
 import com.moru.backend.global.exception.CustomException;
 import com.moru.backend.global.exception.ErrorCode;
-import com.moru.backend.global.util.RedisKeyUtil;
 import com.moru.backend.global.util.S3Service;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -38,10 +43,13 @@ import java.util.stream.Collectors;
 public class RoutineQueryService {
     private final RoutineLogRepository routineLogRepository;
     private final RoutineRepository routineRepository;
-    private final LikeService likeService;
-    private final ScrapService scrapService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final UserEngagementCache userEngagementCache;
     private final S3Service s3Service;
+    private final SimilarRoutineIndex similarRoutineIndex;
+    private final RoutineCardLoader routineCardLoader;
+    private final RoutineViewCounter routineViewCounter;
+    private final RoutineScheduleTimeline routineScheduleTimeline;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${moru.routine.recommend.similar-fetch-size}")
     private int similarFetchSize;
@@ -49,7 +57,6 @@ public class RoutineQueryService {
     @Value("${moru.routine.recommend.similar-limit-size}")
     private int similarLimitSize;
 
-    @Transactional // 조회수 증가 때문에 쓰기 트랜잭션 필요
     public RoutineDetailResponse getRoutineDetail(UUID routineId, User currentUser) {
         // 헬퍼 메서드 사용
         List<Routine> routines = findAndSortRoutinesWithDetails(List.of(routineId));
@@ -60,21 +67,17 @@ public class RoutineQueryService {
 
         // 1. 자신의 루틴이면 조회수 증가 X
         if (!routine.getUser().getId().equals(currentUser.getId())) {
-            // 2, 3. 1분 내 중복 조회 방지 (Redis 사용)
-            String redisKey = RedisKeyUtil.routineViewKey(routineId, currentUser.getId());
-            Boolean isFirst = redisTemplate.opsForValue().setIfAbsent(redisKey, "1", Duration.ofMinutes(1));
-            if (Boolean.TRUE.equals(isFirst)) {
-                // 4. 동시성 안전하게 DB에서 직접 증가
-                routineRepository.incrementViewCount(routineId);
+            // 2. 구간 내 중복 조회 제외 후 Redis에 증가분 누적 (DB 반영은 RoutineViewCountFlushScheduler가 묶어서, 랭킹은 커밋 후)
+            if (routineViewCounter.recordView(routineId, currentUser.getId())) {
+                eventPublisher.publishEvent(RoutineRankingChangedEvent.builder()
+                        .type(RoutineRankingChangedEvent.Type.VIEWED)
+                        .routineId(routineId).ownerId(routine.getUser().getId()).createdAt(routine.getCreatedAt())
+                        .build());
             }
         }
 
-        int likeCount = likeService.countLikes(routine.getId()).intValue();
-        int scrapCount = scrapService.countScrap(routine.getId()).intValue();
-
-        // 각 서비스에 책임을 위임하여 상태 조회
-        boolean isLiked = likeService.isLiked(currentUser.getId(), routineId);
-        boolean isScrapped = scrapService.isScrapped(currentUser.getId(), routineId);
+        // 좋아요/스크랩 수는 루틴 행의 집계 컬럼, 본인 상태는 참여 상태 캐시 한 번 조회
+        Engagement engagement = userEngagementCache.find(currentUser.getId(), routineId);
 
         List<SimilarRoutineResponse> similarRoutines = findSimilarRoutines(routine, currentUser);
 
@@ -88,10 +91,10 @@ public class RoutineQueryService {
                 routine,
                 s3Service.getImageUrl(routine.getImageUrl()),
                 authorInfo,
-                likeCount,
-                scrapCount,
-                isLiked,
-                isScrapped,
+                routine.getLikeCount(),
+                routine.getScrapCount(),
+                engagement.liked(),
+                engagement.scrapped(),
                 currentUser,
                 similarRoutines
         );
@@ -104,35 +107,103 @@ public class RoutineQueryService {
             Pageable pageable
     ) {
         final UUID userId = user.getId();
-        Page<Routine> routinePage;
+        Page<UUID> routineIdPage;
 
+        // 1. 정렬 조건에 맞는 ID만 조회
         if (sortType == SortType.TIME) {
             if (dayOfWeek != null) {
-                routinePage = routineRepository
-                        .findRoutinesByUserIdAndDayOfWeekOrderByScheduleTimeAsc(userId, dayOfWeek, pageable);
+                routineIdPage = routineRepository.findMyRoutineIdsByDayOrderByTime(userId, dayOfWeek, pageable);
             } else {
-                routinePage = routineRepository
-                        .findRoutinesOrderByUpcoming(userId, pageable); // 네이티브 쿼리 버전
+                routineIdPage = findRoutineIdsOrderByUpcoming(userId, pageable); // 스케줄 타임라인 버전
             }
         } else if (sortType == SortType.POPULAR) {
-            if (dayOfWeek != null) {
-                routinePage = routineRepository
-                        .findRoutinesByUserIdAndDayOfWeekOrderByPopularity(userId, dayOfWeek, pageable);
-            } else {
-                routinePage = routineRepository
-                        .findDistinctByUserIdAndStatusIsTrueOrderByLikeCountDescCreatedAtDesc(userId, pageable);
-            }
+            routineIdPage = routineRepository.findMyRoutineIdsOrderByLikeCount(userId, dayOfWeek, pageable);
         } else {
-            if (dayOfWeek != null) {
-                routinePage = routineRepository
-                        .findRoutinesByUserIdAndDayOfWeekOrderByCreatedAtDesc(userId, dayOfWeek, pageable);
-            } else {
-                routinePage = routineRepository
-                        .findDistinctByUserIdAndStatusIsTrueOrderByCreatedAtDesc(userId, pageable);
-            }
+            routineIdPage = routineRepository.findMyRoutineIdsOrderByCreatedAt(userId, dayOfWeek, pageable);
         }
 
-        return routinePage.map(this::toRoutineListResponse);
+        // 2. 카드 내용은 컬럼 조회 1번 + 태그 조회 1번 (엔티티/지연 로딩 없음)
+        List<RoutineListResponse> content = routineCardLoader.loadOrderedCards(routineIdPage.getContent()).stream()
+                .map(RoutineCardLoader.RoutineCard::response)
+                .toList();
+        return new PageImpl<>(content, pageable, routineIdPage.getTotalElements());
+    }
+
+    // 다가오는 스케줄순: 타임라인에서 해당 페이지의 ID만 잘라 온다 (전체 개수 = 스케줄이 있는 활성 루틴 수)
+    private Page<UUID> findRoutineIdsOrderByUpcoming(UUID userId, Pageable pageable) {
+        List<UUID> routineIds = routineScheduleTimeline.findUpcoming(
+                        userId, LocalDateTime.now(), null, null, (int) pageable.getOffset() + pageable.getPageSize())
+                .stream()
+                .skip(pageable.getOffset())
+                .map(RoutineUpcomingKey::id)
+                .toList();
+        return new PageImpl<>(routineIds, pageable, routineScheduleTimeline.countRoutines(userId));
+    }
+
+    /**
+     * 내 루틴 목록 무한 스크롤. getRoutineList와 같은 정렬이지만 COUNT/OFFSET 없이 커서 다음 행만 읽는다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 커서)
+     */
+    public ScrollResponse<RoutineListResponse, RoutineCursor> scrollRoutineList(
+            User user,
+            SortType sortType,
+            @Nullable DayOfWeek dayOfWeek,
+            @Nullable RoutineCursor cursor,
+            int size
+    ) {
+        final UUID userId = user.getId();
+        RoutineCursor after = cursor == null || cursor.isFirstPage() ? null : cursor;
+        // 다음 페이지 존재 여부를 COUNT 대신 한 건 더 읽어서 판단
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<UUID> routineIds;
+        List<RoutineCursor> cursors;
+        if (sortType == SortType.TIME && dayOfWeek != null) {
+            List<RoutineTimeKeysetRow> rows = routineRepository.findMyRoutineKeysByDayOrderByTime(
+                    userId, dayOfWeek,
+                    after == null ? null : after.time(),
+                    after == null ? null : after.routineId(),
+                    pageable);
+            routineIds = rows.stream().map(RoutineTimeKeysetRow::getId).toList();
+            cursors = rows.stream().map(row -> RoutineCursor.ofTime(row.getId(), row.getTime())).toList();
+        } else if (sortType == SortType.TIME) {
+            LocalDateTime anchorAt = after == null || after.anchorAt() == null ? LocalDateTime.now() : after.anchorAt();
+            List<RoutineUpcomingKey> keys = routineScheduleTimeline.findUpcoming(
+                    userId, anchorAt,
+                    after == null ? null : after.secondsUntil(),
+                    after == null ? null : after.routineId(),
+                    size + 1);
+            routineIds = keys.stream().map(RoutineUpcomingKey::id).toList();
+            cursors = keys.stream().map(key -> RoutineCursor.ofUpcoming(key.id(), key.secondsUntil(), anchorAt)).toList();
+        } else {
+            List<RoutineKeysetRow> rows = sortType == SortType.POPULAR
+                    ? routineRepository.findMyRoutineKeysOrderByLikeCount(
+                            userId, dayOfWeek,
+                            after == null ? null : after.likeCount(),
+                            after == null ? null : after.createdAt(),
+                            after == null ? null : after.routineId(),
+                            pageable)
+                    : routineRepository.findMyRoutineKeysOrderByCreatedAt(
+                            userId, dayOfWeek,
+                            after == null ? null : after.createdAt(),
+                            after == null ? null : after.routineId(),
+                            pageable);
+            routineIds = rows.stream().map(RoutineKeysetRow::getId).toList();
+            cursors = rows.stream()
+                    .map(row -> RoutineCursor.ofCreatedAt(row.getId(), row.getCreatedAt(), row.getLikeCount()))
+                    .toList();
+        }
+
+        boolean hasNext = routineIds.size() > size;
+        if (hasNext) {
+            routineIds = routineIds.subList(0, size);
+        }
+        List<RoutineListResponse> content = routineCardLoader.loadOrderedCards(routineIds).stream()
+                .map(RoutineCardLoader.RoutineCard::response)
+                .toList();
+        RoutineCursor nextCursor = hasNext ? cursors.get(size - 1) : null;
+        return ScrollResponse.of(content, hasNext, nextCursor);
     }
 
 
@@ -140,25 +211,32 @@ public class RoutineQueryService {
         if (routine.getRoutineTags().isEmpty()) {
             return Collections.emptyList();
         }
+        List<Routine> sortedRoutines;
+        try {
+            // 미리 계산된 유사 루틴 목록에서 본인 루틴을 뺀 필요한 개수만 조회 (아직 계산 전이면 태그 겹침 쿼리로 대체)
+            sortedRoutines = similarRoutineIndex.findSimilarRoutineIds(routine.getId(), currentUser.getId(), similarLimitSize)
+                    .map(this::findAndSortRoutinesWithDetails)
+                    .orElseGet(() -> findSimilarRoutinesByTagOverlap(routine, currentUser));
+        } catch (Exception e) {
+            // Redis 장애 시 기존 태그 겹침 쿼리로 대체
+            sortedRoutines = findSimilarRoutinesByTagOverlap(routine, currentUser);
+        }
+
+        return sortedRoutines.stream()
+                .map(r -> SimilarRoutineResponse.from(r, s3Service.getImageUrl(r.getImageUrl())))
+                .toList();
+    }
+
+    private List<Routine> findSimilarRoutinesByTagOverlap(Routine routine, User currentUser) {
         List<UUID> tagIds = routine.getRoutineTags().stream()
                 .map(rt -> rt.getTag().getId())
                 .toList();
         Pageable pageable = PageRequest.of(0, similarFetchSize); // 넉넉히 조회
 
-        // 이 Repository 메서드도 JOIN FETCH를 사용하도록 수정하면 성능이 더 좋아짐
         Page<UUID> similarRoutineIdPage = routineRepository.findSimilarRoutineIdsByTagIds(tagIds, routine.getId(), pageable);
-        List<UUID> similarRoutineIds = similarRoutineIdPage.getContent();
-
-        if (similarRoutineIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<Routine> sortedRoutines = findAndSortRoutinesWithDetails(similarRoutineIds);
-
-        return sortedRoutines.stream()
+        return findAndSortRoutinesWithDetails(similarRoutineIdPage.getContent()).stream()
                 .filter(r -> !r.getUser().getId().equals(currentUser.getId()))
                 .limit(similarLimitSize)
-                .map(r -> SimilarRoutineResponse.from(r, s3Service.getImageUrl(r.getImageUrl())))
                 .toList();
     }
 
@@ -184,14 +262,6 @@ public class RoutineQueryService {
                 .toList();
     }
 
-    private RoutineListResponse toRoutineListResponse(Routine routine) {
-        return RoutineListResponse.fromRoutine(
-                routine,
-                s3Service.getImageUrl(routine.getImageUrl()),
-                new ArrayList<>(routine.getRoutineTags())
-        );
-    }
-
     public boolean isUserVisibleById(UUID routineId) {
         return routineRepository.getIsUserVisibleById(routineId);
     }
@@ -2,84 +2,227 @@ package com.moru.backend.domain.routine.application;
 
 import com.moru.backend.domain.log.dao.RoutineLogRepository;
 import com.moru.backend.domain.log.domain.RoutineLog;
-import com.moru.backend.domain.meta.dao.TagRepository;
-import com.moru.backend.domain.meta.domain.Tag;
+import com.moru.backend.domain.meta.application.TagDictionary;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
 import com.moru.backend.domain.routine.dao.RoutineTagRepository;
+import com.moru.backend.domain.routine.dao.TagCooccurrenceRepository;
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
 import com.moru.backend.domain.routine.dao.TagPairCount;
-import com.moru.backend.domain.routine.domain.Routine;
-import com.moru.backend.domain.routine.domain.meta.RoutineTag;
 import com.moru.backend.domain.routine.dto.response.RecommendFeedResponse;
 import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
 import com.moru.backend.domain.routine.dto.response.TagPairSection;
 import com.moru.backend.domain.user.dao.UserFavoriteTagRepository;
 import com.moru.backend.domain.user.domain.User;
-import com.moru.backend.global.util.S3Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class RoutineRecommendService {
     private final RoutineRepository routineRepository;
     private final RoutineTagRepository routineTagRepository;
-    private final RoutineQueryService routineQueryService;
+    private final TagCooccurrenceRepository tagCooccurrenceRepository;
+    private final RoutineCardLoader routineCardLoader;
     private final RoutineLogRepository routineLogRepository;
     private final UserFavoriteTagRepository userFavoriteTagRepository;
-    private final TagRepository tagRepository;
-    private final S3Service s3Service;
+    private final TagDictionary tagDictionary;
+    private final PlatformTransactionManager transactionManager;
+    private final HotRoutineRanking hotRoutineRanking;
+    private final GlobalHotSnapshot globalHotSnapshot;
+    private final CollaborativeRoutineIndex collaborativeRoutineIndex;
+
+    // 섹션을 동시에 조립할지 여부 (false면 기존처럼 순차 실행)
+    @Value("${moru.routine.recommend.parallel.enabled:true}")
+    private boolean parallelEnabled;
+
+    // 섹션 하나가 이 시간을 넘기면 해당 섹션은 비운 채로 응답한다
+    @Value("${moru.routine.recommend.parallel.section-timeout-ms:800}")
+    private long sectionTimeoutMs;
+
+    // 섹션별 조회는 대부분 DB 대기이므로 가상 스레드로 실행
+    private final ExecutorService sectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 섹션마다 별도의 읽기 전용 트랜잭션(= 별도의 영속성 컨텍스트)을 연다
+    // 트랜잭션 제한 시간(초 단위 올림)은 JPA 쿼리 타임아웃으로도 걸려, 제한 시간을 넘긴 섹션이 커넥션을 오래 잡지 않는다
+    private TransactionTemplate sectionTransaction;
+
+    @PostConstruct
+    void initSectionTransaction() {
+        sectionTransaction = new TransactionTemplate(transactionManager);
+        sectionTransaction.setReadOnly(true);
+        sectionTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+    }
 
-    @Value("${moru.routine.recommend.hot-score.view-weight}")
-    private double viewWeight;
+    @PreDestroy
+    void shutdownSectionExecutor() {
+        sectionExecutor.shutdown();
+    }
 
-    @Value("${moru.routine.recommend.hot-score.like-weight}")
-    private double likeWeight;
+    // TagPairSection의 중간 결과를 담기 위한 private record (카드로 바꾸기 전의 루틴 ID 목록)
+    private record TagPairSectionResult(String tag1, String tag2, List<UUID> routineIds) {}
 
-    // TagPairSection의 중간 결과를 담기 위한 private record
-    private record TagPairSectionResult(String tag1, String tag2, List<Routine> routines) {}
+    /**
+     * 피드 결과와 함께 각 카드의 소유자 ID를 담는다. (캐시에서 isRunning을 다시 계산할 때 사용)
+     */
+    public record RecommendFeedResult(RecommendFeedResponse feed, Map<UUID, UUID> routineOwnerIds) {}
 
+    // 섹션이 각자 트랜잭션을 열기 때문에, 바깥에서 커넥션을 잡은 채 기다리지 않도록 트랜잭션을 걸지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RecommendFeedResponse getRecommendFeed(User user) {
-        // 1. 각 섹션별로 추천될 Routine 엔티티 목록을 먼저 가져온다
-        List<Routine> hotRoutines = findHotRoutines(user, 10);
-        List<Routine> personalRoutines = findPersonalRoutines(user, 10);
-        TagPairSectionResult tagPairResult1 = findTopTagPairSection(user, 10);
-        TagPairSectionResult tagPairResult2 = findInterestTagPairSection(user, 10);
-
-        // 2. 모든 추천 루틴을 한 곳에 모으고, 루틴의 소유자 ID 목록을 추출한다
-        Set<Routine> allRoutines = new HashSet<>();
-        allRoutines.addAll(hotRoutines);
-        allRoutines.addAll(personalRoutines);
-        if (tagPairResult1 != null) allRoutines.addAll(tagPairResult1.routines());
-        if (tagPairResult2 != null) allRoutines.addAll(tagPairResult2.routines());
-
-        if (allRoutines.isEmpty()) {
-            return new RecommendFeedResponse(Collections.emptyList(), Collections.emptyList(), null, null);
+        return assembleRecommendFeed(user).feed();
+    }
+
+    /**
+     * 1단계: 각 섹션은 순위가 매겨진 루틴 ID만 만든다. (서로 독립적이므로 동시에 실행 가능)
+     * 2단계: 모든 섹션의 ID를 중복 없이 모아 카드 프로젝션으로 한 번만 조회한다.
+     * 3단계: 실행 중 여부를 한 번에 계산하고 섹션별 응답을 만든다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecommendFeedResult assembleRecommendFeed(User user) {
+        // 인기 섹션은 전역 스냅샷이 있으면 DB를 거치지 않는다
+        Optional<List<RoutineCard>> hotSnapshot = globalHotSnapshot.findFor(user.getId(), 10);
+        CompletableFuture<List<UUID>> hotFuture = hotSnapshot.isPresent()
+                ? CompletableFuture.completedFuture(Collections.emptyList())
+                : runSection("hot", () -> hotRoutineRanking.findHotRoutineIds(user.getId(), 10), Collections.emptyList());
+        CompletableFuture<List<UUID>> personalFuture =
+                runSection("personal", () -> findPersonalRoutineIds(user, 10), Collections.emptyList());
+        CompletableFuture<TagPairSectionResult> tagPairFuture1 =
+                runSection("topTagPair", () -> findTopTagPairSection(user, 10), null);
+        CompletableFuture<TagPairSectionResult> tagPairFuture2 =
+                runSection("interestTagPair", () -> findInterestTagPairSection(user, 10), null);
+        // 본인 루틴은 카드를 불러온 뒤 걸러내므로 넉넉히 가져온다
+        CompletableFuture<List<UUID>> collaborativeFuture =
+                runSection("collaborative", () -> collaborativeRoutineIndex.recommendFor(user.getId(), 20), Collections.emptyList());
+
+        List<UUID> hotRoutineIds = hotFuture.join();
+        List<UUID> personalRoutineIds = personalFuture.join();
+        TagPairSectionResult tagPairResult1 = tagPairFuture1.join();
+        TagPairSectionResult tagPairResult2 = tagPairFuture2.join();
+        List<UUID> collaborativeRoutineIds = collaborativeFuture.join();
+
+        // 2. 모든 섹션의 루틴 ID를 모아 한 번에 카드로 조회한다
+        Set<UUID> allRoutineIds = new LinkedHashSet<>();
+        allRoutineIds.addAll(hotRoutineIds);
+        allRoutineIds.addAll(personalRoutineIds);
+        if (tagPairResult1 != null) allRoutineIds.addAll(tagPairResult1.routineIds());
+        if (tagPairResult2 != null) allRoutineIds.addAll(tagPairResult2.routineIds());
+        allRoutineIds.addAll(collaborativeRoutineIds);
+
+        Map<UUID, RoutineCard> cards = allRoutineIds.isEmpty()
+                ? Collections.emptyMap()
+                : sectionTransaction.execute(status -> routineCardLoader.loadCards(allRoutineIds));
+
+        List<RoutineCard> hotCards = hotSnapshot.orElseGet(() -> orderedCards(hotRoutineIds, cards));
+        if (cards.isEmpty() && hotCards.isEmpty()) {
+            return new RecommendFeedResult(
+                    new RecommendFeedResponse(Collections.emptyList(), Collections.emptyList(), null, null, Collections.emptyList()),
+                    Collections.emptyMap()
+            );
         }
 
-        List<UUID> ownerIds = allRoutines.stream()
-                .map(routine -> routine.getUser().getId())
+        // 3, 4. "소유주에 의해 실행 중인" 루틴의 ID만 필터링하여 Set으로
+        Map<UUID, UUID> routineToOwnerMap = new HashMap<>();
+        cards.forEach((id, card) -> routineToOwnerMap.put(id, card.ownerId()));
+        hotCards.forEach(card -> routineToOwnerMap.putIfAbsent(card.response().id(), card.ownerId()));
+        Set<UUID> runningByOwnerRoutineIds = findRunningByOwnerRoutineIds(routineToOwnerMap);
+
+        // 5. 최종 응답 DTO를 만들면서, isRunning 값을 설정
+        List<RoutineListResponse> hotRoutineDTOs = toResponses(hotCards, runningByOwnerRoutineIds);
+        List<RoutineListResponse> personalRoutineDTOs = toResponses(orderedCards(personalRoutineIds, cards), runningByOwnerRoutineIds);
+
+        TagPairSection section1 = buildTagPairSectionDto(tagPairResult1, cards, runningByOwnerRoutineIds);
+        TagPairSection section2 = buildTagPairSectionDto(tagPairResult2, cards, runningByOwnerRoutineIds);
+        List<RoutineListResponse> collaborativeRoutineDTOs = toResponses(
+                orderedCards(collaborativeRoutineIds, cards).stream()
+                        .filter(card -> !card.ownerId().equals(user.getId()))
+                        .limit(10)
+                        .toList(),
+                runningByOwnerRoutineIds);
+
+        return new RecommendFeedResult(
+                new RecommendFeedResponse(hotRoutineDTOs, personalRoutineDTOs, section1, section2, collaborativeRoutineDTOs),
+                routineToOwnerMap
+        );
+    }
+
+    /**
+     * 섹션 하나를 자신의 읽기 전용 트랜잭션 안에서 실행한다.
+     * 동시 모드에서는 가상 스레드에서 실행하고, 제한 시간을 넘기거나 실패하면 fallback 값으로 대체한다.
+     * 제한 시간을 넘긴 섹션은 작업을 취소(인터럽트)해, 응답과 상관없는 조회가 뒤에서 계속 돌지 않게 한다.
+     * 순차 모드에서도 실패한 섹션은 fallback 값으로 대체해, 섹션 하나 때문에 피드 전체가 실패하지 않게 한다.
+     * (순차 모드의 제한 시간은 트랜잭션 제한 시간 = 쿼리 타임아웃으로 걸린다)
+     */
+    private <T> CompletableFuture<T> runSection(String name, Supplier<T> section, T fallback) {
+        if (!parallelEnabled) {
+            try {
+                return CompletableFuture.completedFuture(sectionTransaction.execute(status -> section.get()));
+            } catch (Exception e) {
+                log.warn("추천 피드 {} 섹션 조회 실패: {}", name, e.getMessage());
+                return CompletableFuture.completedFuture(fallback);
+            }
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = sectionExecutor.submit(() -> {
+            try {
+                result.complete(sectionTransaction.execute(status -> section.get()));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        task.cancel(true);
+                        log.warn("추천 피드 {} 섹션 시간 초과 ({}ms), 취소", name, sectionTimeoutMs);
+                    } else {
+                        log.warn("추천 피드 {} 섹션 조회 실패: {}", name, cause.getMessage());
+                    }
+                    return fallback;
+                });
+    }
+
+    /**
+     * 루틴 ID → 소유자 ID 맵을 받아, "소유주에 의해 실행 중인" 루틴 ID 집합을 반환한다.
+     * 소유자 목록으로 현재 실행 중인 모든 로그를 DB에서 단 한 번만 조회한다.
+     */
+    public Set<UUID> findRunningByOwnerRoutineIds(Map<UUID, UUID> routineToOwnerMap) {
+        if (routineToOwnerMap.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<UUID> ownerIds = routineToOwnerMap.values().stream()
                 .distinct()
                 .toList();
 
-        // 3. 소유자 목록을 사용해, 현재 실행 중인 모든 로그를 DB에서 단 한 번만 조회
         List<RoutineLog> activeLogs = routineLogRepository.findActiveLogsForUsers(ownerIds);
 
-        // 4. "소유주에 의해 실행 중인" 루틴의 ID만 필터링하여 Set으로
-        Map<UUID, UUID> routineToOwnerMap = allRoutines.stream()
-                .collect(Collectors.toMap(Routine::getId, r -> r.getUser().getId()));
-
-        Set<UUID> runningByOwnerRoutineIds = activeLogs.stream()
+        return activeLogs.stream()
                 .filter(log -> {
                     UUID routineId = log.getRoutineSnapshot().getOriginalRoutineId();
                     UUID runnerId = log.getUser().getId();
@@ -88,40 +231,13 @@ public class RoutineRecommendService {
                 })
                 .map(log -> log.getRoutineSnapshot().getOriginalRoutineId())
                 .collect(Collectors.toSet());
-
-        // 5. 최종 응답 DTO를 만들면서, isRunning 값을 설정
-        List<RoutineListResponse> hotRoutineDTOs = hotRoutines.stream()
-                .map(r -> toRoutineListResponse(r, runningByOwnerRoutineIds.contains(r.getId())))
-                .toList();
-
-        List<RoutineListResponse> personalRoutineDTOs = personalRoutines.stream()
-                .map(r -> toRoutineListResponse(r, runningByOwnerRoutineIds.contains(r.getId())))
-                .toList();
-
-        TagPairSection section1 = buildTagPairSectionDto(tagPairResult1, runningByOwnerRoutineIds);
-        TagPairSection section2 = buildTagPairSectionDto(tagPairResult2, runningByOwnerRoutineIds);
-
-        return new RecommendFeedResponse(hotRoutineDTOs, personalRoutineDTOs, section1, section2);
     }
 
     /**
-     * 지금 가장 핫한 루틴 (엔티티 반환)
+     * 개인화 추천 (루틴 ID 반환)
      */
-    private List<Routine> findHotRoutines(User user, int limit) {
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        List<UUID> hotRoutineIds = routineRepository.findHotRoutinesIds(weekAgo, viewWeight, likeWeight, user.getId(), PageRequest.of(0, limit));
-        if (hotRoutineIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return routineQueryService.findAndSortRoutinesWithDetails(hotRoutineIds);
-    }
-
-    /**
-     * 개인화 추천 (엔티티 반환)
-     */
-    private List<Routine> findPersonalRoutines(User user, int limit) {
-        Set<UUID> recommendedRoutineIds = new HashSet<>();
-        List<Routine> result = new ArrayList<>();
+    private List<UUID> findPersonalRoutineIds(User user, int limit) {
+        Set<UUID> result = new LinkedHashSet<>();
 
         List<String> primaryTags = Stream.concat(
                 userFavoriteTagRepository.findFavoriteTagNamesByUserId(user.getId()).stream(),
@@ -129,27 +245,27 @@ public class RoutineRecommendService {
         ).toList();
         List<String> secondaryTags = routineTagRepository.findTagNamesByUserScrappedRoutines(user);
 
-        fillRoutineEntitiesFromTags(user, primaryTags, recommendedRoutineIds, result, limit);
+        fillRoutineIdsFromTags(user, primaryTags, result, limit);
 
         if (result.size() < limit) {
-            fillRoutineEntitiesFromTags(user, secondaryTags, recommendedRoutineIds, result, limit);
+            fillRoutineIdsFromTags(user, secondaryTags, result, limit);
         }
 
         if (result.size() < limit) {
-            fillWithHotRoutineEntities(user, recommendedRoutineIds, result, limit);
+            fillWithHotRoutineIds(user, result, limit);
         }
 
-        return result;
+        return List.copyOf(result);
     }
 
     /**
      * 태그 조합 추천 (중간 결과 반환)
      */
     private TagPairSectionResult findTopTagPairSection(User user, int limit) {
-        List<TagPairCount> topPairs = routineTagRepository.findTopTagPairs();
+        List<TagPairCount> topPairs = tagCooccurrenceRepository.findTopTagPairs();
         for (TagPairCount pair : topPairs) {
             TagPairSectionResult section = buildTagPairSectionResult(user, pair, limit);
-            if (section != null && !section.routines().isEmpty()) {
+            if (section != null && !section.routineIds().isEmpty()) {
                 return section;
             }
         }
@@ -165,11 +281,11 @@ public class RoutineRecommendService {
             return null;
         }
 
-        List<TagPairCount> relevantPairs = routineTagRepository.findTopTagPairsForInterests(interestTagIds);
+        List<TagPairCount> relevantPairs = tagCooccurrenceRepository.findTopTagPairsForInterests(interestTagIds);
 
         for (TagPairCount pair : relevantPairs) {
             TagPairSectionResult section = buildTagPairSectionResult(user, pair, limit);
-            if (section != null && !section.routines().isEmpty()) {
+            if (section != null && !section.routineIds().isEmpty()) {
                 return section;
             }
         }
@@ -178,7 +294,7 @@ public class RoutineRecommendService {
 
 
     // ========================= 유틸/헬퍼 ========================= //
-    private void fillRoutineEntitiesFromTags(User user, List<String> tagNames, Set<UUID> existingIds, List<Routine> result, int limit) {
+    private void fillRoutineIdsFromTags(User user, List<String> tagNames, Set<UUID> result, int limit) {
         if (tagNames.isEmpty() || result.size() >= limit) {
             return;
         }
@@ -187,22 +303,10 @@ public class RoutineRecommendService {
         // 1. 본인 루틴 제외하고, 태그 기반으로 루틴 ID 조회
         Page<UUID> routineIdPage = routineRepository.findRoutineIdsByTagsOrderByTagCount(sortedTags, user.getId(), PageRequest.of(0, limit * 2));
 
-        // 2. 이미 추천된 루틴은 제외
-        List<UUID> routineIds = routineIdPage.getContent().stream()
-                .filter(id -> !existingIds.contains(id))
-                .toList();
-
-        if (routineIds.isEmpty()) {
-            return;
-        }
-
-        // 3. 상세 정보 조회 후 결과 리스트에 추가
-        List<Routine> sortedRoutines = routineQueryService.findAndSortRoutinesWithDetails(routineIds);
-        for (Routine routine : sortedRoutines) {
+        // 2. 이미 추천된 루틴은 제외하고 결과에 추가 (카드 조회는 마지막에 한 번만)
+        for (UUID routineId : routineIdPage.getContent()) {
             if (result.size() >= limit) break;
-            if (existingIds.add(routine.getId())) {
-                result.add(routine);
-            }
+            result.add(routineId);
         }
     }
 
@@ -215,17 +319,16 @@ public class RoutineRecommendService {
                 .toList();
     }
 
-    private void fillWithHotRoutineEntities(User user, Set<UUID> existingIds, List<Routine> results, int limit) {
-        if (results.size() >= limit) {
+    private void fillWithHotRoutineIds(User user, Set<UUID> result, int limit) {
+        if (result.size() >= limit) {
             return;
         }
-        // findHotRoutines에 user 객체 전달
-        List<Routine> hotRoutines = findHotRoutines(user, limit * 2);
-        for (Routine routine : hotRoutines) {
-            if (results.size() >= limit) break;
-            if (existingIds.add(routine.getId())) {
-                results.add(routine);
-            }
+        List<UUID> hotRoutineIds = globalHotSnapshot.findFor(user.getId(), limit * 2)
+                .map(cards -> cards.stream().map(card -> card.response().id()).toList())
+                .orElseGet(() -> hotRoutineRanking.findHotRoutineIds(user.getId(), limit * 2));
+        for (UUID routineId : hotRoutineIds) {
+            if (result.size() >= limit) break;
+            result.add(routineId);
         }
     }
 
@@ -236,41 +339,35 @@ public class RoutineRecommendService {
         try {
             UUID tagId1 = UUID.fromString(pair.getTag1());
             UUID tagId2 = UUID.fromString(pair.getTag2());
-            Map<UUID, String> tagMap = tagRepository.findAllById(List.of(tagId1, tagId2)).stream()
-                    .collect(Collectors.toMap(Tag::getId, Tag::getName));
-            String tagName1 = tagMap.get(tagId1);
-            String tagName2 = tagMap.get(tagId2);
+            String tagName1 = tagDictionary.findNameById(tagId1).orElse(null);
+            String tagName2 = tagDictionary.findNameById(tagId2).orElse(null);
             if (tagName1 == null || tagName2 == null) return null;
 
             Page<UUID> routineIdPage = routineRepository.findRoutineIdsByTagPair(tagId1, tagId2, user.getId(), PageRequest.of(0, limit));
-            if (routineIdPage.isEmpty()) {
-                return new TagPairSectionResult(tagName1, tagName2, Collections.emptyList());
-            }
-            List<Routine> routines = routineQueryService.findAndSortRoutinesWithDetails(routineIdPage.getContent());
-            return new TagPairSectionResult(tagName1, tagName2, routines);
+            return new TagPairSectionResult(tagName1, tagName2, routineIdPage.getContent());
         } catch (IllegalArgumentException e) {
             return null;
         }
     }
 
-    private TagPairSection buildTagPairSectionDto(TagPairSectionResult result, Set<UUID> runningIds) {
+    private TagPairSection buildTagPairSectionDto(TagPairSectionResult result, Map<UUID, RoutineCard> cards, Set<UUID> runningIds) {
         if (result == null) {
             return null;
         }
-        List<RoutineListResponse> dtoList = result.routines().stream()
-                .map(r -> toRoutineListResponse(r, runningIds.contains(r.getId())))
-                .toList();
+        List<RoutineListResponse> dtoList = toResponses(orderedCards(result.routineIds(), cards), runningIds);
         return new TagPairSection(result.tag1(), result.tag2(), dtoList);
     }
 
-    private RoutineListResponse toRoutineListResponse(Routine routine, boolean isRunning) {
-        List<RoutineTag> allTags = new ArrayList<>(routine.getRoutineTags());
+    private List<RoutineCard> orderedCards(List<UUID> routineIds, Map<UUID, RoutineCard> cards) {
+        return routineIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        return RoutineListResponse.fromRoutine(
-                routine,
-                s3Service.getImageUrl(routine.getImageUrl()),
-                allTags,
-                isRunning
-        );
+    private List<RoutineListResponse> toResponses(List<RoutineCard> cards, Set<UUID> runningIds) {
+        return cards.stream()
+                .map(card -> card.response().withRunning(runningIds.contains(card.response().id())))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -7,9 +7,11 @@ import com.moru.backend.domain.routine.domain.schedule.DayOfWeek;
 import com.moru.backend.domain.routine.domain.schedule.RoutineSchedule;
 import com.moru.backend.domain.routine.dto.request.RoutineScheduleRequest;
 import com.moru.backend.domain.routine.dto.response.RoutineScheduleResponse;
+import com.moru.backend.domain.routine.event.RoutineScheduleChangedEvent;
 import com.moru.backend.global.exception.CustomException;
 import com.moru.backend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class RoutineScheduleService {
     private final RoutineRepository routineRepository;
     private final RoutineScheduleRepository routineScheduleRepository;
     private final RoutineScheduleHistoryService routineScheduleHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 루틴 스케줄 추가
@@ -58,6 +61,7 @@ public class RoutineScheduleService {
             RoutineSchedule savedSchedule = routineScheduleRepository.save(schedule);
             responses.add(RoutineScheduleResponse.from(savedSchedule, request.repeatType(), daysToCreate));
         }
+        publishScheduleChanged(routine);
         return responses;
     }
 
@@ -133,6 +137,7 @@ public class RoutineScheduleService {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
         routineScheduleRepository.delete(schedule);
+        publishScheduleChanged(routine);
     }
 
     /**
@@ -144,6 +149,12 @@ public class RoutineScheduleService {
                 .orElseThrow(() -> new CustomException(ErrorCode.ROUTINE_NOT_FOUND));
         List<RoutineSchedule> schedules = routineScheduleRepository.findAllByRoutineId(routineId);
         routineScheduleRepository.deleteAll(schedules);
+        publishScheduleChanged(routine);
+    }
+
+    // 루틴 소유자의 다가오는 스케줄순 타임라인을 커밋 후 다시 구성하게 한다
+    private void publishScheduleChanged(Routine routine) {
+        eventPublisher.publishEvent(RoutineScheduleChangedEvent.builder().userId(routine.getUser().getId()).build());
     }
 }
 
@@ -0,0 +1,216 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.RoutineScheduleRepository;
+import com.moru.backend.domain.routine.dao.RoutineScheduleSlot;
+import com.moru.backend.domain.routine.dao.routine.RoutineUpcomingKey;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 "다가오는 스케줄순" 루틴 목록을 노드 메모리의 타임라인으로 답한다.
+ * - 타임라인: 그 사용자의 활성 루틴 스케줄을 주 단위 초(월요일 0시 기준)로 바꿔 정렬한 배열
+ * - 조회: 기준 시각 위치를 이진 탐색한 뒤 한 바퀴 돌며, 루틴별 첫 등장(가장 가까운 스케줄)만 담는다
+ * - 무효화: 스케줄이 바뀌면 커밋 후 이벤트로 지우고 채널로 다른 노드에도 알린다 (놓쳐도 TTL 후 다시 구성)
+ *   DB를 읽는 도중 무효화되면 읽은 타임라인을 보관하지 않는다 (사용자 구간별 세대 번호로 확인)
+ * 정렬은 기존 쿼리와 같다: 남은 초 오름차순, 같으면 루틴 ID 순. 오늘의 지난 스케줄은 다음 주로 취급한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineScheduleTimeline implements MessageListener {
+    private static final int SECONDS_PER_WEEK = 7 * 24 * 60 * 60;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final RoutineScheduleRepository routineScheduleRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${moru.routine.schedule-timeline.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    // 보관할 최대 사용자 수 (넘으면 만료된 항목부터 정리하고, 그래도 넘으면 새 타임라인은 보관하지 않는다)
+    @Value("${moru.routine.schedule-timeline.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<UUID, Timeline> timelines = new ConcurrentHashMap<>();
+
+    // 무효화마다 올리는 세대 번호 (사용자 ID 해시로 나눈 구간별, 사용자 수만큼 늘지 않도록 구간을 고정)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * @param weekSeconds   주 단위 초 (오름차순, 같으면 루틴 ID 순)
+     * @param routineIds    weekSeconds와 같은 순서의 루틴 ID
+     * @param slotsByRoutine 루틴별 주 단위 초 (오름차순)
+     */
+    private record Timeline(long expiresAt, int[] weekSeconds, UUID[] routineIds, Map<UUID, int[]> slotsByRoutine) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.SCHEDULE_TIMELINE_CHANNEL));
+    }
+
+    /**
+     * 기준 시각 이후 가장 가까운 스케줄 순으로 루틴 키를 반환한다. 커서(lastSecondsUntil, lastId)가 있으면 그 다음부터.
+     */
+    public List<RoutineUpcomingKey> findUpcoming(
+            UUID userId, LocalDateTime anchorAt, Integer lastSecondsUntil, UUID lastId, int limit) {
+        Timeline timeline = get(userId);
+        int size = timeline.weekSeconds().length;
+        if (size == 0 || limit <= 0) {
+            return List.of();
+        }
+        int anchor = weekSecond(anchorAt.getDayOfWeek().getValue() - 1, anchorAt.toLocalTime().toSecondOfDay());
+        boolean hasCursor = lastSecondsUntil != null && lastId != null;
+        int from = hasCursor ? lastSecondsUntil : 0;
+
+        // 남은 초가 from 이상인 첫 위치부터 한 바퀴 (남은 초가 from보다 작아지면 한 바퀴를 다 돈 것)
+        int start = lowerBound(timeline.weekSeconds(), (anchor + from) % SECONDS_PER_WEEK);
+        List<RoutineUpcomingKey> result = new ArrayList<>(Math.min(limit, timeline.slotsByRoutine().size()));
+        for (int i = 0; i < size && result.size() < limit; i++) {
+            int index = (start + i) % size;
+            int secondsUntil = secondsUntil(timeline.weekSeconds()[index], anchor);
+            if (secondsUntil < from) {
+                break;
+            }
+            UUID routineId = timeline.routineIds()[index];
+            if (hasCursor && secondsUntil == lastSecondsUntil && routineId.compareTo(lastId) <= 0) {
+                continue;
+            }
+            // 이 루틴의 가장 가까운 스케줄이 아니면 이미 앞에서(또는 이전 페이지에서) 나왔다
+            if (nextSecondsUntil(timeline.slotsByRoutine().get(routineId), anchor) != secondsUntil) {
+                continue;
+            }
+            result.add(new RoutineUpcomingKey(routineId, secondsUntil));
+        }
+        return result;
+    }
+
+    /**
+     * 스케줄이 하나라도 있는 활성 루틴 수
+     */
+    public int countRoutines(UUID userId) {
+        return get(userId).slotsByRoutine().size();
+    }
+
+    /**
+     * 사용자의 타임라인을 지우고 다른 노드에도 알린다.
+     */
+    public void invalidate(UUID userId) {
+        evict(userId);
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.SCHEDULE_TIMELINE_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            log.warn("스케줄 타임라인 무효화 알림 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("스케줄 타임라인 무효화 알림 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Timeline get(UUID userId) {
+        long now = System.currentTimeMillis();
+        Timeline timeline = timelines.get(userId);
+        if (timeline != null && !timeline.isExpired(now)) {
+            return timeline;
+        }
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        timeline = build(routineScheduleRepository.findActiveSlotsByUserId(userId), now + ttlMinutes * 60_000);
+        if (timelines.size() >= maxEntries) {
+            timelines.values().removeIf(entry -> entry.isExpired(now));
+        }
+        if (timelines.size() < maxEntries && generations.get(stripe) == generation) {
+            timelines.put(userId, timeline);
+            // 확인과 보관 사이에 무효화가 끼어들었으면 방금 넣은 것을 되돌린다 (무효화는 세대를 먼저 올리고 지운다)
+            if (generations.get(stripe) != generation) {
+                timelines.remove(userId, timeline);
+            }
+        }
+        return timeline;
+    }
+
+    private void evict(UUID userId) {
+        generations.incrementAndGet(stripe(userId));
+        timelines.remove(userId);
+    }
+
+    private static int stripe(UUID userId) {
+        return Math.floorMod(userId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private static Timeline build(List<RoutineScheduleSlot> slots, long expiresAt) {
+        record Slot(int weekSecond, UUID routineId) {}
+
+        List<Slot> sorted = slots.stream()
+                .map(slot -> new Slot(weekSecond(slot.getDayOfWeek().ordinal(), slot.getTime().toSecondOfDay()), slot.getRoutineId()))
+                .sorted(Comparator.comparingInt(Slot::weekSecond).thenComparing(Slot::routineId))
+                .toList();
+
+        int[] weekSeconds = new int[sorted.size()];
+        UUID[] routineIds = new UUID[sorted.size()];
+        Map<UUID, List<Integer>> grouped = new HashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            weekSeconds[i] = sorted.get(i).weekSecond();
+            routineIds[i] = sorted.get(i).routineId();
+            grouped.computeIfAbsent(routineIds[i], k -> new ArrayList<>()).add(weekSeconds[i]);
+        }
+        Map<UUID, int[]> slotsByRoutine = new HashMap<>();
+        grouped.forEach((routineId, values) -> slotsByRoutine.put(routineId, values.stream().mapToInt(Integer::intValue).toArray()));
+        return new Timeline(expiresAt, weekSeconds, routineIds, slotsByRoutine);
+    }
+
+    // 루틴의 스케줄 중 기준 시각에서 가장 가까운 것까지 남은 초
+    private static int nextSecondsUntil(int[] routineSlots, int anchor) {
+        int index = lowerBound(routineSlots, anchor);
+        return secondsUntil(routineSlots[index % routineSlots.length], anchor);
+    }
+
+    // value 이상인 첫 위치 (없으면 length)
+    private static int lowerBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int secondsUntil(int weekSecond, int anchor) {
+        return Math.floorMod(weekSecond - anchor, SECONDS_PER_WEEK);
+    }
+
+    // 월요일=0, ... 일요일=6
+    private static int weekSecond(int dayIndex, int secondOfDay) {
+        return dayIndex * 86400 + secondOfDay;
+    }
+}
@@ -0,0 +1,761 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.RoutineTagRepository;
+import com.moru.backend.domain.routine.dao.RoutineTagRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineSearchDocument;
+import com.moru.backend.domain.routine.domain.search.RoutineRangeFilter;
+import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.global.util.RedisKeyUtil;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 루틴 제목/본문에 대한 서버 내 n-gram 역색인 검색 엔진.
+ * - term(음절 2/3-gram)마다 문서 순번 오름차순 포스팅 목록을 두고, 검색어의 2-gram을 모두 포함하는 문서만 일치로 본다
+ * - 가장 짧은 포스팅 목록부터 교집합을 구하므로 전체 루틴 수가 아니라 드문 term의 길이에 비례해 검색 시간이 정해진다
+ * - 점수는 BM25 (제목 term은 가중치를 두어 센다), 정렬은 일치도/최신/인기 중 선택
+ * - 소요 시간/스텝 수 범위 조건은 후보를 모으는 단계에서 함께 걸러 페이지를 자르기 전에 반영한다
+ * - 태그마다 문서 순번 압축 비트맵(Roaring)을 두어 태그 필터는 비트맵 OR, 태그별 결과 수(facet)는 교집합 크기로 구한다
+ * - 생성/수정/삭제는 커밋 후 Redis 채널로 모든 노드에 알려 각 노드가 해당 루틴만 다시 색인한다
+ * - 삭제/수정된 문서는 자리만 비워 두고(tombstone), 서버 기동 시와 매일 밤 전체 재구성으로 정리한다
+ * - 재구성할 때마다 디스크에 스냅샷을 남겨, 다음 기동 때는 스냅샷으로 먼저 검색을 열고 재구성은 그 뒤에 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineSearchIndex implements MessageListener {
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private final RoutineRepository routineRepository;
+    private final RoutineTagRepository routineTagRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${moru.routine.search.snapshot-path:${java.io.tmpdir}/moru-routine-search-index.bin}")
+    private String snapshotPath;
+
+    // 노드 식별자 (자신이 보낸 알림을 다시 적용하지 않기 위함)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+
+    // 재구성 도중 바뀐 루틴 (새 세그먼트로 교체한 뒤 다시 색인)
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public record SearchHits(List<UUID> routineIds, long totalCount) {}
+
+    public record TagFacet(UUID tagId, long count) {}
+
+    // 커서 기반 검색 결과 한 건 (다음 커서를 만들 수 있도록 정렬 키를 함께 담는다)
+    public record KeyedHit(UUID routineId, double score, int likeCount, LocalDateTime createdAt) {}
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.ROUTINE_SEARCH_INDEX_CHANNEL));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어와 태그(하나라도 포함)로 루틴 ID 한 페이지와 전체 일치 개수를 구한다. 둘 중 하나는 있어야 한다.
+     * 인덱스가 아직 준비되지 않았거나 인덱스로 처리할 수 없는 검색어(1글자 단어 포함)면 비어 있는 Optional을 반환한다.
+     *
+     * @param keyword null이면 태그 조건만으로 검색
+     * @param tagIds  null이면 태그 조건 없음, 비어 있으면 일치하는 루틴 없음
+     * @param range   소요 시간/스텝 수 범위 (null이면 조건 없음)
+     */
+    public Optional<SearchHits> search(String keyword, Set<UUID> tagIds, RoutineRangeFilter range,
+                                       SortType sortType, int offset, int limit) {
+        Optional<Query> query = prepare(keyword, tagIds);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+        if (tagIds != null && tagIds.isEmpty()) {
+            return Optional.of(new SearchHits(List.of(), 0));
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(segment.search(query.get(), tagIds, range, sortType, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * search와 같은 조건으로, 커서(이전 페이지 마지막 항목의 정렬 키) 다음 limit개를 구한다. (전체 개수는 세지 않는다)
+     *
+     * @param cursor null이면 첫 페이지
+     */
+    public Optional<List<KeyedHit>> searchAfter(String keyword, Set<UUID> tagIds, RoutineRangeFilter range,
+                                                SortType sortType, KeyedHit cursor, int limit) {
+        Optional<Query> query = prepare(keyword, tagIds);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+        if (tagIds != null && tagIds.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(segment.searchAfter(query.get(), tagIds, range, sortType, cursor, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어(없으면 전체 루틴)에 일치하는 루틴 중 태그별 루틴 수를 많은 순으로 최대 limit개 반환한다.
+     * 선택한 태그 조건은 반영하지 않는다. (각 태그를 골랐을 때 몇 개가 나오는지를 보여주기 위함)
+     */
+    public Optional<List<TagFacet>> tagFacets(String keyword, Set<UUID> tagIds, RoutineRangeFilter range, int limit) {
+        Optional<Query> query = prepare(keyword, tagIds);
+        if (keyword != null && query.isEmpty() || !ready) {
+            return Optional.empty();
+        }
+        if (tagIds != null && tagIds.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(segment.tagFacets(query.orElse(null), tagIds, range, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 루틴 하나가 생성/수정/삭제되었음을 이 노드에 반영하고 다른 노드에 알린다. (커밋 후 호출)
+     */
+    public void publishDocumentChanged(UUID routineId) {
+        reindex(routineId);
+        publish("D|" + routineId);
+    }
+
+    /**
+     * 좋아요 수 변화를 인기순 정렬에 반영한다. DB를 다시 읽지 않고 메모리 값만 조정한다.
+     */
+    public void publishLikeDelta(UUID routineId, int delta) {
+        adjustLikeCount(routineId, delta);
+        publish("L|" + routineId + "|" + delta);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+            if (fields.length < 3 || nodeId.equals(fields[0])) {
+                return;
+            }
+            UUID routineId = UUID.fromString(fields[2]);
+            if ("D".equals(fields[1])) {
+                reindex(routineId);
+            } else if ("L".equals(fields[1]) && fields.length == 4) {
+                adjustLikeCount(routineId, Integer.parseInt(fields[3]));
+            }
+        } catch (Exception e) {
+            log.warn("검색 인덱스 변경 알림 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 디스크 스냅샷이 있으면 읽어서 바로 검색을 연다. (이후 rebuild로 최신 상태를 맞춘다)
+     * @return 스냅샷에서 읽은 루틴 수, 스냅샷이 없거나 읽을 수 없으면 -1
+     */
+    public int loadSnapshot() {
+        Path path = Path.of(snapshotPath);
+        if (ready || !Files.exists(path)) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return -1;
+            }
+            Segment loaded = Segment.readFrom(in);
+            swap(loaded);
+            return loaded.aliveCount;
+        } catch (IOException e) {
+            log.warn("검색 인덱스 스냅샷 읽기 실패: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * DB 전체로 새 세그먼트를 만들어 교체하고 스냅샷을 남긴다. 읽기 전용 트랜잭션 안에서 호출해야 한다.
+     * @return 색인한 루틴 수
+     */
+    public int rebuild() {
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            Map<UUID, List<UUID>> tagIdsByRoutine = routineTagRepository.findAllRoutineTagRows().stream()
+                    .collect(Collectors.groupingBy(RoutineTagRow::getRoutineId,
+                            Collectors.mapping(RoutineTagRow::getTagId, Collectors.toList())));
+
+            Segment built = new Segment();
+            try (Stream<RoutineSearchDocument> documents = routineRepository.streamSearchDocuments()) {
+                documents.forEach(document -> built.add(document, tagIdsByRoutine.getOrDefault(document.getId(), List.of())));
+            }
+            built.optimize();
+            writeSnapshot(built);
+
+            swap(built);
+            rebuilding = false;
+
+            for (UUID routineId : changedDuringRebuild) {
+                reindex(routineId);
+            }
+            changedDuringRebuild.clear();
+            return built.aliveCount;
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    private void swap(Segment next) {
+        lock.writeLock().lock();
+        try {
+            segment = next;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 다른 스레드가 쓰지 않는 새 세그먼트만 저장한다 (임시 파일에 쓴 뒤 교체)
+    private void writeSnapshot(Segment built) {
+        Path path = Path.of(snapshotPath);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                built.writeTo(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("검색 인덱스 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Optional<Query> prepare(String keyword, Set<UUID> tagIds) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        if (keyword == null || keyword.isBlank()) {
+            return tagIds == null ? Optional.empty() : Optional.of(Query.ALL);
+        }
+        List<String> requiredTerms = NgramTokenizer.requiredTerms(keyword);
+        if (requiredTerms == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Query(requiredTerms, NgramTokenizer.scoringTerms(keyword)));
+    }
+
+    private void reindex(UUID routineId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(routineId);
+        }
+        Optional<RoutineSearchDocument> document = routineRepository.findSearchDocumentById(routineId);
+        List<UUID> tagIds = document.isPresent() ? routineTagRepository.findTagIdsByRoutineId(routineId) : List.of();
+
+        lock.writeLock().lock();
+        try {
+            segment.remove(routineId);
+            document.ifPresent(found -> segment.add(found, tagIds));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjustLikeCount(UUID routineId, int delta) {
+        if (rebuilding) {
+            changedDuringRebuild.add(routineId);
+        }
+        lock.writeLock().lock();
+        try {
+            segment.adjustLikeCount(routineId, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.ROUTINE_SEARCH_INDEX_CHANNEL, nodeId + "|" + payload);
+        } catch (Exception e) {
+            log.warn("검색 인덱스 변경 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    // 검색어 term (ALL: 검색어 없이 전체 루틴)
+    private record Query(List<String> requiredTerms, List<String> scoringTerms) {
+        static final Query ALL = new Query(List.of(), List.of());
+    }
+
+    /**
+     * 문서 순번 오름차순의 포스팅 목록 (순번은 추가 순서대로 늘어나므로 항상 정렬 상태)
+     */
+    private static final class Postings {
+        private int[] docs;
+        private int[] freqs;
+        private int size;
+
+        Postings() {
+            this(new int[2], new int[2], 0);
+        }
+
+        Postings(int[] docs, int[] freqs, int size) {
+            this.docs = docs;
+            this.freqs = freqs;
+            this.size = size;
+        }
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        int freq(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            return index >= 0 ? freqs[index] : 0;
+        }
+    }
+
+    /**
+     * 색인 데이터 한 벌. 변경은 쓰기 락 안에서, 검색은 읽기 락 안에서만 접근한다.
+     */
+    private static final class Segment {
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<UUID, RoaringBitmap> tagBitmaps = new HashMap<>();
+        private final Object2IntOpenHashMap<UUID> ordinals = new Object2IntOpenHashMap<>();
+        private RoaringBitmap alive = new RoaringBitmap();
+        private UUID[] ids = new UUID[1024];
+        private int[] lengths = new int[1024];
+        private long[] createdAt = new long[1024];
+        private int[] likeCounts = new int[1024];
+        private long[] requiredSeconds = new long[1024]; // 소요 시간이 없으면 -1
+        private int[] stepCounts = new int[1024];
+        private UUID[][] tagIds = new UUID[1024][];
+        private int size;
+        private int aliveCount;
+        private long totalLength;
+
+        Segment() {
+            ordinals.defaultReturnValue(-1);
+        }
+
+        void add(RoutineSearchDocument document, List<UUID> documentTagIds) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            NgramTokenizer.countTerms(document.getTitle(), TITLE_WEIGHT, termFrequencies);
+            NgramTokenizer.countTerms(document.getContent(), 1, termFrequencies);
+
+            LocalDateTime created = document.getCreatedAt();
+            int doc = addDocument(
+                    document.getId(),
+                    created == null ? 0 : created.atZone(ZONE).toInstant().toEpochMilli(),
+                    document.getLikeCount() == null ? 0 : document.getLikeCount(),
+                    document.getRequiredTime() == null ? -1 : document.getRequiredTime().getSeconds(),
+                    document.getStepCount() == null ? 0 : document.getStepCount(),
+                    documentTagIds.toArray(UUID[]::new)
+            );
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+                length += entry.getValue();
+            }
+            lengths[doc] = length;
+            totalLength += length;
+        }
+
+        private int addDocument(UUID id, long createdAtMillis, int likeCount, long required, int stepCount,
+                                UUID[] documentTagIds) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+                likeCounts = Arrays.copyOf(likeCounts, capacity);
+                requiredSeconds = Arrays.copyOf(requiredSeconds, capacity);
+                stepCounts = Arrays.copyOf(stepCounts, capacity);
+                tagIds = Arrays.copyOf(tagIds, capacity);
+            }
+            int doc = size++;
+            ids[doc] = id;
+            createdAt[doc] = createdAtMillis;
+            likeCounts[doc] = likeCount;
+            requiredSeconds[doc] = required;
+            stepCounts[doc] = stepCount;
+            tagIds[doc] = documentTagIds;
+            for (UUID tagId : documentTagIds) {
+                tagBitmaps.computeIfAbsent(tagId, k -> new RoaringBitmap()).add(doc);
+            }
+            ordinals.put(id, doc);
+            alive.add(doc);
+            aliveCount++;
+            return doc;
+        }
+
+        void remove(UUID routineId) {
+            int doc = ordinals.removeInt(routineId);
+            if (doc < 0) {
+                return;
+            }
+            alive.remove(doc);
+            for (UUID tagId : tagIds[doc]) {
+                RoaringBitmap bitmap = tagBitmaps.get(tagId);
+                if (bitmap != null) {
+                    bitmap.remove(doc);
+                }
+            }
+            aliveCount--;
+            totalLength -= lengths[doc];
+        }
+
+        void adjustLikeCount(UUID routineId, int delta) {
+            int doc = ordinals.getInt(routineId);
+            if (doc >= 0) {
+                likeCounts[doc] = Math.max(0, likeCounts[doc] + delta);
+            }
+        }
+
+        // 비트맵을 run 인코딩 등으로 압축 (재구성 직후 한 번)
+        void optimize() {
+            alive.runOptimize();
+            tagBitmaps.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        SearchHits search(Query query, Set<UUID> tagFilter, RoutineRangeFilter range, SortType sortType, int offset, int limit) {
+            int wanted = offset + limit;
+            Comparator<Hit> order = comparator(sortType);
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(wanted, 1), order.reversed());
+            long[] total = {0};
+
+            boolean matched = forEachMatch(query, tagFilter, range, sortType, (doc, score) -> {
+                total[0]++;
+                offer(top, new Hit(doc, score), wanted, order);
+            });
+            if (!matched) {
+                return new SearchHits(List.of(), 0);
+            }
+
+            List<Hit> ordered = new ArrayList<>(top);
+            ordered.sort(order);
+            List<UUID> page = ordered.stream()
+                    .skip(offset)
+                    .map(hit -> ids[hit.doc()])
+                    .toList();
+            return new SearchHits(page, total[0]);
+        }
+
+        // 커서 다음의 limit개 (정렬 키 전체를 비교하므로 건너뛸 앞 페이지를 힙에 담지 않는다)
+        List<KeyedHit> searchAfter(Query query, Set<UUID> tagFilter, RoutineRangeFilter range, SortType sortType,
+                                   KeyedHit cursor, int limit) {
+            Comparator<KeyedHit> order = keyComparator(sortType);
+            PriorityQueue<KeyedHit> top = new PriorityQueue<>(Math.max(limit, 1), order.reversed());
+
+            forEachMatch(query, tagFilter, range, sortType, (doc, score) -> {
+                KeyedHit hit = new KeyedHit(ids[doc], score, likeCounts[doc], toDateTime(createdAt[doc]));
+                if (cursor != null && order.compare(hit, cursor) <= 0) {
+                    return;
+                }
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (limit > 0 && order.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            });
+
+            List<KeyedHit> ordered = new ArrayList<>(top);
+            ordered.sort(order);
+            return ordered;
+        }
+
+        List<TagFacet> tagFacets(Query query, Set<UUID> tagFilter, RoutineRangeFilter range, int limit) {
+            RoaringBitmap matches;
+            if (query == null && (range == null || range.isEmpty())) {
+                matches = alive;
+            } else if (query == null) {
+                // 검색어/태그 없이 범위 조건만 있는 경우: 살아 있는 문서를 훑으며 거른다
+                RoaringBitmap collected = new RoaringBitmap();
+                IntIterator docs = alive.getIntIterator();
+                while (docs.hasNext()) {
+                    int doc = docs.next();
+                    if (range.matches(requiredSeconds[doc], stepCounts[doc])) {
+                        collected.add(doc);
+                    }
+                }
+                matches = collected;
+            } else {
+                RoaringBitmap collected = new RoaringBitmap();
+                forEachMatch(query, tagFilter, range, SortType.LATEST, (doc, score) -> collected.add(doc));
+                matches = collected;
+            }
+            List<TagFacet> facets = new ArrayList<>();
+            for (Map.Entry<UUID, RoaringBitmap> entry : tagBitmaps.entrySet()) {
+                long count = RoaringBitmap.andCardinality(matches, entry.getValue());
+                if (count > 0) {
+                    facets.add(new TagFacet(entry.getKey(), count));
+                }
+            }
+            facets.sort(Comparator.comparingLong(TagFacet::count).reversed());
+            return facets.size() > limit ? List.copyOf(facets.subList(0, limit)) : facets;
+        }
+
+        /**
+         * 검색어/태그 조건에 일치하는 살아 있는 문서마다 (순번, BM25 점수)를 넘긴다. 점수는 일치도순일 때만 계산한다.
+         * 필수 term 중 색인에 없는 것이 있으면 아무것도 넘기지 않고 false를 반환한다.
+         */
+        private boolean forEachMatch(Query query, Set<UUID> tagFilter, RoutineRangeFilter range, SortType sortType,
+                                     MatchConsumer consumer) {
+            RoaringBitmap tagMatches = tagFilter == null ? null : union(tagFilter);
+            RoutineRangeFilter rangeFilter = range == null || range.isEmpty() ? null : range;
+            if (query == Query.ALL) {
+                // 태그 조건만 있는 검색: 태그 비트맵 OR 결과를 그대로 훑는다
+                IntIterator docs = tagMatches.getIntIterator();
+                while (docs.hasNext()) {
+                    int doc = docs.next();
+                    if (rangeFilter == null || rangeFilter.matches(requiredSeconds[doc], stepCounts[doc])) {
+                        consumer.accept(doc, 0);
+                    }
+                }
+                return true;
+            }
+            Scorer scorer = scorer(query, sortType);
+            if (scorer == null) {
+                return false;
+            }
+            candidates:
+            for (int i = 0; i < scorer.driver().size; i++) {
+                int doc = scorer.driver().docs[i];
+                if (!alive.contains(doc) || tagMatches != null && !tagMatches.contains(doc)
+                        || rangeFilter != null && !rangeFilter.matches(requiredSeconds[doc], stepCounts[doc])) {
+                    continue;
+                }
+                for (int r = 1; r < scorer.required().size(); r++) {
+                    if (scorer.required().get(r).freq(doc) == 0) {
+                        continue candidates;
+                    }
+                }
+                consumer.accept(doc, scorer.score(doc));
+            }
+            return true;
+        }
+
+        private RoaringBitmap union(Set<UUID> tagFilter) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (UUID tagId : tagFilter) {
+                RoaringBitmap bitmap = tagBitmaps.get(tagId);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                }
+            }
+            return bitmaps.isEmpty() ? new RoaringBitmap() : FastAggregation.or(bitmaps.iterator());
+        }
+
+        private static void offer(PriorityQueue<Hit> top, Hit hit, int wanted, Comparator<Hit> order) {
+            if (top.size() < wanted) {
+                top.add(hit);
+            } else if (wanted > 0 && order.compare(hit, top.peek()) < 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        // 필수 term 포스팅(짧은 순)과 BM25 계산에 필요한 값. 필수 term 중 색인에 없는 것이 있으면 null
+        private Scorer scorer(Query query, SortType sortType) {
+            List<Postings> required = new ArrayList<>(query.requiredTerms().size());
+            for (String term : query.requiredTerms()) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return null;
+                }
+                required.add(list);
+            }
+            required.sort(Comparator.comparingInt(list -> list.size));
+
+            // 점수 계산용 term의 포스팅과 idf (삭제된 문서도 df에 남지만 재구성 때 정리된다)
+            List<Postings> scoring = new ArrayList<>();
+            List<Double> idfs = new ArrayList<>();
+            if (sortType == SortType.RELEVANCE) {
+                for (String term : query.scoringTerms()) {
+                    Postings list = postings.get(term);
+                    if (list != null) {
+                        scoring.add(list);
+                        idfs.add(Math.log(1 + (aliveCount - list.size + 0.5) / (list.size + 0.5)));
+                    }
+                }
+            }
+            double averageLength = aliveCount == 0 ? 1 : Math.max(1.0, (double) totalLength / aliveCount);
+            return new Scorer(required, scoring, idfs, averageLength, lengths);
+        }
+
+        // 커서 비교용 전체 정렬 키 (마지막은 루틴 ID로 순서를 확정)
+        private static Comparator<KeyedHit> keyComparator(SortType sortType) {
+            Comparator<KeyedHit> latest = Comparator.comparing(KeyedHit::createdAt, Comparator.reverseOrder())
+                    .thenComparing(KeyedHit::routineId, Comparator.reverseOrder());
+            return switch (sortType) {
+                case POPULAR -> Comparator.comparingInt(KeyedHit::likeCount).reversed().thenComparing(latest);
+                case RELEVANCE -> Comparator.comparingDouble(KeyedHit::score).reversed().thenComparing(latest);
+                default -> latest;
+            };
+        }
+
+        private static LocalDateTime toDateTime(long epochMillis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+        }
+
+        // 앞에 올수록 작은 값 (SQL 정렬과 같은 기준: 인기순은 좋아요 수, 같으면 최신순)
+        private Comparator<Hit> comparator(SortType sortType) {
+            Comparator<Hit> latest = (a, b) -> Long.compare(createdAt[b.doc()], createdAt[a.doc()]);
+            return switch (sortType) {
+                case POPULAR -> Comparator.<Hit>comparingInt(hit -> -likeCounts[hit.doc()]).thenComparing(latest);
+                case RELEVANCE -> Comparator.comparingDouble(Hit::score).reversed().thenComparing(latest);
+                default -> latest;
+            };
+        }
+
+        // 스냅샷 형식: 문서 수 → 문서별(ID, 길이, 생성 시각, 좋아요 수, 살아 있는지, 태그 ID) → term별 포스팅
+        // 태그 비트맵과 순번 맵은 문서 목록에서 다시 만든다
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            for (int doc = 0; doc < size; doc++) {
+                writeUuid(out, ids[doc]);
+                out.writeInt(lengths[doc]);
+                out.writeLong(createdAt[doc]);
+                out.writeInt(likeCounts[doc]);
+                out.writeLong(requiredSeconds[doc]);
+                out.writeInt(stepCounts[doc]);
+                out.writeBoolean(alive.contains(doc));
+                out.writeShort(tagIds[doc].length);
+                for (UUID tagId : tagIds[doc]) {
+                    writeUuid(out, tagId);
+                }
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                Postings list = entry.getValue();
+                out.writeInt(list.size);
+                for (int i = 0; i < list.size; i++) {
+                    out.writeInt(list.docs[i]);
+                    out.writeInt(list.freqs[i]);
+                }
+            }
+        }
+
+        static Segment readFrom(DataInputStream in) throws IOException {
+            Segment loaded = new Segment();
+            int documentCount = in.readInt();
+            for (int doc = 0; doc < documentCount; doc++) {
+                UUID id = readUuid(in);
+                int length = in.readInt();
+                long created = in.readLong();
+                int likeCount = in.readInt();
+                long required = in.readLong();
+                int stepCount = in.readInt();
+                boolean isAlive = in.readBoolean();
+                UUID[] documentTagIds = new UUID[in.readShort()];
+                for (int t = 0; t < documentTagIds.length; t++) {
+                    documentTagIds[t] = readUuid(in);
+                }
+                loaded.addDocument(id, created, likeCount, required, stepCount, documentTagIds);
+                loaded.lengths[doc] = length;
+                loaded.totalLength += length;
+                if (!isAlive) {
+                    loaded.remove(id);
+                }
+            }
+            int termCount = in.readInt();
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                int listSize = in.readInt();
+                int[] docs = new int[Math.max(listSize, 2)];
+                int[] freqs = new int[Math.max(listSize, 2)];
+                for (int i = 0; i < listSize; i++) {
+                    docs[i] = in.readInt();
+                    freqs[i] = in.readInt();
+                }
+                loaded.postings.put(term, new Postings(docs, freqs, listSize));
+            }
+            loaded.optimize();
+            return loaded;
+        }
+
+        private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+
+        private static UUID readUuid(DataInputStream in) throws IOException {
+            return new UUID(in.readLong(), in.readLong());
+        }
+    }
+
+    private record Scorer(List<Postings> required, List<Postings> scoring, List<Double> idfs,
+                          double averageLength, int[] lengths) {
+        Postings driver() {
+            return required.get(0);
+        }
+
+        double score(int doc) {
+            double score = 0;
+            double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            for (int s = 0; s < scoring.size(); s++) {
+                int freq = scoring.get(s).freq(doc);
+                if (freq > 0) {
+                    score += idfs.get(s) * freq * (K1 + 1) / (freq + norm);
+                }
+            }
+            return score;
+        }
+    }
+
+    private record Hit(int doc, double score) {}
+
+    @FunctionalInterface
+    private interface MatchConsumer {
+        void accept(int doc, double score);
+    }
+}
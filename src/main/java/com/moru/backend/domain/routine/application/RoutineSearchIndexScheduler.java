@@ -0,0 +1,47 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineSearchIndexScheduler {
+    private final RoutineSearchIndex routineSearchIndex;
+
+    /**
+     * 서버 기동 시 한 번: 디스크 스냅샷으로 먼저 검색을 열고, 이어서 DB 기준으로 다시 만든다.
+     * 스케줄러 스레드에서 돌아 기동을 막지 않으며, 준비 전 검색은 DB 조회로 처리된다.
+     */
+    @Scheduled(initialDelayString = "${moru.routine.search-index.warm-up-delay-ms:0}")
+    @Transactional(readOnly = true)
+    public void warmUpRoutineSearchIndex() {
+        int loaded = routineSearchIndex.loadSnapshot();
+        if (loaded >= 0) {
+            log.info("[SearchIndexBatch] 루틴 검색 인덱스 스냅샷 적재: {}개", loaded);
+        }
+        rebuild();
+    }
+
+    /**
+     * 매일 새벽 5시에 검색 인덱스를 DB 기준으로 다시 만든다.
+     * (수정/삭제로 비워 둔 자리 정리, 놓친 변경 알림 보정)
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    @Transactional(readOnly = true)
+    public void rebuildRoutineSearchIndex() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            int routineCount = routineSearchIndex.rebuild();
+            log.info("[SearchIndexBatch] 루틴 검색 인덱스 재구성 완료: {}개", routineCount);
+        } catch (Exception e) {
+            log.warn("[SearchIndexBatch] 루틴 검색 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+}
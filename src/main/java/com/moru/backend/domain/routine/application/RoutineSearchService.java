@@ -1,44 +1,88 @@
 package com.moru.backend.domain.routine.application;
 
 import com.moru.backend.domain.log.domain.RoutineLog;
-import com.moru.backend.domain.meta.dao.TagRepository;
+import com.moru.backend.domain.meta.application.TagDictionary;
+import com.moru.backend.domain.routine.dao.routine.RoutineKeysetRow;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
-import com.moru.backend.domain.routine.dao.RoutineTagRepository;
 import com.moru.backend.domain.routine.dao.SearchHistoryRepository;
-import com.moru.backend.domain.routine.domain.Routine;
-import com.moru.backend.domain.routine.domain.search.SearchHistory;
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
+import com.moru.backend.domain.routine.application.RoutineSearchIndex.KeyedHit;
+import com.moru.backend.domain.routine.application.RoutineSearchIndex.SearchHits;
+import com.moru.backend.domain.routine.domain.search.SearchBackend;
 import com.moru.backend.domain.routine.domain.search.SearchType;
+import com.moru.backend.domain.routine.domain.search.RoutineRangeFilter;
 import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.domain.routine.domain.search.TrendWindow;
+import com.moru.backend.domain.routine.domain.search.TrendingTermType;
+import com.moru.backend.domain.routine.dto.RoutineCursor;
 import com.moru.backend.domain.routine.dto.request.RoutineSearchRequest;
 import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
 import com.moru.backend.domain.routine.dto.response.RoutineSearchResponse;
 import com.moru.backend.domain.routine.dto.response.SearchHistoryResponse;
+import com.moru.backend.domain.routine.dto.response.TagFacetResponse;
+import com.moru.backend.domain.routine.dto.response.TrendingTermResponse;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.domain.log.dao.RoutineLogRepository;
+import com.moru.backend.global.common.dto.ScrollResponse;
 import com.moru.backend.global.exception.CustomException;
 import com.moru.backend.global.exception.ErrorCode;
-import com.moru.backend.global.util.S3Service;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoutineSearchService {
     private final RoutineRepository routineRepository;
-    private final RoutineTagRepository routineTagRepository;
     private final SearchHistoryRepository searchHistoryRepository;
-    private final TagRepository tagRepository;
     private final RoutineLogRepository routineLogRepository;
-    private final RoutineQueryService routineQueryService;
-    private final S3Service s3Service;
+    private final RoutineCardLoader routineCardLoader;
+    private final RoutineSearchIndex routineSearchIndex;
+    private final TagDictionary tagDictionary;
+
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+    private final SearchHistoryStore searchHistoryStore;
+    private final TrendingTermCounter trendingTermCounter;
+    private final SearchResultCache searchResultCache;
+    private final UserEngagementCache userEngagementCache;
+
+    // 트렌드/태그 개수 조회 한 번에 돌려줄 최대 항목 수
+    private static final int MAX_TERM_LIMIT = 100;
+
+    @Value("${moru.routine.search.backend:INDEX}")
+    private SearchBackend searchBackend;
+
+    @Value("${moru.routine.search.autocomplete.limit:10}")
+    private int suggestionLimit;
+
+    // 자동완성 응답 지연 상한 (인덱스 준비 전 DB 조회가 이 시간을 넘기면 빈 목록)
+    @Value("${moru.routine.search.autocomplete.budget-ms:100}")
+    private long suggestionBudgetMs;
+
+    private final ExecutorService suggestionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    void shutdownSuggestionExecutor() {
+        suggestionExecutor.shutdown();
+    }
 
     /**
      * 루틴 검색 비즈니스 로직 수행
@@ -51,34 +95,109 @@ public class RoutineSearchService {
         // 페이징 정보 생성 (# page, size)
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
 
-        // 1단계: ID 조회 (변경된 Repository 메서드 호출)
-        Page<UUID> routineIdPage;
-        if (request.getSortType() == SortType.POPULAR) {
-            routineIdPage = routineRepository.findIdsBySearchCriteriaOrderByLikeCount(
-                    request.getTitleKeyword(),
-                    request.getTagNames(),
-                    pageable
-            );
-        } else {
-            routineIdPage = routineRepository.findIdsBySearchCriteriaOrderByCreatedAt(
-                    request.getTitleKeyword(),
-                    request.getTagNames(),
-                    pageable
-            );
-        }
+        // 1단계: ID 조회 (검색어가 있으면 검색 인덱스, 없거나 인덱스를 쓸 수 없으면 DB, 같은 조건은 잠시 캐시)
+        SearchResultCache.Key cacheKey = SearchResultCache.Key.of(request.getTitleKeyword(), request.getTagNames(),
+                request.toRangeFilter(), request.getSortType(), pageable.getPageNumber() + ":" + pageable.getPageSize());
+        Page<UUID> routineIdPage = searchResultCache.get(cacheKey, () -> findRoutineIdPage(request, pageable));
 
         List<UUID> routineIds = routineIdPage.getContent();
         if (routineIds.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        // 2단계: ID로 상세 정보 조회
-        List<Routine> sortedRoutines = routineQueryService.findAndSortRoutinesWithDetails(routineIds);
+        // 2~4단계: 상세 조회 및 DTO 변환
+        List<RoutineSearchResponse> dtoList = toSearchResponses(routineIds, user);
+
+        // 5단계: 최종 Page 객체 생성
+        return new PageImpl<>(dtoList, pageable, routineIdPage.getTotalElements());
+    }
+
+    /**
+     * 루틴 검색 무한 스크롤. searchRoutines와 같은 조건/정렬이지만 COUNT/OFFSET 없이 커서 다음 결과만 읽는다.
+     * 전체 개수가 필요 없는 깊은 스크롤(인기 태그 등)에서 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public ScrollResponse<RoutineSearchResponse, RoutineCursor> scrollRoutines(RoutineSearchRequest request, User user) {
+        int size = request.getSize();
+        RoutineCursor after = request.getCursor() == null || request.getCursor().isFirstPage() ? null : request.getCursor();
+
+        // 다음 페이지 존재 여부를 COUNT 대신 한 건 더 읽어서 판단
+        SearchResultCache.Key cacheKey = SearchResultCache.Key.of(request.getTitleKeyword(), request.getTagNames(),
+                request.toRangeFilter(), request.getSortType(), Arrays.asList(after, size));
+        List<RoutineCursor> keys = searchResultCache.get(cacheKey, () -> findRoutineKeysAfter(request, after, size + 1));
+        boolean hasNext = keys.size() > size;
+        if (hasNext) {
+            keys = keys.subList(0, size);
+        }
+        List<UUID> routineIds = keys.stream().map(RoutineCursor::routineId).toList();
+        List<RoutineSearchResponse> content = routineIds.isEmpty() ? List.of() : toSearchResponses(routineIds, user);
+        return ScrollResponse.of(content, hasNext, hasNext ? keys.getLast() : null);
+    }
+
+    // 커서 다음 결과의 정렬 키 (루틴 ID 포함, 검색어/태그가 있으면 검색 인덱스, 아니면 DB)
+    private List<RoutineCursor> findRoutineKeysAfter(RoutineSearchRequest request, RoutineCursor after, int limit) {
+        RoutineRangeFilter range = request.toRangeFilter();
+        boolean hasKeyword = StringUtils.hasText(request.getTitleKeyword());
+        boolean hasTags = request.getTagNames() != null && !request.getTagNames().isEmpty();
+        if (searchBackend == SearchBackend.INDEX && (hasKeyword || hasTags)) {
+            KeyedHit cursorHit = after == null || after.createdAt() == null ? null : new KeyedHit(
+                    after.routineId(),
+                    after.score() == null ? 0 : after.score(),
+                    after.likeCount() == null ? 0 : after.likeCount(),
+                    after.createdAt());
+            Optional<List<KeyedHit>> hits = routineSearchIndex.searchAfter(
+                    hasKeyword ? request.getTitleKeyword() : null,
+                    toTagIds(request.getTagNames()),
+                    range,
+                    request.getSortType(),
+                    cursorHit,
+                    limit
+            );
+            if (hits.isPresent()) {
+                return hits.get().stream()
+                        .map(hit -> RoutineCursor.ofScore(hit.routineId(), hit.createdAt(), hit.likeCount(), hit.score()))
+                        .toList();
+            }
+        }
+
+        // 일치도순은 검색 인덱스에서만 지원하므로 DB 검색에서는 최신순으로 처리
+        Pageable pageable = PageRequest.of(0, limit);
+        List<RoutineKeysetRow> rows = request.getSortType() == SortType.POPULAR
+                ? routineRepository.findSearchKeysOrderByLikeCount(
+                        request.getTitleKeyword(),
+                        request.getTagNames(),
+                        range.minRequiredTime(),
+                        range.maxRequiredTime(),
+                        range.minStepCount(),
+                        range.maxStepCount(),
+                        after == null ? null : after.likeCount(),
+                        after == null ? null : after.createdAt(),
+                        after == null ? null : after.routineId(),
+                        pageable)
+                : routineRepository.findSearchKeysOrderByCreatedAt(
+                        request.getTitleKeyword(),
+                        request.getTagNames(),
+                        range.minRequiredTime(),
+                        range.maxRequiredTime(),
+                        range.minStepCount(),
+                        range.maxStepCount(),
+                        after == null ? null : after.createdAt(),
+                        after == null ? null : after.routineId(),
+                        pageable);
+        return rows.stream()
+                .map(row -> RoutineCursor.ofCreatedAt(row.getId(), row.getCreatedAt(), row.getLikeCount()))
+                .toList();
+    }
+
+    // ID 순서대로 상세 정보를 조회하고 "소유주에 의해 실행 중인지"와 검색한 사용자의 좋아요/스크랩 여부를 채워 검색 응답으로 변환
+    private List<RoutineSearchResponse> toSearchResponses(List<UUID> routineIds, User user) {
+        // 2단계: ID로 카드 정보 조회 (컬럼 조회 1번 + 태그 조회 1번, 스텝/앱은 조회하지 않음)
+        List<RoutineCard> cards = routineCardLoader.loadOrderedCards(routineIds);
 
         // 3단계: "소유주에 의해 실행 중인" 루틴 정보 조회
         // 3-1. 검색된 루틴들의 소유자 ID 목록 추출
-        List<UUID> ownerIds = sortedRoutines.stream()
-                .map(routine -> routine.getUser().getId())
+        List<UUID> ownerIds = cards.stream()
+                .map(RoutineCard::ownerId)
                 .distinct()
                 .toList();
 
@@ -86,8 +205,8 @@ public class RoutineSearchService {
         List<RoutineLog> activeLogs = routineLogRepository.findActiveLogsForUsers(ownerIds);
 
         // 3-3. "소유주에 의해 실행 중인" 루틴의 ID만 필터링하여 Set으로
-        Map<UUID, UUID> routineToOwnerMap = sortedRoutines.stream()
-                .collect(Collectors.toMap(Routine::getId, r -> r.getUser().getId()));
+        Map<UUID, UUID> routineToOwnerMap = cards.stream()
+                .collect(Collectors.toMap(card -> card.response().id(), RoutineCard::ownerId));
 
         Set<UUID> runningByOwnerRoutineIds = activeLogs.stream()
                 .filter(log -> {
@@ -99,22 +218,89 @@ public class RoutineSearchService {
                 .map(log -> log.getRoutineSnapshot().getOriginalRoutineId())
                 .collect(Collectors.toSet());
 
+        // 3-4. 검색한 사용자의 좋아요/스크랩 여부 (참여 상태 캐시 한 번 조회)
+        Map<UUID, Engagement> engagements = userEngagementCache.findAll(user.getId(), routineIds);
+
         // 4단계: DTO로 변환
-        List<RoutineSearchResponse> dtoList = sortedRoutines.stream()
-                .map(routine -> {
-                    boolean isRunning = runningByOwnerRoutineIds.contains(routine.getId());
-                    RoutineListResponse routineListResponse = RoutineListResponse.fromRoutine(
-                            routine,
-                            s3Service.getImageUrl(routine.getImageUrl()),
-                            new ArrayList<>(routine.getRoutineTags()), // 이미 Fetch 되어 있음
-                            isRunning
-                    );
+        return cards.stream()
+                .map(card -> {
+                    UUID routineId = card.response().id();
+                    boolean isRunning = runningByOwnerRoutineIds.contains(routineId);
+                    Engagement engagement = engagements.getOrDefault(routineId, Engagement.NONE);
+                    RoutineListResponse routineListResponse = card.response()
+                            .withRunning(isRunning)
+                            .withEngagement(engagement.liked(), engagement.scrapped());
                     return RoutineSearchResponse.of(routineListResponse, isRunning);
                 })
                 .toList();
+    }
 
-        // 5단계: 최종 Page 객체 생성
-        return new PageImpl<>(dtoList, pageable, routineIdPage.getTotalElements());
+    private Page<UUID> findRoutineIdPage(RoutineSearchRequest request, Pageable pageable) {
+        RoutineRangeFilter range = request.toRangeFilter();
+        boolean hasKeyword = StringUtils.hasText(request.getTitleKeyword());
+        boolean hasTags = request.getTagNames() != null && !request.getTagNames().isEmpty();
+        if (searchBackend == SearchBackend.INDEX && (hasKeyword || hasTags)) {
+            Optional<SearchHits> hits = routineSearchIndex.search(
+                    hasKeyword ? request.getTitleKeyword() : null,
+                    toTagIds(request.getTagNames()),
+                    range,
+                    request.getSortType(),
+                    (int) pageable.getOffset(),
+                    pageable.getPageSize()
+            );
+            if (hits.isPresent()) {
+                return new PageImpl<>(hits.get().routineIds(), pageable, hits.get().totalCount());
+            }
+        }
+
+        // 일치도순은 검색 인덱스에서만 지원하므로 DB 검색에서는 최신순으로 처리
+        if (request.getSortType() == SortType.POPULAR) {
+            return routineRepository.findIdsBySearchCriteriaOrderByLikeCount(
+                    request.getTitleKeyword(),
+                    request.getTagNames(),
+                    range.minRequiredTime(),
+                    range.maxRequiredTime(),
+                    range.minStepCount(),
+                    range.maxStepCount(),
+                    pageable
+            );
+        }
+        return routineRepository.findIdsBySearchCriteriaOrderByCreatedAt(
+                request.getTitleKeyword(),
+                request.getTagNames(),
+                range.minRequiredTime(),
+                range.maxRequiredTime(),
+                range.minStepCount(),
+                range.maxStepCount(),
+                pageable
+        );
+    }
+
+    /**
+     * 현재 검색 결과의 태그별 루틴 수 (태그 필터 선택지에 보여줄 개수). 검색과 같은 검색어/태그/범위 조건으로 센다.
+     * 검색 인덱스가 준비되지 않았으면 빈 목록
+     */
+    public List<TagFacetResponse> getTagFacets(RoutineSearchRequest request, int limit) {
+        String keyword = StringUtils.hasText(request.getTitleKeyword()) ? request.getTitleKeyword() : null;
+        return routineSearchIndex.tagFacets(keyword, toTagIds(request.getTagNames()), request.toRangeFilter(), checkLimit(limit))
+                .orElse(List.of())
+                .stream()
+                .flatMap(facet -> tagDictionary.findNameById(facet.tagId())
+                        .map(tagName -> new TagFacetResponse(tagName, facet.count()))
+                        .stream())
+                .toList();
+    }
+
+    // 태그명 → 태그 ID (null이면 태그 조건 없음, 존재하지 않는 태그명은 일치하는 루틴이 없다)
+    private Set<UUID> toTagIds(List<String> tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return null;
+        }
+        Set<UUID> tagIds = new HashSet<>();
+        for (String tagName : tagNames) {
+            tagDictionary.findIdByName(tagName).ifPresent(tagIds::add);
+        }
+        return tagIds;
     }
 
     /**
@@ -124,15 +310,7 @@ public class RoutineSearchService {
      * @param searchType 검색 유형 (루틴명 검색 or 태그명 검색)
      * @param user       검색을 수행한 사용자 엔티티
      */
-    @Transactional
     public void saveSearchHistory(String keyword, SearchType searchType, User user) {
-//        // 디버깅을 위한 로그 추가
-//        System.out.println("=== SearchHistory 저장 디버깅 ===");
-//        System.out.println("User: " + user);
-//        System.out.println("User ID: " + (user != null ? user.getId() : "null"));
-//        System.out.println("Keyword: " + keyword);
-//        System.out.println("SearchType: " + searchType);
-
         if (user == null) {
             throw new IllegalArgumentException("사용자 정보가 null입니다.");
         }
@@ -140,52 +318,84 @@ public class RoutineSearchService {
         if (user.getId() == null) {
             throw new IllegalArgumentException("사용자 ID가 null입니다.");
         }
-        SearchHistory searchHistory = SearchHistory.builder()
-                .userId(user.getId())
-                .searchKeyword(keyword)
-                .searchType(searchType)
-                .build();
-        System.out.println("SearchHistory to save: " + searchHistory);
-        searchHistoryRepository.save(searchHistory);
-        System.out.println("SearchHistory saved successfully");
+        // 최근 기록은 Redis에 바로 반영하고, DB 저장은 대기열을 거쳐 묶음으로 처리
+        searchHistoryStore.push(user.getId(), searchType, keyword);
+        titleAutocompleteIndex.recordSearch(keyword);
+        trendingTermCounter.record(
+                searchType == SearchType.TAG_NAME ? TrendingTermType.TAG : TrendingTermType.KEYWORD, keyword);
+    }
+
+    /**
+     * 구간(1h/24h/7d) 동안 많이 검색된 루틴명 검색어
+     */
+    public List<TrendingTermResponse> getTrendingKeywords(TrendWindow window, int limit) {
+        return trendingTermCounter.findTop(TrendingTermType.KEYWORD, window, checkLimit(limit));
+    }
+
+    /**
+     * 구간(1h/24h/7d) 동안 루틴 생성/실행에 많이 쓰인 태그
+     */
+    public List<TrendingTermResponse> getTrendingTags(TrendWindow window, int limit) {
+        return trendingTermCounter.findTop(TrendingTermType.TAG, window, checkLimit(limit));
+    }
+
+    /**
+     * 1 미만은 잘못된 요청, MAX_TERM_LIMIT 초과는 상한으로 자른다
+     */
+    private int checkLimit(int limit) {
+        if (limit < 1) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        return Math.min(limit, MAX_TERM_LIMIT);
     }
 
-    @Transactional(readOnly = true)
     public List<SearchHistoryResponse> getRecentSearchHistory(User user, SearchType searchType) {
-        List<SearchHistory> histories = searchHistoryRepository
-                .findByUserIdAndSearchTypeOrderByCreatedAtDesc(user.getId(), searchType);
-        return histories.stream()
-                .limit(12) // todo : 검색기록 개수 제한 몇개인지 check 
+        return searchHistoryStore.findRecent(user.getId(), searchType).stream()
                 .map(history -> SearchHistoryResponse.builder()
-                        .id(history.getId())
-                        .searchKeyword(history.getSearchKeyword())
-                        .searchType(history.getSearchType().name())
-                        .createdAt(history.getCreatedAt())
+                        .id(history.id())
+                        .searchKeyword(history.keyword())
+                        .searchType(searchType.name())
+                        .createdAt(history.createdAt())
                         .build())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 최근 검색 기록에서 하나를 지운다. (다른 사용자의 기록 ID는 찾을 수 없으므로 HISTORY_NOT_FOUND)
+     * DB에 쌓인 같은 검색어 기록도 함께 지운다.
+     */
     @Transactional
     public void deleteSearchHistory(UUID historyId, User user) {
-        SearchHistory history = searchHistoryRepository.findById(historyId)
+        String keyword = searchHistoryStore.remove(user.getId(), SearchType.ROUTINE_NAME, historyId)
                 .orElseThrow(() -> new CustomException(ErrorCode.HISTORY_NOT_FOUND));
-
-        if (!history.getUserId().equals(user.getId())) {
-            throw new CustomException(ErrorCode.USER_NOT_MATCH);
-        }
-
-        searchHistoryRepository.delete(history);
+        searchHistoryRepository.deleteAllByKeyword(user.getId(), SearchType.ROUTINE_NAME, keyword);
     }
 
     @Transactional
     public void deleteAllSearchHistory(User user, SearchType searchType) {
-        List<SearchHistory> histories = searchHistoryRepository
-                .findByUserIdAndSearchTypeOrderByCreatedAtDesc(user.getId(), searchType);
-        searchHistoryRepository.deleteAll(histories);
+        searchHistoryStore.removeAll(user.getId(), searchType);
+        searchHistoryRepository.deleteAllByUserIdAndSearchType(user.getId(), searchType);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 루틴명 자동완성. 평소에는 메모리의 자동완성 인덱스에서 바로 답하고,
+     * 기동 직후 인덱스가 준비되기 전에만 DB 접두사 검색을 지연 상한 안에서 수행한다.
+     * 제목 중간에 들어간 검색어("아침 운동"의 "운동")는 더 이상 제안하지 않는다. (이전의 중간 일치에서 접두사 일치로 바뀜)
+     */
     public List<String> getRoutineTitleSuggestions(String keyword) {
-        return routineRepository.findTitleSuggestions(keyword);
+        if (!StringUtils.hasText(keyword)) {
+            return List.of();
+        }
+        if (titleAutocompleteIndex.isReady()) {
+            return titleAutocompleteIndex.suggest(keyword, suggestionLimit);
+        }
+        return CompletableFuture
+                .supplyAsync(() -> routineRepository.findTitleSuggestions(keyword.trim(), PageRequest.of(0, suggestionLimit)), suggestionExecutor)
+                .completeOnTimeout(List.of(), suggestionBudgetMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("루틴명 자동완성 조회 실패: {}", e.getMessage());
+                    return List.of();
+                })
+                .join();
     }
 }
@@ -0,0 +1,31 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineStepCountScheduler {
+    private final RoutineCountSynchronizer routineCountSynchronizer;
+
+    @Value("${moru.routine.count-sync.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 매일 새벽 4시 50분에 스텝 수 컬럼 검증 (검색 인덱스 재구성 전, ID 구간 단위)
+     * 컬럼 추가 전 데이터 보정은 RoutineCountBackfillMigration이 한 번만 한다.
+     */
+    @Scheduled(cron = "0 50 4 * * *")
+    public void syncStepCounts() {
+        try {
+            int updated = routineCountSynchronizer.syncStepCounts(batchSize);
+            log.info("[StepCountBatch] 루틴 스텝 수 보정: {}개", updated);
+        } catch (Exception e) {
+            log.warn("[StepCountBatch] 루틴 스텝 수 보정 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -5,11 +5,13 @@ import com.moru.backend.domain.routine.dao.RoutineStepRepository;
 import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.RoutineStep;
 import com.moru.backend.domain.routine.dto.request.RoutineStepRequest;
+import com.moru.backend.domain.routine.event.RoutineContentChangedEvent;
 import com.moru.backend.domain.routine.dto.response.RoutineStepDetailResponse;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.validator.RoutineStepValidator;
 import com.moru.backend.global.validator.RoutineValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class RoutineStepService {
     private final RoutineRepository routineRepository;
     private final RoutineStepValidator routineStepValidator;
     private final RoutineValidator routineValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 예외 : userId가 match되지 않고, 스텝의 사이즈가 초과되었을때
@@ -62,6 +65,8 @@ public class RoutineStepService {
         RoutineStep newStep = builder.build();
 
         routineStepRepository.save(newStep);
+        routineRepository.refreshStepCount(routineId);
+        eventPublisher.publishEvent(RoutineContentChangedEvent.builder().routineId(routineId).build());
         // response 응답용
         return Map.of(
                 "message", "스텝이 성공적으로 추가되었습니다.",
@@ -147,6 +152,8 @@ public class RoutineStepService {
                 routineStepRepository.save(remainingStep);
             }
         }
+        routineRepository.refreshStepCount(routineId);
+        eventPublisher.publishEvent(RoutineContentChangedEvent.builder().routineId(routineId).build());
         return Map.of("message", "스텝이 성공적으로 삭제되었습니다.");
     }
 }
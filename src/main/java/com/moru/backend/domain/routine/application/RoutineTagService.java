@@ -1,5 +1,6 @@
 package com.moru.backend.domain.routine.application;
 
+import com.moru.backend.domain.meta.application.TagDictionary;
 import com.moru.backend.domain.meta.dao.TagRepository;
 import com.moru.backend.domain.meta.domain.Tag;
 import com.moru.backend.domain.meta.dto.response.TagResponse;
@@ -12,6 +13,8 @@ import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.validator.RoutineTagValidator;
 import com.moru.backend.global.validator.RoutineValidator;
 import lombok.RequiredArgsConstructor;
+import com.moru.backend.domain.routine.event.RoutineTagsChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +28,11 @@ public class RoutineTagService {
     private final RoutineTagRepository routineTagRepository;
     private final RoutineRepository routineRepository;
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final RoutineValidator routineValidator;
     private final RoutineTagValidator routineTagValidator;
+    private final TagCooccurrenceService tagCooccurrenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public List<TagResponse> addTagsToRoutine(UUID routineId, RoutineTagConnectRequest request, User currentUser) {
@@ -35,7 +41,8 @@ public class RoutineTagService {
         routineTagValidator.validateBatchTagConnect(routine, tagIds);
 
         for (UUID tagId : tagIds) {
-            Tag tag = tagRepository.findById(tagId).get();
+            // 존재 여부는 위에서 검증했으므로 조회 없이 참조만 사용
+            Tag tag = tagRepository.getReferenceById(tagId);
             RoutineTag routineTag = RoutineTag.builder()
                     .routine(routine)
                     .tag(tag)
@@ -45,8 +52,20 @@ public class RoutineTagService {
 
         // 루틴에 연결된 모든 태그 반환
         List<RoutineTag> routineTags = routineTagRepository.findByRoutine(routine);
+
+        // 태그 쌍 동시 등장 횟수 갱신 (추가 전 = 현재 태그 - 이번에 추가한 태그)
+        List<UUID> afterTagIds = routineTags.stream()
+                .map(routineTag -> routineTag.getTag().getId())
+                .toList();
+        List<UUID> beforeTagIds = afterTagIds.stream()
+                .filter(id -> !tagIds.contains(id))
+                .toList();
+        tagCooccurrenceService.applyTagChange(beforeTagIds, afterTagIds);
+        eventPublisher.publishEvent(RoutineTagsChangedEvent.builder().routineId(routineId).build());
+
         return routineTags.stream()
-                .map(routineTag -> TagResponse.from(routineTag.getTag()))
+                .map(routineTag -> tagDictionary.findById(routineTag.getTag().getId())
+                        .orElseGet(() -> TagResponse.from(routineTag.getTag())))
                 .collect(Collectors.toList());
     }
 
@@ -64,6 +83,16 @@ public class RoutineTagService {
         Routine routine = routineValidator.validateRoutineAndUserPermission(routineId, currentUser);
         // 현재 루틴에 해당 태그가 있는지 확인
         RoutineTag routineTag = routineTagValidator.validateRoutineTagExists(routine, tagId);
+
+        List<UUID> beforeTagIds = routineTagRepository.findByRoutine(routine).stream()
+                .map(rt -> rt.getTag().getId())
+                .toList();
+        List<UUID> afterTagIds = beforeTagIds.stream()
+                .filter(id -> !id.equals(tagId))
+                .toList();
+
         routineTagRepository.delete(routineTag);
+        tagCooccurrenceService.applyTagChange(beforeTagIds, afterTagIds);
+        eventPublisher.publishEvent(RoutineTagsChangedEvent.builder().routineId(routineId).build());
     }
 }
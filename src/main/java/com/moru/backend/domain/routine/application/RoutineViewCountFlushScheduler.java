@@ -0,0 +1,52 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.CounterFlushBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineViewCountFlushScheduler {
+    private final RoutineViewCounter routineViewCounter;
+    private final CounterFlushBatchRepository counterFlushBatchRepository;
+
+    // UPDATE 한 번에 반영할 루틴 수
+    @Value("${moru.routine.view.flush-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Redis에 모인 조회수 증가분을 DB에 묶음으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${moru.routine.view.flush-ms:10000}")
+    public void flushViewCounts() {
+        try {
+            int routineCount = routineViewCounter.flush(batchSize);
+            if (routineCount > 0) {
+                log.debug("[ViewCountBatch] 루틴 {}개 조회수 반영", routineCount);
+            }
+        } catch (Exception e) {
+            log.warn("[ViewCountBatch] 조회수 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 50분에 하루가 지난 카운터 반영 배치 기록을 지운다. (중복 반영 확인은 직전 배치에만 필요)
+     */
+    @Scheduled(cron = "0 50 4 * * *")
+    @Transactional
+    public void pruneFlushBatches() {
+        try {
+            int deleted = counterFlushBatchRepository.deleteAppliedBefore(LocalDateTime.now().minusDays(1));
+            log.info("[ViewCountBatch] 카운터 반영 배치 기록 정리: {}개", deleted);
+        } catch (Exception e) {
+            log.warn("[ViewCountBatch] 카운터 반영 배치 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.CounterFlushBatchRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 루틴 조회수를 Redis에서 모았다가 DB에 묶음으로 반영한다.
+ * - 중복 제거: 루틴별·구간별 HyperLogLog에 조회자 ID를 PFADD (처음 본 조회자일 때만 1 증가)
+ * - 누적: 증가분은 HASH(routine:view:pending)에 HINCRBY, 조회 요청은 DB 행 락을 잡지 않는다
+ * - 반영: 락을 잡은 노드 하나가 대기 HASH를 처리용 키로 RENAME해 가져간 뒤, N개 루틴씩 UPDATE 한 번으로 더한다
+ * 처리용 키는 노드와 무관한 하나뿐이라, 반영 도중 죽은 노드가 남긴 키도 다음에 락을 잡은 노드가 이어서 처리한다.
+ * 처리용 키에 배치 ID를 붙여 DB에 반영 기록을 남기므로, 키 삭제가 실패해도 같은 배치를 두 번 더하지 않는다.
+ * HyperLogLog 특성상 드물게 새 조회자를 중복으로 판단해 조회수가 조금 적게 셀 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineViewCounter {
+    // 처음 본 조회자면 구간 키 만료를 걸고 대기 증가분을 1 올린다
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local added = redis.call('PFADD', KEYS[1], ARGV[1])
+            if added == 1 then
+                redis.call('EXPIRE', KEYS[1], tonumber(ARGV[2]))
+                redis.call('HINCRBY', KEYS[2], ARGV[3], 1)
+            end
+            return added
+            """, Long.class);
+
+    // 대기 HASH가 있으면 처리용 키로 옮기고 배치 ID를 붙인다 (이전에 실패해서 남은 처리용 키가 있으면 그것부터)
+    private static final DefaultRedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return false
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('HGET', KEYS[2], ARGV[1])
+            """, String.class);
+
+    private static final String BATCH_FIELD = "_batch";
+
+    private final RoutineRepository routineRepository;
+    private final CounterFlushBatchRepository counterFlushBatchRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final PlatformTransactionManager transactionManager;
+
+    // 같은 사용자의 재조회를 한 번으로 보는 구간
+    @Value("${moru.routine.view.window-minutes:1}")
+    private long windowMinutes;
+
+    // 반영 락 유지 시간 (한 번의 반영이 이보다 오래 걸리면 다른 노드가 같은 배치를 잡을 수 있으나, 배치 기록으로 한 번만 더해진다)
+    @Value("${moru.routine.view.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    // 노드 식별자 (락 소유자 확인용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 조회 한 건을 기록한다.
+     * @return 이번 구간에서 처음 본 조회자라 조회수가 늘었으면 true (Redis 장애 시 false)
+     */
+    public boolean recordView(UUID routineId, UUID viewerId) {
+        long windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        long window = System.currentTimeMillis() / windowMillis;
+        try {
+            Long added = redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(RedisKeyUtil.routineViewWindowKey(routineId, window), RedisKeyUtil.ROUTINE_VIEW_PENDING),
+                    viewerId.toString(),
+                    Long.toString(Duration.ofMillis(windowMillis * 2).toSeconds()),
+                    routineId.toString());
+            return Long.valueOf(1).equals(added);
+        } catch (Exception e) {
+            log.warn("조회수 기록 실패: routineId={}, {}", routineId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 쌓인 증가분을 batchSize개 루틴씩 묶어 DB에 반영한다. 모두 반영한 뒤에만 처리용 키를 지우므로,
+     * 중간에 실패하면 다음 주기에 같은 배치를 다시 시도한다. (한 트랜잭션이라 일부만 반영되지 않음)
+     * 다른 노드가 반영 중이면 건너뛴다.
+     * @return 반영한 루틴 수
+     */
+    public int flush(int batchSize) {
+        if (!redisLock.tryLock(RedisKeyUtil.ROUTINE_VIEW_FLUSH_LOCK, nodeId, Duration.ofMillis(lockTtlMs))) {
+            return 0;
+        }
+        try {
+            return flushLocked(batchSize);
+        } finally {
+            redisLock.unlock(RedisKeyUtil.ROUTINE_VIEW_FLUSH_LOCK, nodeId);
+        }
+    }
+
+    private int flushLocked(int batchSize) {
+        String processingKey = RedisKeyUtil.ROUTINE_VIEW_PROCESSING;
+        String batchId = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(RedisKeyUtil.ROUTINE_VIEW_PENDING, processingKey),
+                BATCH_FIELD, UUID.randomUUID().toString());
+        if (batchId == null) {
+            return 0;
+        }
+        Map<Object, Object> pending = redisTemplate.opsForHash().entries(processingKey);
+        Map<UUID, Long> increments = new LinkedHashMap<>();
+        pending.forEach((field, value) -> {
+            if (BATCH_FIELD.equals(field.toString())) {
+                return;
+            }
+            long count = Long.parseLong(value.toString());
+            if (count > 0) {
+                increments.put(UUID.fromString(field.toString()), count);
+            }
+        });
+
+        List<Map.Entry<UUID, Long>> entries = new ArrayList<>(increments.entrySet());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                counterFlushBatchRepository.insertBatch(batchId);
+                for (int from = 0; from < entries.size(); from += batchSize) {
+                    List<Map.Entry<UUID, Long>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+                    Map<UUID, Long> batch = new LinkedHashMap<>();
+                    chunk.forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+                    routineRepository.incrementViewCounts(batch);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 배치 기록이 이미 있을 때만 지난 주기에 반영하고 키 삭제만 실패한 배치다
+            // 그 밖의 무결성 오류면 처리용 키를 남겨 다음 주기에 같은 배치를 다시 시도한다
+            if (!counterFlushBatchRepository.existsById(batchId)) {
+                log.warn("조회수 배치 반영 실패, 다음 주기에 다시 시도: batchId={}, {}", batchId, e.getMessage());
+                return 0;
+            }
+            log.info("이미 반영된 조회수 배치 건너뜀: batchId={}", batchId);
+        }
+        redisTemplate.delete(processingKey);
+        return increments.size();
+    }
+}
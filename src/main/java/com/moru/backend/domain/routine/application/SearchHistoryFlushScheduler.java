@@ -0,0 +1,43 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchHistoryFlushScheduler {
+    private final SearchHistoryStore searchHistoryStore;
+
+    @Value("${moru.routine.search.history.flush-batch-size:500}")
+    private int batchSize;
+
+    // 한 주기에 꺼낼 최대 묶음 수 (밀린 대기열이 한 주기를 오래 붙잡지 않도록)
+    @Value("${moru.routine.search.history.flush-max-batches:20}")
+    private int maxBatches;
+
+    /**
+     * 검색 기록 DB 적재 대기열을 묶음 단위로 비운다. (여러 노드가 동시에 돌아도 RPOP이라 같은 항목을 두 번 저장하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${moru.routine.search.history.flush-ms:5000}")
+    public void flushSearchHistory() {
+        int saved = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                int count = searchHistoryStore.flushPending(batchSize);
+                saved += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[SearchHistoryBatch] 검색 기록 저장 실패: {}", e.getMessage());
+        }
+        if (saved > 0) {
+            log.debug("[SearchHistoryBatch] 검색 기록 {}건 저장", saved);
+        }
+    }
+}
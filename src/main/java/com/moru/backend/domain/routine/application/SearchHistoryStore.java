@@ -0,0 +1,245 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.SearchHistoryRepository;
+import com.moru.backend.domain.routine.domain.search.SearchHistory;
+import com.moru.backend.domain.routine.domain.search.SearchType;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 사용자별 최근 검색 기록을 Redis 리스트(최신이 앞)에 최대 N개만 보관한다.
+ * - 저장: 같은 검색어를 지우고 LPUSH + LTRIM (Lua 한 번), 동시에 DB 적재 대기열에 넣는다
+ * - 조회: LRANGE 한 번 (키가 없으면 DB의 최근 기록으로 채운다, DB에도 없으면 빈 표시를 넣어 매번 DB를 읽지 않는다)
+ * - 삭제: 리스트와 함께 대기열에서 아직 저장되지 않은 같은 기록도 지운다 (지운 기록이 나중에 DB에 다시 생기지 않도록)
+ * - search_history 테이블(통계용)은 스케줄러가 대기열을 묶음으로 꺼내 저장한다 (검색 요청은 DB 쓰기를 기다리지 않음)
+ * 리스트 항목은 "epochMillis|검색어", 대기열 항목은 "userId|검색 유형|epochMillis|검색어" 형태다.
+ * 기록 ID는 (사용자, 유형, 검색어)에서 만든 이름 기반 UUID라 따로 저장하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchHistoryStore {
+    private static final String FIELD_DELIMITER = "|";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 기록이 없는 사용자 표시 (구분자가 없어 parse에서 걸러진다)
+    private static final String EMPTY_MARKER = "-";
+
+    // 같은 검색어 항목과 빈 표시 제거 → 맨 앞에 추가 → 개수 제한 → 만료 갱신 → DB 적재 대기열에 추가
+    private static final DefaultRedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('LRANGE', KEYS[1], 0, -1)
+            for _, entry in ipairs(entries) do
+                local sep = string.find(entry, '|', 1, true)
+                if sep and string.sub(entry, sep + 1) == ARGV[1] then
+                    redis.call('LREM', KEYS[1], 0, entry)
+                end
+            end
+            redis.call('LREM', KEYS[1], 0, ARGV[6])
+            redis.call('LPUSH', KEYS[1], ARGV[2])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[3]) - 1)
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+            redis.call('LPUSH', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // 대기열에서 "userId|검색 유형|" 로 시작하는 항목 중 검색어가 같은 것(ARGV[3] == '1'이면 전부)을 지운다
+    private static final DefaultRedisScript<Long> PURGE_PENDING_SCRIPT = new DefaultRedisScript<>("""
+            local prefix = ARGV[1]
+            local removed = 0
+            for _, entry in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                if string.sub(entry, 1, #prefix) == prefix then
+                    local matched = ARGV[3] == '1'
+                    if not matched then
+                        local sep = string.find(entry, '|', #prefix + 1, true)
+                        matched = sep ~= nil and string.sub(entry, sep + 1) == ARGV[2]
+                    end
+                    if matched then
+                        removed = removed + redis.call('LREM', KEYS[1], 0, entry)
+                    end
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${moru.routine.search.history.size:12}")
+    private int historySize;
+
+    @Value("${moru.routine.search.history.ttl-days:90}")
+    private long ttlDays;
+
+    private TransactionTemplate transaction;
+
+    public record HistoryEntry(UUID id, String keyword, LocalDateTime createdAt) {}
+
+    @PostConstruct
+    void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 최근 검색 기록에 추가하고 DB 적재 대기열에 넣는다. Redis를 쓸 수 없으면 DB에 바로 저장한다.
+     */
+    public void push(UUID userId, SearchType searchType, String keyword) {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.execute(PUSH_SCRIPT,
+                    List.of(RedisKeyUtil.searchHistoryKey(userId, searchType), RedisKeyUtil.SEARCH_HISTORY_PENDING),
+                    keyword,
+                    now + FIELD_DELIMITER + keyword,
+                    Integer.toString(historySize),
+                    Long.toString(Duration.ofDays(ttlDays).toSeconds()),
+                    userId + FIELD_DELIMITER + searchType + FIELD_DELIMITER + now + FIELD_DELIMITER + keyword,
+                    EMPTY_MARKER);
+        } catch (Exception e) {
+            log.warn("검색 기록 Redis 저장 실패, DB에 직접 저장: userId={}, {}", userId, e.getMessage());
+            searchHistoryRepository.save(SearchHistory.builder()
+                    .userId(userId)
+                    .searchKeyword(keyword)
+                    .searchType(searchType)
+                    .build());
+        }
+    }
+
+    /**
+     * 최근 검색 기록 (최신순, 최대 N개). Redis에 없으면 DB의 최근 기록으로 채워서 반환한다.
+     */
+    public List<HistoryEntry> findRecent(UUID userId, SearchType searchType) {
+        String key = RedisKeyUtil.searchHistoryKey(userId, searchType);
+        try {
+            List<String> raw = redisTemplate.opsForList().range(key, 0, historySize - 1);
+            if (raw != null && !raw.isEmpty()) {
+                // 빈 표시는 parse에서 걸러져 빈 목록이 된다
+                return raw.stream()
+                        .map(entry -> parse(userId, searchType, entry))
+                        .filter(Objects::nonNull)
+                        .toList();
+            }
+        } catch (Exception e) {
+            log.warn("검색 기록 Redis 조회 실패, DB에서 조회: userId={}, {}", userId, e.getMessage());
+            return loadFromDatabase(userId, searchType);
+        }
+
+        List<HistoryEntry> loaded = loadFromDatabase(userId, searchType);
+        List<String> values = loaded.isEmpty()
+                ? List.of(EMPTY_MARKER)
+                : loaded.stream()
+                        .map(entry -> toEpochMillis(entry.createdAt()) + FIELD_DELIMITER + entry.keyword())
+                        .toList();
+        redisTemplate.opsForList().rightPushAll(key, values);
+        redisTemplate.expire(key, Duration.ofDays(ttlDays));
+        return loaded;
+    }
+
+    /**
+     * 기록 하나를 지우고 지운 검색어를 반환한다. 해당 ID의 기록이 없으면 비어 있는 Optional
+     */
+    public Optional<String> remove(UUID userId, SearchType searchType, UUID historyId) {
+        String key = RedisKeyUtil.searchHistoryKey(userId, searchType);
+        List<String> raw = Optional.ofNullable(redisTemplate.opsForList().range(key, 0, -1)).orElse(List.of());
+        for (String entry : raw) {
+            HistoryEntry parsed = parse(userId, searchType, entry);
+            if (parsed != null && parsed.id().equals(historyId)) {
+                redisTemplate.opsForList().remove(key, 0, entry);
+                purgePending(userId, searchType, parsed.keyword(), false);
+                return Optional.of(parsed.keyword());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void removeAll(UUID userId, SearchType searchType) {
+        redisTemplate.delete(RedisKeyUtil.searchHistoryKey(userId, searchType));
+        purgePending(userId, searchType, "", true);
+    }
+
+    /**
+     * DB 적재 대기열에서 최대 batchSize개를 꺼내 한 트랜잭션으로 저장한다. 저장에 실패하면 꺼낸 항목을 대기열에 되돌린다.
+     * @return 저장한 기록 수
+     */
+    public int flushPending(int batchSize) {
+        List<String> drained = redisTemplate.opsForList().rightPop(RedisKeyUtil.SEARCH_HISTORY_PENDING, batchSize);
+        if (drained == null || drained.isEmpty()) {
+            return 0;
+        }
+        List<SearchHistory> histories = new ArrayList<>(drained.size());
+        for (String entry : drained) {
+            String[] fields = entry.split("\\|", 4);
+            if (fields.length != 4) {
+                continue;
+            }
+            try {
+                histories.add(SearchHistory.builder()
+                        .userId(UUID.fromString(fields[0]))
+                        .searchType(SearchType.valueOf(fields[1]))
+                        .searchKeyword(fields[3])
+                        .createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(fields[2])), ZONE))
+                        .build());
+            } catch (IllegalArgumentException e) {
+                log.warn("검색 기록 대기열 항목 무시: {}", entry);
+            }
+        }
+        try {
+            transaction.executeWithoutResult(status -> searchHistoryRepository.saveAll(histories));
+        } catch (Exception e) {
+            // 꺼낸 쪽(오른쪽)으로 되돌려 다음 주기에 가장 먼저 다시 저장한다
+            redisTemplate.opsForList().rightPushAll(RedisKeyUtil.SEARCH_HISTORY_PENDING, drained.reversed());
+            throw e;
+        }
+        return histories.size();
+    }
+
+    // 아직 DB에 저장되지 않은 기록도 지운다 (이미 꺼내 저장 중인 묶음은 막지 못함)
+    private void purgePending(UUID userId, SearchType searchType, String keyword, boolean all) {
+        redisTemplate.execute(PURGE_PENDING_SCRIPT, List.of(RedisKeyUtil.SEARCH_HISTORY_PENDING),
+                userId + FIELD_DELIMITER + searchType + FIELD_DELIMITER, keyword, all ? "1" : "0");
+    }
+
+    private List<HistoryEntry> loadFromDatabase(UUID userId, SearchType searchType) {
+        // 같은 검색어는 가장 최근 것만 남긴다 (넉넉히 읽어서 중복 제거)
+        Map<String, LocalDateTime> latestByKeyword = new LinkedHashMap<>();
+        searchHistoryRepository.findRecentByUserIdAndSearchType(userId, searchType, PageRequest.of(0, historySize * 4))
+                .forEach(history -> latestByKeyword.putIfAbsent(history.getSearchKeyword(), history.getCreatedAt()));
+        return latestByKeyword.entrySet().stream()
+                .limit(historySize)
+                .map(entry -> new HistoryEntry(historyId(userId, searchType, entry.getKey()), entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private HistoryEntry parse(UUID userId, SearchType searchType, String entry) {
+        int sep = entry.indexOf(FIELD_DELIMITER);
+        if (sep < 0) {
+            return null;
+        }
+        String keyword = entry.substring(sep + 1);
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(entry.substring(0, sep))), ZONE);
+        return new HistoryEntry(historyId(userId, searchType, keyword), keyword, createdAt);
+    }
+
+    private static UUID historyId(UUID userId, SearchType searchType, String keyword) {
+        return UUID.nameUUIDFromBytes((userId + FIELD_DELIMITER + searchType + FIELD_DELIMITER + keyword)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,112 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.domain.search.RoutineRangeFilter;
+import com.moru.backend.domain.routine.domain.search.SortType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 루틴 검색의 ID 조회 결과를 노드 메모리에 짧게 보관한다. (루틴 상세/실행 중 여부는 캐시하지 않고 요청마다 채운다)
+ * - 키: 정규화한 (검색어, 정렬된 태그 목록, 범위 조건, 정렬 방식, 페이지 위치/커서)
+ * - 같은 키의 캐시 미스가 동시에 들어오면 먼저 온 요청 하나만 조회하고 나머지는 그 결과를 기다린다 (single-flight)
+ * - 조회(loader)는 먼저 온 요청의 스레드와 트랜잭션 안에서 실행된다. 기다리는 요청도 자기 트랜잭션(커넥션)을 잡고 있으므로
+ *   wait-timeout-ms까지만 기다리고, 넘으면 직접 조회한다.
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    @Value("${moru.routine.search.result-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${moru.routine.search.result-cache.ttl-ms:10000}")
+    private long ttlMs;
+
+    // 보관할 최대 키 수 (넘으면 만료된 항목부터 정리하고, 그래도 넘으면 새 결과는 보관하지 않는다)
+    @Value("${moru.routine.search.result-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 먼저 온 요청의 조회를 기다리는 최대 시간
+    @Value("${moru.routine.search.result-cache.wait-timeout-ms:1000}")
+    private long waitTimeoutMs;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param position 페이지 위치("page:size") 또는 커서 (equals로 비교)
+     */
+    public record Key(String keyword, List<String> tagNames, RoutineRangeFilter range, SortType sortType, Object position) {
+        public static Key of(String keyword, List<String> tagNames, RoutineRangeFilter range, SortType sortType, Object position) {
+            String normalizedKeyword = keyword == null || keyword.isBlank()
+                    ? null
+                    : keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            List<String> sortedTags = tagNames == null || tagNames.isEmpty()
+                    ? null
+                    : tagNames.stream().map(String::trim).distinct().sorted().toList();
+            return new Key(normalizedKeyword, sortedTags, range == null || range.isEmpty() ? null : range, sortType, position);
+        }
+    }
+
+    private record Entry(long expiresAt, CompletableFuture<Object> result) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없으면 loader를 호출한 스레드에서 바로 조회해 보관한다.
+     * (조회는 호출한 요청의 트랜잭션 안에서 실행된다, 별도 트랜잭션을 열지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        Entry existing = entries.get(key);
+        if (existing == null || existing.isExpired(now)) {
+            if (entries.size() >= maxEntries) {
+                evictExpired(now);
+            }
+            Entry created = new Entry(now + ttlMs, new CompletableFuture<>());
+            Entry winner = entries.size() >= maxEntries
+                    ? created
+                    : entries.compute(key, (k, current) -> current == null || current.isExpired(now) ? created : current);
+            if (winner == created) {
+                return load(key, created, loader);
+            }
+            existing = winner;
+        }
+        try {
+            // 공유 future에 직접 시간 제한을 걸면 다른 대기자까지 실패하므로 복사본에 건다
+            return (T) existing.result().copy().orTimeout(waitTimeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            // 먼저 조회하던 요청이 실패했거나 너무 오래 걸리면 직접 조회한다
+            return loader.get();
+        }
+    }
+
+    private <T> T load(Key key, Entry entry, Supplier<T> loader) {
+        try {
+            T value = loader.get();
+            entry.result().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+}
@@ -0,0 +1,286 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.RoutineTagRepository;
+import com.moru.backend.domain.routine.dao.RoutineTagRow;
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴별 유사 루틴 상위 K개를 미리 계산해 Redis에 저장한다.
+ * - 유사도: 태그 집합의 Jaccard (|A∩B| / |A∪B|), 같으면 최신 루틴 우선
+ * - 저장 형태: routine:similar:{routineId} = "routineId|ownerId|score,..." (점수 내림차순)
+ * - 전체 재계산은 배치로, 태그가 바뀐 루틴은 자신과 이웃 목록만 백그라운드에서 다시 계산
+ * - 부분 갱신도 배치와 같이 태그 하나당 최신 maxRoutinesPerTag개만 후보로 읽는다
+ * - 목록 읽고-고쳐-쓰기는 루틴별 락을 잡고 하므로, 동시에 도는 부분 갱신끼리 서로의 변경을 덮어쓰지 않는다
+ * - 키에는 TTL을 걸고 배치 재계산 때 갱신한다 (삭제된 루틴의 목록이 남지 않도록)
+ * 상세 조회에서는 본인 루틴을 목록에서 바로 걸러내고 필요한 개수만 조회한다.
+ * 아직 계산되지 않은 루틴은 조회 요청에서 계산하지 않고 백그라운드로 넘긴다. (조회 요청이 Redis에 쓰지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarRoutineIndex {
+    private static final String ENTRY_DELIMITER = ",";
+    private static final String FIELD_DELIMITER = "|";
+
+    private final RoutineTagRepository routineTagRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+
+    // 루틴별로 보관할 유사 루틴 개수
+    @Value("${moru.routine.recommend.similar-fetch-size}")
+    private int indexSize;
+
+    // 배치 재계산/부분 갱신에서 태그 하나당 비교 후보로 삼는 최신 루틴 수 (인기 태그의 제곱 비용을 막는다)
+    @Value("${moru.routine.recommend.similar.max-routines-per-tag:1000}")
+    private int maxRoutinesPerTag;
+
+    @Value("${moru.routine.recommend.similar.ttl-hours:72}")
+    private long ttlHours;
+
+    // 루틴별 목록 락 유지 시간 / 락 대기 횟수 (대기 간격 50ms)
+    @Value("${moru.routine.recommend.similar.lock-ttl-ms:5000}")
+    private long lockTtlMs;
+
+    @Value("${moru.routine.recommend.similar.lock-attempts:40}")
+    private int lockAttempts;
+
+    // 태그 변경/조회 시점에 없던 목록을 백그라운드에서 계산 (대기 중인 루틴은 한 번만 대기열에 올린다)
+    private final ExecutorService patchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<UUID> pendingPatches = ConcurrentHashMap.newKeySet();
+
+    public record SimilarEntry(UUID routineId, UUID ownerId, double score) {}
+
+    // 계산 중에만 쓰는 루틴 정보
+    private record RoutineTags(UUID ownerId, LocalDateTime createdAt, Set<UUID> tagIds) {}
+
+    @PreDestroy
+    void shutdownPatchExecutor() {
+        patchExecutor.shutdown();
+    }
+
+    /**
+     * 저장된 유사 루틴 ID를 유사도 순으로 반환한다.
+     * 아직 계산된 적이 없으면 계산을 백그라운드로 예약하고 비어 있는 Optional을 반환한다. (호출하는 쪽에서 대체 조회)
+     */
+    public Optional<List<UUID>> findSimilarRoutineIds(UUID routineId, UUID excludeOwnerId, int limit) {
+        List<SimilarEntry> entries = read(routineId);
+        if (entries == null) {
+            schedulePatch(routineId);
+            return Optional.empty();
+        }
+        return Optional.of(entries.stream()
+                .filter(entry -> !entry.ownerId().equals(excludeOwnerId))
+                .limit(limit)
+                .map(SimilarEntry::routineId)
+                .toList());
+    }
+
+    /**
+     * 루틴 목록 재계산을 백그라운드로 예약한다. 이미 대기 중이면 그 실행이 최신 태그를 읽으므로 다시 올리지 않는다.
+     * (실행이 시작되면 대기 표시를 지우므로, 실행 중에 들어온 변경은 다음 실행으로 다시 예약된다)
+     */
+    public void schedulePatch(UUID routineId) {
+        if (!pendingPatches.add(routineId)) {
+            return;
+        }
+        patchExecutor.execute(() -> {
+            pendingPatches.remove(routineId);
+            try {
+                patch(routineId);
+            } catch (Exception e) {
+                log.warn("유사 루틴 목록 계산 실패: routineId={}, {}", routineId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 태그가 바뀐(또는 삭제된) 루틴의 목록을 다시 계산하고, 영향을 받는 이웃 루틴 목록에서 이 루틴의 점수를 갱신한다.
+     * 이웃은 변경 전/후 목록에 있던 루틴으로 한정하며, 그 밖의 차이는 배치 재계산에서 맞춘다.
+     */
+    List<SimilarEntry> patch(UUID routineId) {
+        Map<UUID, RoutineTags> candidates = groupByRoutine(routineTagRepository.findRoutineTagRowsByRoutineIds(candidateIds(routineId)));
+        RoutineTags self = candidates.remove(routineId);
+        List<SimilarEntry> after = self == null
+                ? List.of()
+                : topK(routineId, self.tagIds(), candidates, indexSize);
+
+        List<SimilarEntry> before = withKeyLock(routineId, () -> {
+            List<SimilarEntry> previous = Optional.ofNullable(read(routineId)).orElse(List.of());
+            if (self == null) {
+                redisTemplate.delete(RedisKeyUtil.similarRoutineKey(routineId));
+            } else {
+                write(routineId, after);
+            }
+            return previous;
+        });
+
+        Map<UUID, Double> newScores = after.stream()
+                .collect(Collectors.toMap(SimilarEntry::routineId, SimilarEntry::score));
+        Set<UUID> neighbours = new HashSet<>(newScores.keySet());
+        before.forEach(entry -> neighbours.add(entry.routineId()));
+        for (UUID neighbourId : neighbours) {
+            Double score = newScores.get(neighbourId);
+            SimilarEntry selfEntry = self == null || score == null ? null : new SimilarEntry(routineId, self.ownerId(), score);
+            try {
+                updateNeighbour(neighbourId, routineId, selfEntry);
+            } catch (Exception e) {
+                log.warn("이웃 유사 루틴 목록 갱신 실패: routineId={}, neighbourId={}, {}", routineId, neighbourId, e.getMessage());
+            }
+        }
+        return after;
+    }
+
+    /**
+     * 모든 루틴의 유사 루틴 목록을 다시 계산한다.
+     * 태그별 루틴 목록(역색인)을 만들어 같은 태그를 가진 루틴끼리만 비교하며,
+     * 태그 하나당 후보는 최신 maxRoutinesPerTag개로 제한한다. (비교 횟수가 루틴 수 * 태그 수 * 상한을 넘지 않음)
+     */
+    public int rebuild() {
+        Map<UUID, RoutineTags> routines = groupByRoutine(routineTagRepository.findAllRoutineTagRows());
+
+        Map<UUID, List<UUID>> routinesByTag = new HashMap<>();
+        routines.forEach((routineId, info) ->
+                info.tagIds().forEach(tagId -> routinesByTag.computeIfAbsent(tagId, k -> new ArrayList<>()).add(routineId)));
+        routinesByTag.replaceAll((tagId, routineIds) -> routineIds.size() <= maxRoutinesPerTag
+                ? routineIds
+                : routineIds.stream()
+                        .sorted(Comparator.comparing((UUID id) -> routines.get(id).createdAt()).reversed())
+                        .limit(maxRoutinesPerTag)
+                        .toList());
+
+        for (Map.Entry<UUID, RoutineTags> target : routines.entrySet()) {
+            Map<UUID, RoutineTags> candidates = new HashMap<>();
+            for (UUID tagId : target.getValue().tagIds()) {
+                for (UUID candidateId : routinesByTag.get(tagId)) {
+                    candidates.putIfAbsent(candidateId, routines.get(candidateId));
+                }
+            }
+            candidates.remove(target.getKey());
+            write(target.getKey(), topK(target.getKey(), target.getValue().tagIds(), candidates, indexSize));
+        }
+        return routines.size();
+    }
+
+    // 루틴 자신과, 태그마다 그 태그를 가진 최신 maxRoutinesPerTag개 루틴
+    private Set<UUID> candidateIds(UUID routineId) {
+        Set<UUID> ids = new HashSet<>();
+        ids.add(routineId);
+        for (UUID tagId : routineTagRepository.findTagIdsByRoutineId(routineId)) {
+            ids.addAll(routineTagRepository.findNewestRoutineIdsByTagId(tagId, PageRequest.of(0, maxRoutinesPerTag)));
+        }
+        return ids;
+    }
+
+    private List<SimilarEntry> topK(UUID routineId, Set<UUID> tagIds, Map<UUID, RoutineTags> candidates, int k) {
+        record Scored(UUID routineId, RoutineTags info, double score) {}
+
+        return candidates.entrySet().stream()
+                .filter(candidate -> !candidate.getKey().equals(routineId))
+                .map(candidate -> new Scored(candidate.getKey(), candidate.getValue(), jaccard(tagIds, candidate.getValue().tagIds())))
+                .filter(scored -> scored.score() > 0)
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(scored -> scored.info().createdAt(), Comparator.reverseOrder()))
+                .limit(k)
+                .map(scored -> new SimilarEntry(scored.routineId(), scored.info().ownerId(), scored.score()))
+                .toList();
+    }
+
+    private static double jaccard(Set<UUID> a, Set<UUID> b) {
+        Set<UUID> smaller = a.size() <= b.size() ? a : b;
+        Set<UUID> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (UUID tagId : smaller) {
+            if (larger.contains(tagId)) {
+                intersection++;
+            }
+        }
+        int union = a.size() + b.size() - intersection;
+        return union == 0 ? 0 : (double) intersection / union;
+    }
+
+    // 이웃 목록에서 변경된 루틴을 빼고, 새 점수가 상위 K에 들면 다시 넣는다
+    private void updateNeighbour(UUID neighbourId, UUID changedRoutineId, SimilarEntry changedEntry) {
+        withKeyLock(neighbourId, () -> {
+            List<SimilarEntry> current = read(neighbourId);
+            if (current == null) {
+                return null; // 아직 계산된 적 없는 루틴은 조회 시점에 새로 계산된다
+            }
+            List<SimilarEntry> updated = new ArrayList<>(current.stream()
+                    .filter(entry -> !entry.routineId().equals(changedRoutineId))
+                    .toList());
+            if (changedEntry != null) {
+                updated.add(changedEntry);
+                updated.sort(Comparator.comparingDouble(SimilarEntry::score).reversed());
+            }
+            write(neighbourId, updated.stream().limit(indexSize).toList());
+            return null;
+        });
+    }
+
+    // 루틴 목록 락을 잡고 실행한다. 락을 얻지 못하면 예외 (이 목록은 다음 배치 재계산에서 맞춘다)
+    private <T> T withKeyLock(UUID routineId, Supplier<T> action) {
+        String lockKey = RedisKeyUtil.similarRoutineLockKey(routineId);
+        // 같은 노드의 다른 스레드가 잡은 락을 풀지 않도록 호출마다 소유자를 따로 둔다
+        String owner = UUID.randomUUID().toString();
+        if (!redisLock.lock(lockKey, owner, Duration.ofMillis(lockTtlMs), lockAttempts, Duration.ofMillis(50))) {
+            throw new IllegalStateException("유사 루틴 목록 락 획득 실패: routineId=" + routineId);
+        }
+        try {
+            return action.get();
+        } finally {
+            redisLock.unlock(lockKey, owner);
+        }
+    }
+
+    private Map<UUID, RoutineTags> groupByRoutine(List<RoutineTagRow> rows) {
+        Map<UUID, RoutineTags> routines = new HashMap<>();
+        for (RoutineTagRow row : rows) {
+            routines.computeIfAbsent(row.getRoutineId(), id -> new RoutineTags(row.getOwnerId(), row.getCreatedAt(), new HashSet<>()))
+                    .tagIds().add(row.getTagId());
+        }
+        return routines;
+    }
+
+    private List<SimilarEntry> read(UUID routineId) {
+        String raw = redisTemplate.opsForValue().get(RedisKeyUtil.similarRoutineKey(routineId));
+        if (raw == null) {
+            return null;
+        }
+        if (raw.isEmpty()) {
+            return List.of();
+        }
+        List<SimilarEntry> entries = new ArrayList<>();
+        for (String token : raw.split(ENTRY_DELIMITER)) {
+            String[] fields = token.split("\\|");
+            if (fields.length == 3) {
+                entries.add(new SimilarEntry(UUID.fromString(fields[0]), UUID.fromString(fields[1]), Double.parseDouble(fields[2])));
+            }
+        }
+        return entries;
+    }
+
+    private void write(UUID routineId, List<SimilarEntry> entries) {
+        String value = entries.stream()
+                .map(entry -> entry.routineId() + FIELD_DELIMITER + entry.ownerId() + FIELD_DELIMITER
+                        + String.format(Locale.ROOT, "%.4f", entry.score()))
+                .collect(Collectors.joining(ENTRY_DELIMITER));
+        redisTemplate.opsForValue().set(RedisKeyUtil.similarRoutineKey(routineId), value, Duration.ofHours(ttlHours));
+    }
+}
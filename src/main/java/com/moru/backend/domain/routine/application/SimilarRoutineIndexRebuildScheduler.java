@@ -0,0 +1,25 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarRoutineIndexRebuildScheduler {
+    private final SimilarRoutineIndex similarRoutineIndex;
+
+    /**
+     * 매일 새벽 4시에 모든 루틴의 유사 루틴 목록 재계산 (태그 변경 시 부분 갱신으로 생긴 차이 보정)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional(readOnly = true)
+    public void rebuildSimilarRoutineIndex() {
+        log.info("[SimilarRoutineBatch] 유사 루틴 인덱스 재계산 시작");
+        int routineCount = similarRoutineIndex.rebuild();
+        log.info("[SimilarRoutineBatch] 유사 루틴 인덱스 재계산 종료: {}개", routineCount);
+    }
+}
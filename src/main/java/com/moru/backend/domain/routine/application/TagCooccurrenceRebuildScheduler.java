@@ -0,0 +1,52 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCooccurrenceRebuildScheduler {
+    private final TagCooccurrenceService tagCooccurrenceService;
+    private final RedisLock redisLock;
+
+    // 재계산이 이보다 오래 걸리면 다른 노드가 다시 돌 수 있다 (하루 한 번이라 넉넉히 잡는다)
+    @Value("${moru.routine.tag-pair.rebuild-lock-ttl-ms:1800000}")
+    private long lockTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 매일 새벽 3시 30분에 태그 동시 등장 횟수 전체 재계산 (인사이트 배치 이후)
+     * 락을 잡은 노드 하나만 실행한다. (여러 노드가 동시에 지우고 채우면 서로 막히거나 결과가 겹친다)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuildTagCooccurrence() {
+        try {
+            if (!redisLock.tryLock(RedisKeyUtil.TAG_PAIR_REBUILD_LOCK, nodeId, Duration.ofMillis(lockTtlMs))) {
+                log.info("[TagPairBatch] 다른 노드에서 재계산 중이라 건너뜀");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[TagPairBatch] 락 획득 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            return;
+        }
+        try {
+            log.info("[TagPairBatch] 태그 쌍 재계산 시작");
+            int pairCount = tagCooccurrenceService.rebuild();
+            log.info("[TagPairBatch] 태그 쌍 재계산 종료: {}개", pairCount);
+        } catch (Exception e) {
+            log.warn("[TagPairBatch] 태그 쌍 재계산 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+        } finally {
+            redisLock.unlock(RedisKeyUtil.TAG_PAIR_REBUILD_LOCK, nodeId);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.TagCooccurrenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * tag_pair_count 테이블을 태그 연결 변경에 맞춰 증분 갱신한다.
+ * 추천 피드의 태그 조합 섹션은 routine_tag 셀프 조인 대신 이 테이블에서 상위 k개만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagCooccurrenceService {
+    private final TagCooccurrenceRepository tagCooccurrenceRepository;
+
+    // tag1 < tag2 로 정렬된 태그 쌍
+    private record TagPair(UUID tag1, UUID tag2) {
+        static TagPair of(UUID a, UUID b) {
+            return compareAsBinary(a, b) < 0 ? new TagPair(a, b) : new TagPair(b, a);
+        }
+    }
+
+    /**
+     * 한 루틴의 태그 구성이 before → after 로 바뀌었을 때,
+     * 사라진 쌍은 1 감소, 새로 생긴 쌍은 1 증가시킨다. (호출한 쪽의 트랜잭션에 참여)
+     * @param beforeTagIds 변경 전 루틴의 태그 ID 목록 (새 루틴이면 빈 목록)
+     * @param afterTagIds  변경 후 루틴의 태그 ID 목록 (삭제된 루틴이면 빈 목록)
+     */
+    @Transactional
+    public void applyTagChange(Collection<UUID> beforeTagIds, Collection<UUID> afterTagIds) {
+        Set<TagPair> beforePairs = toPairs(beforeTagIds);
+        Set<TagPair> afterPairs = toPairs(afterTagIds);
+
+        for (TagPair pair : beforePairs) {
+            if (!afterPairs.contains(pair)) {
+                tagCooccurrenceRepository.adjustCount(pair.tag1(), pair.tag2(), -1);
+            }
+        }
+        for (TagPair pair : afterPairs) {
+            if (!beforePairs.contains(pair)) {
+                tagCooccurrenceRepository.adjustCount(pair.tag1(), pair.tag2(), 1);
+            }
+        }
+    }
+
+    /**
+     * routine_tag 전체로부터 다시 계산한다. (증분 갱신 누락 등 드리프트 보정용)
+     * routine_tag를 먼저 공유 락으로 잡아, 재계산 도중의 applyTagChange가 지운 결과에 더해지거나 두 번 세어지지 않게 한다.
+     * 태그 변경은 그동안 대기하므로 여러 노드가 동시에 돌지 않도록 호출하는 쪽에서 락을 잡는다.
+     * @return 재계산된 태그 쌍 개수
+     */
+    @Transactional
+    public int rebuild() {
+        tagCooccurrenceRepository.lockAllRoutineTags();
+        tagCooccurrenceRepository.deleteAllPairs();
+        return tagCooccurrenceRepository.insertAllPairsFromRoutineTags();
+    }
+
+    private Set<TagPair> toPairs(Collection<UUID> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<UUID> distinct = tagIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<TagPair> pairs = new HashSet<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            for (int j = i + 1; j < distinct.size(); j++) {
+                pairs.add(TagPair.of(distinct.get(i), distinct.get(j)));
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * MySQL의 BINARY(16) 비교(부호 없는 바이트 사전순)와 같은 순서로 UUID를 비교한다.
+     * UUID.compareTo는 부호 있는 long 비교라 DB의 rt1.tag_id < rt2.tag_id 와 순서가 다를 수 있다.
+     */
+    static int compareAsBinary(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,511 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.KeywordCount;
+import com.moru.backend.domain.routine.dao.SearchHistoryRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineTitleSource;
+import com.moru.backend.domain.routine.domain.search.SearchType;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 루틴명 자동완성용 자모 단위 접두사 트라이 (분기 없는 구간을 한 노드로 압축한 radix 트리).
+ * - 키: 정규화한 제목을 자판 입력 단위 자모로 분해한 문자열 (입력 중인 "운ㄷ"도 "운동"에 일치)
+ * - 자식이 있는 노드만 하위 트리의 가중치 상위 K개 제목을 미리 들고 있어, 조회는 접두사 길이만큼 내려가 목록을 읽는 것으로 끝난다
+ * - 가중치: 같은 제목 루틴들의 좋아요 합 + 루틴 수 + 최근 검색 횟수 × SEARCH_WEIGHT
+ * - 자식은 정렬된 char 배열로 두어 노드를 작게 유지하고, 변경 시에는 해당 경로의 상위 K 목록만 다시 계산한다
+ * - 후보가 사라지면 빈 잎을 떼고 자식 하나만 남은 노드를 합쳐, 삭제가 쌓여도 노드가 남지 않는다
+ * 루틴 변경/좋아요 알림은 검색 인덱스와 같은 Redis 채널로 받으며, 매일 밤 DB 기준으로 다시 만든다.
+ * 재구성 도중 들어온 알림/검색은 따로 모아 두었다가 새 트라이로 교체한 뒤 다시 반영한다. (RoutineSearchIndex와 같은 방식)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleAutocompleteIndex implements MessageListener {
+    private static final int SEARCH_WEIGHT = 2;
+    private static final int SEARCH_COUNT_DAYS = 30;
+
+    private final RoutineRepository routineRepository;
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${moru.routine.search.autocomplete.top-k:10}")
+    private int topK;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Trie trie;
+
+    // 재구성 도중 바뀐 루틴 (새 트라이로 교체한 뒤 DB에서 다시 읽어 반영)
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    // 재구성 도중 들어온 검색 횟수 (교체한 뒤 새 트라이에 더한다, 쓰기 락 안에서만 읽고 쓴다)
+    private final Map<String, Long> searchesDuringRebuild = new HashMap<>();
+    private volatile boolean rebuilding;
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.ROUTINE_SEARCH_INDEX_CHANNEL));
+    }
+
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    /**
+     * 입력한 접두사로 시작하는 제목을 가중치 순으로 최대 limit(≤ top-k)개 반환한다.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String path = HangulJamo.decompose(HangulJamo.normalizeKey(prefix));
+        if (path.isEmpty() || trie == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = trie.find(path);
+            if (node == null) {
+                return List.of();
+            }
+            return Arrays.stream(node.top())
+                    .limit(limit)
+                    .map(entry -> entry.display)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색이 한 번 일어났음을 반영한다. (같은 제목이 있을 때만 가중치가 오른다, 이 노드에만 반영)
+     */
+    public void recordSearch(String keyword) {
+        if (trie == null && !rebuilding) {
+            return;
+        }
+        String key = HangulJamo.normalizeKey(keyword);
+        withWriteLock(() -> {
+            if (rebuilding) {
+                searchesDuringRebuild.merge(key, 1L, Long::sum);
+            }
+            if (trie != null) {
+                trie.addSearch(key, 1);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (trie == null && !rebuilding) {
+            return;
+        }
+        try {
+            // 형식: {nodeId}|D|{routineId} 또는 {nodeId}|L|{routineId}|{delta} (RoutineSearchIndex 참고)
+            String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+            if (fields.length < 3) {
+                return;
+            }
+            UUID routineId = UUID.fromString(fields[2]);
+            if (rebuilding) {
+                changedDuringRebuild.add(routineId);
+            }
+            if (trie == null) {
+                return;
+            }
+            if ("D".equals(fields[1])) {
+                Optional<RoutineTitleSource> source = routineRepository.findTitleSourceById(routineId);
+                withWriteLock(() -> {
+                    trie.removeRoutine(routineId);
+                    source.ifPresent(found -> trie.putRoutine(found.getId(), found.getTitle(), likeCountOf(found)));
+                });
+            } else if ("L".equals(fields[1]) && fields.length == 4) {
+                int delta = Integer.parseInt(fields[3]);
+                withWriteLock(() -> trie.adjustLikeCount(routineId, delta));
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 전체로 트라이를 새로 만들어 교체한다. 읽기 전용 트랜잭션 안에서 호출해야 한다.
+     * 교체 전까지 들어온 루틴 변경은 DB에서 다시 읽어, 검색 횟수는 모아 둔 만큼 더해 새 트라이에 반영한다.
+     * @return 서로 다른 제목 수
+     */
+    public int rebuild() {
+        changedDuringRebuild.clear();
+        withWriteLock(() -> {
+            searchesDuringRebuild.clear();
+            rebuilding = true;
+        });
+        try {
+            Trie built = build();
+            withWriteLock(() -> {
+                trie = built;
+                rebuilding = false;
+                searchesDuringRebuild.forEach(built::addSearch);
+                searchesDuringRebuild.clear();
+            });
+
+            for (UUID routineId : changedDuringRebuild) {
+                Optional<RoutineTitleSource> source = routineRepository.findTitleSourceById(routineId);
+                withWriteLock(() -> {
+                    built.removeRoutine(routineId);
+                    source.ifPresent(found -> built.putRoutine(found.getId(), found.getTitle(), likeCountOf(found)));
+                });
+            }
+            changedDuringRebuild.clear();
+            return built.entries.size();
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    private Trie build() {
+        Trie built = new Trie();
+        try (Stream<RoutineTitleSource> sources = routineRepository.streamTitleSources()) {
+            sources.forEach(source -> built.insertRoutine(source.getId(), source.getTitle(), likeCountOf(source)));
+        }
+        List<KeywordCount> keywordCounts = searchHistoryRepository.countKeywordsSince(
+                SearchType.ROUTINE_NAME, LocalDateTime.now().minusDays(SEARCH_COUNT_DAYS));
+        for (KeywordCount keywordCount : keywordCounts) {
+            TitleEntry entry = built.entries.get(HangulJamo.normalizeKey(keywordCount.getKeyword()));
+            if (entry != null) {
+                entry.searchCount += keywordCount.getSearchCount();
+            }
+        }
+        built.computeTops(built.root);
+        return built;
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int likeCountOf(RoutineTitleSource source) {
+        return source.getLikeCount() == null ? 0 : source.getLikeCount();
+    }
+
+    // 정규화 키가 같은 제목을 하나로 묶은 자동완성 후보
+    private static final class TitleEntry {
+        private final String key;
+        private final String display;
+        private long likeCount;
+        private int routineCount;
+        private long searchCount;
+
+        TitleEntry(String key, String display) {
+            this.key = key;
+            this.display = display;
+        }
+
+        long weight() {
+            return likeCount + routineCount + searchCount * SEARCH_WEIGHT;
+        }
+    }
+
+    private static final Comparator<TitleEntry> BY_WEIGHT =
+            Comparator.comparingLong(TitleEntry::weight).reversed().thenComparing(entry -> entry.key);
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final TitleEntry[] NO_ENTRIES = new TitleEntry[0];
+
+        // 부모에서 이 노드까지의 자모 구간 (분기가 없는 구간은 한 노드로 압축, 루트는 빈 문자열)
+        private String edge;
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private TitleEntry terminal;
+        // 자식이 있는 노드만 상위 K 목록을 들고 있다 (잎은 terminal 하나가 곧 목록)
+        private TitleEntry[] top = NO_ENTRIES;
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        TitleEntry[] top() {
+            if (children.length > 0) {
+                return top;
+            }
+            return terminal == null ? NO_ENTRIES : new TitleEntry[]{terminal};
+        }
+
+        void addChild(Node child) {
+            char label = child.edge.charAt(0);
+            int insertAt = -Arrays.binarySearch(labels, label) - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        // 같은 첫 자모로 시작하는 자식을 바꿔 끼운다 (구간 분할/병합)
+        void replaceChild(Node child) {
+            children[Arrays.binarySearch(labels, child.edge.charAt(0))] = child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+            if (children.length == 0) {
+                top = NO_ENTRIES;
+            }
+        }
+    }
+
+    private record RoutineTitle(String key, int likeCount) {}
+
+    private final class Trie {
+        private final Node root = new Node("");
+        private final Map<String, TitleEntry> entries = new HashMap<>();
+        private final Map<UUID, RoutineTitle> routines = new HashMap<>();
+
+        // 접두사가 끝나는 노드 (구간 중간에서 끝나면 그 구간의 노드), 없으면 null
+        Node find(String path) {
+            Node node = root;
+            int i = 0;
+            while (i < path.length()) {
+                Node child = node.child(path.charAt(i));
+                if (child == null) {
+                    return null;
+                }
+                int length = Math.min(child.edge.length(), path.length() - i);
+                if (!child.edge.regionMatches(0, path, i, length)) {
+                    return null;
+                }
+                i += length;
+                node = child;
+            }
+            return node;
+        }
+
+        // 재구성용: 상위 K 목록은 마지막에 computeTops로 한 번에 계산
+        void insertRoutine(UUID routineId, String title, int likeCount) {
+            TitleEntry entry = attach(routineId, title, likeCount);
+            if (entry != null && entry.routineCount == 1) {
+                insertPath(HangulJamo.decompose(entry.key)).getLast().terminal = entry;
+            }
+        }
+
+        void putRoutine(UUID routineId, String title, int likeCount) {
+            TitleEntry entry = attach(routineId, title, likeCount);
+            if (entry != null) {
+                refresh(entry);
+            }
+        }
+
+        void removeRoutine(UUID routineId) {
+            RoutineTitle removed = routines.remove(routineId);
+            if (removed == null) {
+                return;
+            }
+            TitleEntry entry = entries.get(removed.key());
+            entry.likeCount -= removed.likeCount();
+            entry.routineCount--;
+            if (entry.routineCount == 0) {
+                entries.remove(entry.key);
+            }
+            refresh(entry);
+        }
+
+        void adjustLikeCount(UUID routineId, int delta) {
+            RoutineTitle current = routines.get(routineId);
+            if (current == null) {
+                return;
+            }
+            int likeCount = Math.max(0, current.likeCount() + delta);
+            routines.put(routineId, new RoutineTitle(current.key(), likeCount));
+            TitleEntry entry = entries.get(current.key());
+            entry.likeCount += likeCount - current.likeCount();
+            refresh(entry);
+        }
+
+        void addSearch(String key, long count) {
+            TitleEntry entry = entries.get(key);
+            if (entry != null) {
+                entry.searchCount += count;
+                refresh(entry);
+            }
+        }
+
+        private TitleEntry attach(UUID routineId, String title, int likeCount) {
+            String key = HangulJamo.normalizeKey(title);
+            if (key.isEmpty()) {
+                return null;
+            }
+            TitleEntry entry = entries.computeIfAbsent(key, k -> new TitleEntry(k, title.trim().replaceAll("\\s+", " ")));
+            entry.likeCount += likeCount;
+            entry.routineCount++;
+            routines.put(routineId, new RoutineTitle(key, likeCount));
+            return entry;
+        }
+
+        // 후보의 가중치나 존재 여부가 바뀌면 루트까지의 경로에서 상위 K 목록을 아래에서부터 다시 계산
+        // 사라진 후보는 노드를 정리해 압축 상태를 유지한다
+        private void refresh(TitleEntry entry) {
+            boolean alive = entry.routineCount > 0;
+            String jamo = HangulJamo.decompose(entry.key);
+            List<Node> path = alive ? insertPath(jamo) : exactPath(jamo);
+            if (path == null) {
+                return; // 없는 경로 (이미 지워진 후보)
+            }
+            path.getLast().terminal = alive ? entry : null;
+            int from = alive ? path.size() - 1 : prune(path);
+            for (int i = from; i >= 0; i--) {
+                recomputeTop(path.get(i));
+            }
+        }
+
+        // 키와 정확히 끝나는 노드까지의 경로를 만들며 내려간다 (구간 중간에서 갈라지면 나눈다)
+        private List<Node> insertPath(String jamo) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            int i = 0;
+            while (i < jamo.length()) {
+                Node child = node.child(jamo.charAt(i));
+                if (child == null) {
+                    Node leaf = new Node(jamo.substring(i));
+                    node.addChild(leaf);
+                    path.add(leaf);
+                    return path;
+                }
+                int common = commonPrefixLength(child.edge, jamo, i);
+                if (common < child.edge.length()) {
+                    Node split = new Node(child.edge.substring(0, common));
+                    child.edge = child.edge.substring(common);
+                    split.addChild(child);
+                    split.top = child.top();
+                    node.replaceChild(split);
+                    child = split;
+                }
+                path.add(child);
+                node = child;
+                i += common;
+            }
+            return path;
+        }
+
+        // 키와 정확히 끝나는 노드까지의 경로, 없으면 null
+        private List<Node> exactPath(String jamo) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            int i = 0;
+            while (i < jamo.length()) {
+                Node child = node.child(jamo.charAt(i));
+                if (child == null || !jamo.startsWith(child.edge, i)) {
+                    return null;
+                }
+                path.add(child);
+                node = child;
+                i += child.edge.length();
+            }
+            return path;
+        }
+
+        // 후보가 빠진 노드를 정리한다: 빈 잎은 떼어 내고, 자식 하나만 남은 빈 노드는 자식과 합친다
+        // @return 상위 K 목록을 다시 계산해야 하는 가장 깊은 경로 위치
+        private int prune(List<Node> path) {
+            int i = path.size() - 1;
+            Node node = path.get(i);
+            if (node == root) {
+                return i;
+            }
+            if (node.children.length == 0) {
+                Node parent = path.get(i - 1);
+                parent.removeChild(node.edge.charAt(0));
+                i--;
+                if (parent != root && parent.terminal == null && parent.children.length == 1) {
+                    mergeWithOnlyChild(path.get(i - 1), parent);
+                    i--;
+                }
+            } else if (node.children.length == 1) {
+                mergeWithOnlyChild(path.get(i - 1), node);
+                i--;
+            }
+            return i;
+        }
+
+        private void mergeWithOnlyChild(Node parent, Node node) {
+            Node child = node.children[0];
+            child.edge = node.edge + child.edge;
+            parent.replaceChild(child);
+        }
+
+        private static int commonPrefixLength(String edge, String jamo, int offset) {
+            int length = Math.min(edge.length(), jamo.length() - offset);
+            int i = 0;
+            while (i < length && edge.charAt(i) == jamo.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+
+        private void computeTops(Node node) {
+            for (Node child : node.children) {
+                computeTops(child);
+            }
+            recomputeTop(node);
+        }
+
+        private void recomputeTop(Node node) {
+            if (node.children.length == 0) {
+                node.top = Node.NO_ENTRIES;
+                return;
+            }
+            PriorityQueue<TitleEntry> best = new PriorityQueue<>(topK + 1, BY_WEIGHT.reversed());
+            if (node.terminal != null) {
+                best.add(node.terminal);
+            }
+            for (Node child : node.children) {
+                for (TitleEntry entry : child.top()) {
+                    best.add(entry);
+                    if (best.size() > topK) {
+                        best.poll();
+                    }
+                }
+            }
+            TitleEntry[] top = best.toArray(new TitleEntry[0]);
+            Arrays.sort(top, BY_WEIGHT);
+            node.top = top;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleAutocompleteIndexScheduler {
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+
+    /**
+     * 서버 기동 시 한 번, 이후 매일 새벽 5시 20분에 자동완성 트라이를 DB 기준으로 다시 만든다.
+     * (노드별로만 반영된 검색 횟수를 최근 30일 검색 기록 기준으로 맞춤)
+     * 기동 시 재구성은 스케줄러 스레드에서 돌아 기동을 막지 않으며, 준비 전 자동완성은 DB 조회로 처리된다.
+     */
+    @Scheduled(initialDelayString = "${moru.routine.autocomplete.warm-up-delay-ms:0}")
+    @Scheduled(cron = "0 20 5 * * *")
+    @Transactional(readOnly = true)
+    public void rebuildTitleAutocompleteIndex() {
+        try {
+            int titleCount = titleAutocompleteIndex.rebuild();
+            log.info("[AutocompleteBatch] 루틴명 자동완성 인덱스 재구성 완료: {}개", titleCount);
+        } catch (Exception e) {
+            log.warn("[AutocompleteBatch] 루틴명 자동완성 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
+import com.moru.backend.global.util.RedisKeyUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 루틴별 트렌딩 점수를 Redis ZSET(routine:trending)에 로그 공간으로 저장한다. (계산 방식은 {@link TrendingScore} 참고)
+ * - 조회/좋아요/스크랩/실행 이벤트마다 Lua 스크립트로 log-sum-exp 한 번 (O(1), 주기적 재계산 없음)
+ * - 점수가 충분히 줄어든 항목은 주기적으로 잘라내어 ZSET 크기를 유지
+ * 멤버는 "routineId|ownerId" 형태라 본인 루틴 제외를 메모리에서 바로 할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRoutineEngine {
+    private static final String MEMBER_DELIMITER = "|";
+
+    // 기존 로그 점수와 새 이벤트의 로그 점수를 log-sum-exp로 합친다
+    private static final DefaultRedisScript<String> LOG_ADD_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            local added = tonumber(ARGV[2])
+            local next = added
+            if current then
+                local c = tonumber(current)
+                local hi = math.max(c, added)
+                local lo = math.min(c, added)
+                next = hi + math.log(1 + math.exp(lo - hi))
+            end
+            redis.call('ZADD', KEYS[1], next, ARGV[1])
+            return tostring(next)
+            """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${moru.routine.recommend.trending.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @Value("${moru.routine.recommend.trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${moru.routine.recommend.trending.weight.like:3}")
+    private double likeWeight;
+
+    @Value("${moru.routine.recommend.trending.weight.scrap:4}")
+    private double scrapWeight;
+
+    @Value("${moru.routine.recommend.trending.weight.start:2}")
+    private double startWeight;
+
+    // 현재 점수가 이 값보다 작아진 루틴은 트렌딩 후보에서 제거
+    @Value("${moru.routine.recommend.trending.min-score:0.01}")
+    private double minScore;
+
+    private TrendingScore trendingScore;
+
+    @PostConstruct
+    void initTrendingScore() {
+        trendingScore = new TrendingScore(halfLifeHours);
+    }
+
+    public record TrendingEntry(UUID routineId, UUID ownerId, double score) {}
+
+    // 조회/좋아요/스크랩/실행/삭제는 커밋 후 리스너에서 ID로 반영한다 (엔티티를 읽지 않음)
+    public void recordView(UUID routineId, UUID ownerId) {
+        record(routineId, ownerId, viewWeight);
+    }
+
+    public void recordLike(RoutineCardRow routine) {
+        record(routine.id(), routine.ownerId(), likeWeight);
+    }
+
+    public void recordScrap(RoutineCardRow routine) {
+        record(routine.id(), routine.ownerId(), scrapWeight);
+    }
+
+    public void recordStart(UUID routineId, UUID ownerId) {
+        record(routineId, ownerId, startWeight);
+    }
+
+    public void remove(UUID routineId, UUID ownerId) {
+        try {
+            redisTemplate.opsForZSet().remove(RedisKeyUtil.TRENDING_ROUTINES, member(routineId, ownerId));
+        } catch (Exception e) {
+            log.warn("트렌딩 점수 삭제 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    /**
+     * 본인 루틴을 제외한 트렌딩 상위 루틴을 반환한다. score는 현재 시점으로 감쇠된 값이다.
+     */
+    public List<TrendingEntry> findTop(UUID excludeOwnerId, int limit) {
+        Instant now = Instant.now();
+        List<TrendingEntry> result = new ArrayList<>();
+        int pageSize = limit * 2;
+        long start = 0;
+        while (result.size() < limit) {
+            Set<TypedTuple<String>> page = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(RedisKeyUtil.TRENDING_ROUTINES, start, start + pageSize - 1);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (TypedTuple<String> tuple : page) {
+                TrendingEntry entry = parse(tuple, now);
+                if (entry == null || entry.ownerId().equals(excludeOwnerId)) {
+                    continue;
+                }
+                result.add(entry);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+            start += pageSize;
+        }
+        return result;
+    }
+
+    /**
+     * 매시 정각, 현재 점수가 min-score 아래로 떨어진 항목을 정리한다. (점수 자체는 다시 계산하지 않는다)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void pruneDecayed() {
+        try {
+            double threshold = trendingScore.logScoreThreshold(minScore, Instant.now());
+            Long removed = redisTemplate.opsForZSet()
+                    .removeRangeByScore(RedisKeyUtil.TRENDING_ROUTINES, Double.NEGATIVE_INFINITY, threshold);
+            log.info("[TrendingBatch] 감쇠된 트렌딩 항목 정리: {}개", removed);
+        } catch (Exception e) {
+            log.warn("[TrendingBatch] 트렌딩 항목 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 트렌딩 갱신 실패가 원래 요청을 실패시키지 않도록 한다
+    private void record(UUID routineId, UUID ownerId, double weight) {
+        if (weight <= 0) {
+            return;
+        }
+        try {
+            double logScore = trendingScore.eventLogScore(weight, Instant.now());
+            redisTemplate.execute(LOG_ADD_SCRIPT, List.of(RedisKeyUtil.TRENDING_ROUTINES),
+                    member(routineId, ownerId), Double.toString(logScore));
+        } catch (Exception e) {
+            log.warn("트렌딩 점수 갱신 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    private String member(UUID routineId, UUID ownerId) {
+        return routineId + MEMBER_DELIMITER + ownerId;
+    }
+
+    private TrendingEntry parse(TypedTuple<String> tuple, Instant now) {
+        String value = tuple.getValue();
+        if (value == null || tuple.getScore() == null) {
+            return null;
+        }
+        String[] parts = value.split("\\|");
+        if (parts.length != 2) {
+            return null;
+        }
+        return new TrendingEntry(UUID.fromString(parts[0]), UUID.fromString(parts[1]),
+                trendingScore.decayedScore(tuple.getScore(), now));
+    }
+}
@@ -0,0 +1,59 @@
+package com.moru.backend.domain.routine.application;
+
+import java.time.Instant;
+
+/**
+ * 지수 감쇠 점수를 로그 공간에서 다루기 위한 계산 모음.
+ *
+ * 시각 t에 가중치 w인 이벤트의 현재(now) 기여도는 w * 2^(-(now - t) / halfLife) 이다.
+ * 모든 점수를 같은 비율로 줄이는 대신 고정 기준 시각(EPOCH)으로 끌어올려
+ * log(w) + λ(t - EPOCH) (λ = ln2 / halfLife) 로 저장하면, 이미 저장된 값은 시간이 지나도 바꿀 필요가 없고
+ * 새 이벤트는 log-sum-exp 한 번으로 더해진다. 순위는 이 값의 대소와 같다.
+ */
+public final class TrendingScore {
+    // 로그 점수 계산의 기준 시각 (바꾸면 저장된 점수를 모두 다시 쌓아야 한다)
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final double lambdaPerSecond;
+
+    public TrendingScore(double halfLifeHours) {
+        if (halfLifeHours <= 0) {
+            throw new IllegalArgumentException("halfLifeHours must be positive");
+        }
+        this.lambdaPerSecond = Math.log(2) / (halfLifeHours * 3600);
+    }
+
+    /**
+     * 시각 at에 발생한 가중치 weight 이벤트의 로그 점수
+     */
+    public double eventLogScore(double weight, Instant at) {
+        return Math.log(weight) + lambdaPerSecond * secondsSinceEpoch(at);
+    }
+
+    /**
+     * 로그 점수를 now 시점의 실제(감쇠된) 점수로 변환
+     */
+    public double decayedScore(double logScore, Instant now) {
+        return Math.exp(logScore - lambdaPerSecond * secondsSinceEpoch(now));
+    }
+
+    /**
+     * now 시점에 실제 점수가 minScore 미만인 로그 점수의 경계값 (오래된 항목 정리용)
+     */
+    public double logScoreThreshold(double minScore, Instant now) {
+        return eventLogScore(minScore, now);
+    }
+
+    /**
+     * log(e^a + e^b)를 오버플로 없이 계산
+     */
+    public static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        return max + Math.log1p(Math.exp(min - max));
+    }
+
+    private static double secondsSinceEpoch(Instant at) {
+        return (at.toEpochMilli() - EPOCH.toEpochMilli()) / 1000.0;
+    }
+}
@@ -0,0 +1,169 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.domain.search.TrendWindow;
+import com.moru.backend.domain.routine.domain.search.TrendingTermType;
+import com.moru.backend.domain.routine.dto.response.TrendingTermResponse;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 검색어/태그의 구간별 사용 횟수를 시간 버킷 ZSET으로 센다.
+ * - 이벤트마다 분 버킷과 시간 버킷에 ZINCRBY 한 번씩 (파이프라인 한 번, 버킷 크기와 무관한 O(log n))
+ * - 조회 시 구간에 해당하는 버킷을 ZUNIONSTORE로 합치고, 합친 결과는 짧게 캐시해 여러 요청이 나눠 쓴다
+ * - 버킷은 만료 시간으로 스스로 사라지고, search_history/routine_tag 테이블은 읽지 않는다
+ * - 드문 항목이 끝없이 쌓이지 않도록 trimBuckets가 주기적으로 하위 항목을 잘라낸다.
+ *   아직 쌓이는 버킷은 여유(headroom)를 두고 크게 잘라 막 들어온 항목이 밀려나지 않게 하고, 닫힌 버킷만 N개로 자른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingTermCounter {
+    private static final Duration MINUTE_BUCKET_TTL = Duration.ofMinutes(TrendWindow.ONE_HOUR.getBucketCount() + 5);
+    private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(TrendWindow.SEVEN_DAYS.getBucketCount() + 1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 닫힌 버킷 하나에 남길 최대 항목 수 (드문 검색어가 끝없이 쌓이지 않도록 하위 항목을 잘라낸다)
+    @Value("${moru.routine.trending-terms.bucket-max-size:2000}")
+    private int bucketMaxSize;
+
+    // 아직 쌓이는 버킷은 bucket-max-size의 이 배수까지 남긴다
+    @Value("${moru.routine.trending-terms.open-bucket-headroom:4}")
+    private int openBucketHeadroom;
+
+    // 구간별 합산 결과 캐시 시간
+    @Value("${moru.routine.trending-terms.merge-ttl-seconds:30}")
+    private long mergeTtlSeconds;
+
+    public void record(TrendingTermType type, String term) {
+        record(type, term == null ? List.of() : List.of(term));
+    }
+
+    /**
+     * 현재 시각의 분/시간 버킷에 각 항목을 1씩 더한다. 실패해도 요청은 계속 진행한다.
+     */
+    public void record(TrendingTermType type, Collection<String> terms) {
+        List<String> members = terms.stream()
+                .map(this::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (members.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        String minuteKey = RedisKeyUtil.trendingTermBucketKey(type, ChronoUnit.MINUTES, bucketIndex(now, ChronoUnit.MINUTES));
+        String hourKey = RedisKeyUtil.trendingTermBucketKey(type, ChronoUnit.HOURS, bucketIndex(now, ChronoUnit.HOURS));
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String member : members) {
+                        ops.opsForZSet().incrementScore(minuteKey, member, 1);
+                        ops.opsForZSet().incrementScore(hourKey, member, 1);
+                    }
+                    ops.expire(minuteKey, MINUTE_BUCKET_TTL);
+                    ops.expire(hourKey, HOUR_BUCKET_TTL);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("트렌드 집계 실패: type={}, {}", type, e.getMessage());
+        }
+    }
+
+    /**
+     * 구간 동안 많이 쓰인 순으로 최대 limit개. Redis를 쓸 수 없으면 빈 목록
+     */
+    public List<TrendingTermResponse> findTop(TrendingTermType type, TrendWindow window, int limit) {
+        // limit이 0 이하면 ZREVRANGE 0..-1이 되어 구간 전체를 돌려주므로 막는다
+        if (limit <= 0) {
+            return List.of();
+        }
+        String mergedKey = RedisKeyUtil.trendingTermMergedKey(type, window);
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(mergedKey))) {
+                merge(type, window, mergedKey);
+            }
+            Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(mergedKey, 0, limit - 1);
+            if (tuples == null) {
+                return List.of();
+            }
+            List<TrendingTermResponse> result = new ArrayList<>(tuples.size());
+            for (TypedTuple<String> tuple : tuples) {
+                long count = tuple.getScore() == null ? 0 : tuple.getScore().longValue();
+                result.add(new TrendingTermResponse(result.size() + 1, tuple.getValue(), count));
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("트렌드 조회 실패: type={}, window={}, {}", type, window, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 분/시간 버킷의 하위 항목을 잘라낸다. 현재 버킷은 여유를 두고, 직전(닫힌) 버킷은 bucket-max-size개로 자른다.
+     * 여러 노드가 동시에 돌아도 결과는 같다.
+     */
+    public void trimBuckets() {
+        Instant now = Instant.now();
+        long openSize = (long) bucketMaxSize * openBucketHeadroom;
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (TrendingTermType type : TrendingTermType.values()) {
+                        for (ChronoUnit unit : List.of(ChronoUnit.MINUTES, ChronoUnit.HOURS)) {
+                            long current = bucketIndex(now, unit);
+                            ops.opsForZSet().removeRange(RedisKeyUtil.trendingTermBucketKey(type, unit, current), 0, -(openSize + 1));
+                            ops.opsForZSet().removeRange(RedisKeyUtil.trendingTermBucketKey(type, unit, current - 1), 0, -(bucketMaxSize + 1));
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("트렌드 버킷 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 현재 버킷을 포함해 구간 길이만큼의 버킷을 합친다 (구간 시작 쪽 버킷은 일부만 포함될 수 있다)
+    private void merge(TrendingTermType type, TrendWindow window, String mergedKey) {
+        long current = bucketIndex(Instant.now(), window.getBucketUnit());
+        List<String> bucketKeys = new ArrayList<>(window.getBucketCount());
+        for (int i = 0; i < window.getBucketCount(); i++) {
+            bucketKeys.add(RedisKeyUtil.trendingTermBucketKey(type, window.getBucketUnit(), current - i));
+        }
+        redisTemplate.opsForZSet().unionAndStore(bucketKeys.getFirst(), bucketKeys.subList(1, bucketKeys.size()), mergedKey);
+        redisTemplate.expire(mergedKey, Duration.ofSeconds(mergeTtlSeconds));
+    }
+
+    private static long bucketIndex(Instant instant, ChronoUnit unit) {
+        return instant.getEpochSecond() / unit.getDuration().getSeconds();
+    }
+
+    // 앞뒤 공백 제거, 연속 공백은 하나로, 영문은 소문자로 모은다
+    private String normalize(String term) {
+        if (term == null) {
+            return null;
+        }
+        String normalized = term.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
@@ -0,0 +1,19 @@
+package com.moru.backend.domain.routine.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingTermTrimScheduler {
+    private final TrendingTermCounter trendingTermCounter;
+
+    /**
+     * 1분마다 트렌드 버킷의 하위 항목을 잘라낸다. (분 버킷이 닫히는 주기)
+     */
+    @Scheduled(fixedDelayString = "${moru.routine.trending-terms.trim-ms:60000}")
+    public void trimTrendingTermBuckets() {
+        trendingTermCounter.trimBuckets();
+    }
+}
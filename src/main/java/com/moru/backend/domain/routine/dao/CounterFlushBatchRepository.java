@@ -0,0 +1,23 @@
+package com.moru.backend.domain.routine.dao;
+
+import com.moru.backend.domain.routine.domain.CounterFlushBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface CounterFlushBatchRepository extends JpaRepository<CounterFlushBatch, String> {
+
+    /**
+     * 배치 반영 기록을 남깁니다. 이미 반영한 배치면 기본 키 중복으로 실패해 트랜잭션 전체가 롤백됩니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO counter_flush_batch (batch_id, applied_at) VALUES (:batchId, NOW(6))", nativeQuery = true)
+    int insertBatch(@Param("batchId") String batchId);
+
+    @Modifying
+    @Query("DELETE FROM CounterFlushBatch b WHERE b.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
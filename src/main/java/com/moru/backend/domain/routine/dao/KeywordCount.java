@@ -0,0 +1,9 @@
+package com.moru.backend.domain.routine.dao;
+
+/**
+ * 검색어별 검색 횟수 (자동완성 가중치 계산용 프로젝션)
+ */
+public interface KeywordCount {
+    String getKeyword();
+    Long getSearchCount();
+}
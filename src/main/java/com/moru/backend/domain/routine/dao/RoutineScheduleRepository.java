@@ -27,4 +27,13 @@ public interface RoutineScheduleRepository extends JpaRepository<RoutineSchedule
     """)
     List<RoutineSchedule> findTodayEnabledSchedules(@Param("today") DayOfWeek today);
 
+    // 사용자의 활성 루틴 스케줄 (다가오는 스케줄순 타임라인 구성용)
+    @Query("""
+        SELECT rs.routine.id AS routineId, rs.dayOfWeek AS dayOfWeek, rs.time AS time
+        FROM RoutineSchedule rs
+        WHERE rs.routine.user.id = :userId
+        AND rs.routine.status = true
+    """)
+    List<RoutineScheduleSlot> findActiveSlotsByUserId(@Param("userId") UUID userId);
+
 }
@@ -0,0 +1,15 @@
+package com.moru.backend.domain.routine.dao;
+
+import com.moru.backend.domain.routine.domain.schedule.DayOfWeek;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 스케줄 한 건의 (루틴, 요일, 시각) (다가오는 스케줄순 타임라인 구성용 프로젝션)
+ */
+public interface RoutineScheduleSlot {
+    UUID getRoutineId();
+    DayOfWeek getDayOfWeek();
+    LocalTime getTime();
+}
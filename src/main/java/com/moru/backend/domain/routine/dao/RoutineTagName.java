@@ -0,0 +1,11 @@
+package com.moru.backend.domain.routine.dao;
+
+import java.util.UUID;
+
+/**
+ * 루틴 ID와 연결된 태그 이름 한 건
+ */
+public interface RoutineTagName {
+    UUID getRoutineId();
+    String getTagName();
+}
@@ -3,10 +3,12 @@ package com.moru.backend.domain.routine.dao;
 import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.meta.RoutineTag;
 import com.moru.backend.domain.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,31 +21,30 @@ public interface RoutineTagRepository extends JpaRepository<RoutineTag, UUID> {
     boolean existsByRoutineAndTag_Id(Routine routine, UUID tagId);
     void deleteByRoutine(Routine routine);
 
-    @Query(value = """
-        SELECT BIN_TO_UUID(rt1.tag_id) AS tag1, BIN_TO_UUID(rt2.tag_id) AS tag2, COUNT(*) AS cnt
-        FROM routine_tag rt1
-        JOIN routine_tag rt2 ON rt1.routine_id = rt2.routine_id AND rt1.tag_id < rt2.tag_id
-        GROUP BY rt1.tag_id, rt2.tag_id
-        ORDER BY cnt DESC
-        LIMIT 10
-    """, nativeQuery = true)
-    List<TagPairCount> findTopTagPairs();
-
-    @Query(value = """
-         SELECT BIN_TO_UUID(rt1.tag_id) AS tag1, BIN_TO_UUID(rt2.tag_id) AS tag2, COUNT(*) AS cnt
-         FROM routine_tag rt1
-         JOIN routine_tag rt2 ON rt1.routine_id = rt2.routine_id AND rt1.tag_id < rt2.tag_id
-         WHERE rt1.tag_id IN (:interestTagIds) OR rt2.tag_id IN (:interestTagIds)
-         GROUP BY rt1.tag_id, rt2.tag_id
-         ORDER BY cnt DESC
-         LIMIT 10
-     """, nativeQuery = true)
-    List<TagPairCount> findTopTagPairsForInterests(@Param("interestTagIds") List<UUID> interestTagIds);
-
     // RoutineTagRepository.java 인터페이스에 아래 두 메서드를 추가하세요.
     @Query("SELECT t.name FROM RoutineTag rt JOIN rt.tag t WHERE rt.routine.user = :user")
     List<String> findTagNamesByUserRoutines(@Param("user") User user);
 
     @Query("SELECT t.name FROM RoutineUserAction rua JOIN rua.routine.routineTags rt JOIN rt.tag t WHERE rua.user = :user AND rua.actionType = 'SCRAP'")
     List<String> findTagNamesByUserScrappedRoutines(@Param("user") User user);
+
+    // 여러 루틴의 태그 이름을 한 번에 조회 (카드 응답용, 연결 순서 유지)
+    @Query("SELECT rt.routine.id AS routineId, t.name AS tagName FROM RoutineTag rt JOIN rt.tag t WHERE rt.routine.id IN :routineIds ORDER BY rt.createdAt ASC")
+    List<RoutineTagName> findTagNamesByRoutineIds(@Param("routineIds") Collection<UUID> routineIds);
+
+    // 유사 루틴 인덱스 전체 재계산용
+    @Query("SELECT r.id AS routineId, r.user.id AS ownerId, r.createdAt AS createdAt, rt.tag.id AS tagId FROM RoutineTag rt JOIN rt.routine r")
+    List<RoutineTagRow> findAllRoutineTagRows();
+
+    // 검색 인덱스 부분 갱신용 (루틴 하나의 태그 ID)
+    @Query("SELECT rt.tag.id FROM RoutineTag rt WHERE rt.routine.id = :routineId")
+    List<UUID> findTagIdsByRoutineId(@Param("routineId") UUID routineId);
+
+    // 태그 하나를 가진 최신 루틴 ID (유사 루틴 부분 갱신 후보, 인기 태그도 상한까지만 읽는다)
+    @Query("SELECT r.id FROM RoutineTag rt JOIN rt.routine r WHERE rt.tag.id = :tagId ORDER BY r.createdAt DESC")
+    List<UUID> findNewestRoutineIdsByTagId(@Param("tagId") UUID tagId, Pageable pageable);
+
+    // 주어진 루틴들의 모든 태그 연결
+    @Query("SELECT r.id AS routineId, r.user.id AS ownerId, r.createdAt AS createdAt, rt.tag.id AS tagId FROM RoutineTag rt JOIN rt.routine r WHERE r.id IN :routineIds")
+    List<RoutineTagRow> findRoutineTagRowsByRoutineIds(@Param("routineIds") Collection<UUID> routineIds);
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.moru.backend.domain.routine.dao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 루틴-태그 연결 한 건 (유사 루틴 인덱스 계산용 프로젝션)
+ */
+public interface RoutineTagRow {
+    UUID getRoutineId();
+    UUID getOwnerId();
+    LocalDateTime getCreatedAt();
+    UUID getTagId();
+}
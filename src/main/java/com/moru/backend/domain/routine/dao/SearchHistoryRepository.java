@@ -3,10 +3,13 @@ package com.moru.backend.domain.routine.dao;
 import com.moru.backend.domain.routine.domain.search.SearchHistory;
 import com.moru.backend.domain.routine.domain.search.SearchType;
 import com.moru.backend.domain.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,4 +32,38 @@ public interface SearchHistoryRepository extends JpaRepository<SearchHistory, UU
     );
 
     void deleteByUserIdAndSearchKeyword(UUID userId, String searchKeyword);
+
+    // 최근 검색 기록 Redis 목록이 비어 있을 때 채우는 용도 (필요한 만큼만 조회)
+    @Query("select sh from SearchHistory sh " +
+            "where sh.userId = :userId and sh.searchType = :searchType " +
+            "order by sh.createdAt DESC")
+    List<SearchHistory> findRecentByUserIdAndSearchType(
+            @Param("userId") UUID userId,
+            @Param("searchType") SearchType searchType,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from SearchHistory sh " +
+            "where sh.userId = :userId and sh.searchType = :searchType and sh.searchKeyword = :keyword")
+    int deleteAllByKeyword(
+            @Param("userId") UUID userId,
+            @Param("searchType") SearchType searchType,
+            @Param("keyword") String keyword
+    );
+
+    @Modifying
+    @Query("delete from SearchHistory sh where sh.userId = :userId and sh.searchType = :searchType")
+    int deleteAllByUserIdAndSearchType(
+            @Param("userId") UUID userId,
+            @Param("searchType") SearchType searchType
+    );
+
+    @Query("select sh.searchKeyword as keyword, count(sh) as searchCount from SearchHistory sh " +
+            "where sh.searchType = :searchType and sh.createdAt >= :since " +
+            "group by sh.searchKeyword")
+    List<KeywordCount> countKeywordsSince(
+            @Param("searchType") SearchType searchType,
+            @Param("since") LocalDateTime since
+    );
 }
@@ -0,0 +1,66 @@
+package com.moru.backend.domain.routine.dao;
+
+import com.moru.backend.domain.routine.domain.meta.TagCooccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TagCooccurrenceRepository extends JpaRepository<TagCooccurrence, UUID> {
+
+    /**
+     * 태그 쌍의 동시 등장 횟수를 delta만큼 조정합니다. (없으면 새로 생성)
+     * tag1은 항상 tag2보다 작아야 합니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO tag_pair_count (id, tag1_id, tag2_id, cnt, updated_at)
+        VALUES (UUID_TO_BIN(UUID()), :tag1, :tag2, GREATEST(:delta, 0), NOW())
+        ON DUPLICATE KEY UPDATE cnt = GREATEST(CAST(cnt AS SIGNED) + :delta, 0), updated_at = NOW()
+    """, nativeQuery = true)
+    void adjustCount(@Param("tag1") UUID tag1, @Param("tag2") UUID tag2, @Param("delta") long delta);
+
+    @Query(value = """
+        SELECT BIN_TO_UUID(tpc.tag1_id) AS tag1, BIN_TO_UUID(tpc.tag2_id) AS tag2, tpc.cnt AS cnt
+        FROM tag_pair_count tpc
+        WHERE tpc.cnt > 0
+        ORDER BY tpc.cnt DESC
+        LIMIT 10
+    """, nativeQuery = true)
+    List<TagPairCount> findTopTagPairs();
+
+    @Query(value = """
+        SELECT BIN_TO_UUID(tpc.tag1_id) AS tag1, BIN_TO_UUID(tpc.tag2_id) AS tag2, tpc.cnt AS cnt
+        FROM tag_pair_count tpc
+        WHERE tpc.cnt > 0
+          AND (tpc.tag1_id IN (:interestTagIds) OR tpc.tag2_id IN (:interestTagIds))
+        ORDER BY tpc.cnt DESC
+        LIMIT 10
+    """, nativeQuery = true)
+    List<TagPairCount> findTopTagPairsForInterests(@Param("interestTagIds") List<UUID> interestTagIds);
+
+    //====드리프트 보정용 전체 재계산====//
+    /**
+     * routine_tag 전체를 공유 락으로 잠급니다. 이미 태그를 바꾼 트랜잭션은 커밋(증분 갱신 포함)될 때까지 기다리고,
+     * 이후의 태그 변경은 재계산 트랜잭션이 끝날 때까지 대기하므로 증분 갱신이 재계산 결과와 겹치지 않습니다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM routine_tag FOR SHARE", nativeQuery = true)
+    long lockAllRoutineTags();
+
+    @Modifying
+    @Query(value = "DELETE FROM tag_pair_count", nativeQuery = true)
+    void deleteAllPairs();
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO tag_pair_count (id, tag1_id, tag2_id, cnt, updated_at)
+        SELECT UUID_TO_BIN(UUID()), rt1.tag_id, rt2.tag_id, COUNT(*), NOW()
+        FROM routine_tag rt1
+        JOIN routine_tag rt2 ON rt1.routine_id = rt2.routine_id AND rt1.tag_id < rt2.tag_id
+        GROUP BY rt1.tag_id, rt2.tag_id
+    """, nativeQuery = true)
+    int insertAllPairsFromRoutineTags();
+}
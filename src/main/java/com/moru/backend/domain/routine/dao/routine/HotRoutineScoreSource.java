@@ -0,0 +1,15 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 인기 루틴 리더보드 재구성용 프로젝션 (엔티티 전체를 읽지 않기 위함)
+ */
+public interface HotRoutineScoreSource {
+    UUID getId();
+    UUID getOwnerId();
+    LocalDateTime getCreatedAt();
+    Integer getViewCount();
+    Integer getLikeCount();
+}
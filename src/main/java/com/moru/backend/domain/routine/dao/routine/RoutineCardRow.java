@@ -0,0 +1,18 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 카드(목록) 표시에 필요한 루틴 컬럼만 담은 프로젝션 (스텝/앱/태그 컬렉션은 읽지 않는다)
+ */
+public record RoutineCardRow(
+        UUID id,
+        UUID ownerId,
+        String title,
+        String imageUrl,
+        Integer likeCount,
+        LocalDateTime createdAt,
+        Duration requiredTime
+) {}
@@ -0,0 +1,13 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 커서 기반 목록 조회 결과 (다음 커서를 만들 정렬 키만 함께 읽는다)
+ */
+public interface RoutineKeysetRow {
+    UUID getId();
+    LocalDateTime getCreatedAt();
+    Integer getLikeCount();
+}
@@ -1,18 +1,23 @@
 package com.moru.backend.domain.routine.dao.routine;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.schedule.DayOfWeek;
 import com.moru.backend.domain.user.domain.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -38,13 +43,25 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
     @Query(value = "SELECT r.id FROM Routine r LEFT JOIN r.routineTags rt " +
             "WHERE (:titleKeyword IS NULL OR r.title LIKE %:titleKeyword%) " +
             "AND (:tagNames IS NULL OR rt.tag.name IN :tagNames) " +
+            "AND (:minRequiredTime IS NULL OR r.requiredTime >= :minRequiredTime) " +
+            "AND (:maxRequiredTime IS NULL OR r.requiredTime <= :maxRequiredTime) " +
+            "AND (:minStepCount IS NULL OR r.stepCount >= :minStepCount) " +
+            "AND (:maxStepCount IS NULL OR r.stepCount <= :maxStepCount) " +
             "GROUP BY r.id ORDER BY r.createdAt DESC",
             countQuery = "SELECT COUNT(DISTINCT r.id) FROM Routine r LEFT JOIN r.routineTags rt " +
                     "WHERE (:titleKeyword IS NULL OR r.title LIKE %:titleKeyword%) " +
-                    "AND (:tagNames IS NULL OR rt.tag.name IN :tagNames)")
+                    "AND (:tagNames IS NULL OR rt.tag.name IN :tagNames) " +
+                    "AND (:minRequiredTime IS NULL OR r.requiredTime >= :minRequiredTime) " +
+                    "AND (:maxRequiredTime IS NULL OR r.requiredTime <= :maxRequiredTime) " +
+                    "AND (:minStepCount IS NULL OR r.stepCount >= :minStepCount) " +
+                    "AND (:maxStepCount IS NULL OR r.stepCount <= :maxStepCount)")
     Page<UUID> findIdsBySearchCriteriaOrderByCreatedAt(
             @Param("titleKeyword") String titleKeyword,
             @Param("tagNames") List<String> tagNames,
+            @Param("minRequiredTime") Duration minRequiredTime,
+            @Param("maxRequiredTime") Duration maxRequiredTime,
+            @Param("minStepCount") Integer minStepCount,
+            @Param("maxStepCount") Integer maxStepCount,
             Pageable pageable);
 
 
@@ -52,87 +69,216 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
     @Query(value = "SELECT r.id FROM Routine r LEFT JOIN r.routineTags rt " +
             "WHERE (:titleKeyword IS NULL OR r.title LIKE %:titleKeyword%) " +
             "AND (:tagNames IS NULL OR rt.tag.name IN :tagNames) " +
+            "AND (:minRequiredTime IS NULL OR r.requiredTime >= :minRequiredTime) " +
+            "AND (:maxRequiredTime IS NULL OR r.requiredTime <= :maxRequiredTime) " +
+            "AND (:minStepCount IS NULL OR r.stepCount >= :minStepCount) " +
+            "AND (:maxStepCount IS NULL OR r.stepCount <= :maxStepCount) " +
             "GROUP BY r.id ORDER BY r.likeCount DESC, r.createdAt DESC",
             countQuery = "SELECT COUNT(DISTINCT r.id) FROM Routine r LEFT JOIN r.routineTags rt " +
                     "WHERE (:titleKeyword IS NULL OR r.title LIKE %:titleKeyword%) " +
-                    "AND (:tagNames IS NULL OR rt.tag.name IN :tagNames)")
+                    "AND (:tagNames IS NULL OR rt.tag.name IN :tagNames) " +
+                    "AND (:minRequiredTime IS NULL OR r.requiredTime >= :minRequiredTime) " +
+                    "AND (:maxRequiredTime IS NULL OR r.requiredTime <= :maxRequiredTime) " +
+                    "AND (:minStepCount IS NULL OR r.stepCount >= :minStepCount) " +
+                    "AND (:maxStepCount IS NULL OR r.stepCount <= :maxStepCount)")
     Page<UUID> findIdsBySearchCriteriaOrderByLikeCount(
             @Param("titleKeyword") String titleKeyword,
             @Param("tagNames") List<String> tagNames,
+            @Param("minRequiredTime") Duration minRequiredTime,
+            @Param("maxRequiredTime") Duration maxRequiredTime,
+            @Param("minStepCount") Integer minStepCount,
+            @Param("maxStepCount") Integer maxStepCount,
             Pageable pageable
     );
- 
 
-    // 루틴명 자동완성
-    @Query("SELECT DISTINCT r.title FROM Routine r WHERE r.title LIKE %:keyword% ORDER BY r.title")
-    List<String> findTitleSuggestions(@Param("keyword") String keyword);
+    /**
+     * 검색 커서 조회 (COUNT 없이 커서 다음 행만 인덱스 순서로 읽는다. 첫 페이지는 lastId = null)
+     * 태그 조건은 GROUP BY 대신 EXISTS로 걸러 정렬 인덱스를 그대로 탄다.
+     */
+    // 최신순
+    @Query("""
+        SELECT r.id AS id, r.createdAt AS createdAt, r.likeCount AS likeCount FROM Routine r
+        WHERE (:titleKeyword IS NULL OR r.title LIKE %:titleKeyword%)
+          AND (:tagNames IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineTag rt WHERE rt.routine = r AND rt.tag.name IN :tagNames))
+          AND (:minRequiredTime IS NULL OR r.requiredTime >= :minRequiredTime)
+          AND (:maxRequiredTime IS NULL OR r.requiredTime <= :maxRequiredTime)
+          AND (:minStepCount IS NULL OR r.stepCount >= :minStepCount)
+          AND (:maxStepCount IS NULL OR r.stepCount <= :maxStepCount)
+          AND (:lastId IS NULL
+                OR r.createdAt < :lastCreatedAt
+                OR (r.createdAt = :lastCreatedAt AND r.id < :lastId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<RoutineKeysetRow> findSearchKeysOrderByCreatedAt(
+            @Param("titleKeyword") String titleKeyword,
+            @Param("tagNames") List<String> tagNames,
+            @Param("minRequiredTime") Duration minRequiredTime,
+            @Param("maxRequiredTime") Duration maxRequiredTime,
+            @Param("minStepCount") Integer minStepCount,
+            @Param("maxStepCount") Integer maxStepCount,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") UUID lastId,
+            Pageable pageable);
+
+    // 인기순
+    @Query("""
+        SELECT r.id AS id, r.createdAt AS createdAt, r.likeCount AS likeCount FROM Routine r
+        WHERE (:titleKeyword IS NULL OR r.title LIKE %:titleKeyword%)
+          AND (:tagNames IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineTag rt WHERE rt.routine = r AND rt.tag.name IN :tagNames))
+          AND (:minRequiredTime IS NULL OR r.requiredTime >= :minRequiredTime)
+          AND (:maxRequiredTime IS NULL OR r.requiredTime <= :maxRequiredTime)
+          AND (:minStepCount IS NULL OR r.stepCount >= :minStepCount)
+          AND (:maxStepCount IS NULL OR r.stepCount <= :maxStepCount)
+          AND (:lastId IS NULL
+                OR r.likeCount < :lastLikeCount
+                OR (r.likeCount = :lastLikeCount AND r.createdAt < :lastCreatedAt)
+                OR (r.likeCount = :lastLikeCount AND r.createdAt = :lastCreatedAt AND r.id < :lastId))
+        ORDER BY r.likeCount DESC, r.createdAt DESC, r.id DESC
+    """)
+    List<RoutineKeysetRow> findSearchKeysOrderByLikeCount(
+            @Param("titleKeyword") String titleKeyword,
+            @Param("tagNames") List<String> tagNames,
+            @Param("minRequiredTime") Duration minRequiredTime,
+            @Param("maxRequiredTime") Duration maxRequiredTime,
+            @Param("minStepCount") Integer minStepCount,
+            @Param("maxStepCount") Integer maxStepCount,
+            @Param("lastLikeCount") Integer lastLikeCount,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") UUID lastId,
+            Pageable pageable);
+
+    // 루틴명 자동완성 (자동완성 인덱스가 준비되지 않았을 때만 사용)
+    // 예전에는 제목 중간 일치(%keyword%)였지만, 자동완성 인덱스와 같은 접두사 일치로 바꿨다 (제목 인덱스를 탈 수 있도록)
+    @Query("SELECT DISTINCT r.title FROM Routine r WHERE r.title LIKE :keyword% ORDER BY r.title")
+    List<String> findTitleSuggestions(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 내 루틴 정렬
-     * @param pageable  페이징 및 정렬 정보
-     * @return 조건에 맞는 루틴의 페이징된 목록
+     * 내 루틴 정렬 (ID만 조회, 카드 내용은 RoutineCardLoader로 한 번에 채운다)
+     * @param dayOfWeek 요일 조건 (null이면 전체)
+     * @param pageable  페이징 정보
+     * @return 조건에 맞는 루틴 ID의 페이징된 목록
      */
+    // 최신순
+    @Query(value = """
+        SELECT r.id FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND (:dayOfWeek IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineSchedule s WHERE s.routine = r AND s.dayOfWeek = :dayOfWeek))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """, countQuery = """
+        SELECT COUNT(r) FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND (:dayOfWeek IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineSchedule s WHERE s.routine = r AND s.dayOfWeek = :dayOfWeek))
+    """)
+    Page<UUID> findMyRoutineIdsOrderByCreatedAt(
+            @Param("userId") UUID userId,
+            @Param("dayOfWeek") DayOfWeek dayOfWeek,
+            Pageable pageable
+    );
 
-    // 최신순 (요일 선택)
+    // 인기순
     @Query(value = """
-    SELECT DISTINCT r
-      FROM Routine r
-      JOIN r.routineSchedules s
-     WHERE r.user.id = :userId
-       AND r.status = true
-       AND s.dayOfWeek = :dayOfWeek
-  ORDER BY r.createdAt DESC
-""",
-            countQuery = """
-    SELECT COUNT(DISTINCT r.id)
-      FROM Routine r
-      JOIN r.routineSchedules s
-     WHERE r.user.id = :userId
-       AND r.status = true
-       AND s.dayOfWeek = :dayOfWeek
-""")
-    Page<Routine> findRoutinesByUserIdAndDayOfWeekOrderByCreatedAtDesc(
+        SELECT r.id FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND (:dayOfWeek IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineSchedule s WHERE s.routine = r AND s.dayOfWeek = :dayOfWeek))
+        ORDER BY r.likeCount DESC, r.createdAt DESC, r.id DESC
+    """, countQuery = """
+        SELECT COUNT(r) FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND (:dayOfWeek IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineSchedule s WHERE s.routine = r AND s.dayOfWeek = :dayOfWeek))
+    """)
+    Page<UUID> findMyRoutineIdsOrderByLikeCount(
             @Param("userId") UUID userId,
             @Param("dayOfWeek") DayOfWeek dayOfWeek,
             Pageable pageable
     );
-    // 최신순 (요일 미선택)
-    Page<Routine> findDistinctByUserIdAndStatusIsTrueOrderByCreatedAtDesc(
-            UUID userId, Pageable pageable);
 
-    // 인기순 (요일 선택)
+    // 시간순 (요일 선택, 같은 요일에 스케줄이 여러 개면 가장 이른 시각 기준)
     @Query(value = """
-    SELECT DISTINCT r
-      FROM Routine r
-      JOIN r.routineSchedules s
-     WHERE r.user.id = :userId
-       AND r.status = true
-       AND s.dayOfWeek = :dayOfWeek
-  ORDER BY r.likeCount DESC, r.createdAt DESC
-""",
-            countQuery = """
-    SELECT COUNT(DISTINCT r.id)
-      FROM Routine r
-      JOIN r.routineSchedules s
-     WHERE r.user.id = :userId
-       AND r.status = true
-       AND s.dayOfWeek = :dayOfWeek
-""")
-    Page<Routine> findRoutinesByUserIdAndDayOfWeekOrderByPopularity(
+        SELECT r.id FROM Routine r
+        JOIN r.routineSchedules s
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND s.dayOfWeek = :dayOfWeek
+        GROUP BY r.id
+        ORDER BY MIN(s.time) ASC, r.id ASC
+    """, countQuery = "SELECT COUNT(DISTINCT r.id) FROM Routine r JOIN r.routineSchedules s WHERE r.user.id = :userId AND r.status = true AND s.dayOfWeek = :dayOfWeek")
+    Page<UUID> findMyRoutineIdsByDayOrderByTime(
             @Param("userId") UUID userId,
             @Param("dayOfWeek") DayOfWeek dayOfWeek,
             Pageable pageable
     );
-    // 인기순 (요일 미선택)
-    Page<Routine> findDistinctByUserIdAndStatusIsTrueOrderByLikeCountDescCreatedAtDesc(
-            UUID userId, Pageable pageable);
-
-    // 시간순
-    @Query(value = "SELECT DISTINCT r FROM Routine r JOIN r.routineSchedules s WHERE r.user.id = :userId AND r.status = true AND s.dayOfWeek = :dayOfWeek ORDER BY s.time ASC",
-            countQuery = "SELECT COUNT(DISTINCT r.id) FROM Routine r JOIN r.routineSchedules s WHERE r.user.id = :userId AND r.status = true AND s.dayOfWeek = :dayOfWeek")
-    Page<Routine> findRoutinesByUserIdAndDayOfWeekOrderByScheduleTimeAsc(
+
+    /**
+     * 내 루틴 커서 조회 (요일 조건은 선택, 첫 페이지는 lastId = null)
+     */
+    // 최신순
+    @Query("""
+        SELECT r.id AS id, r.createdAt AS createdAt, r.likeCount AS likeCount FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND (:dayOfWeek IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineSchedule s WHERE s.routine = r AND s.dayOfWeek = :dayOfWeek))
+          AND (:lastId IS NULL
+                OR r.createdAt < :lastCreatedAt
+                OR (r.createdAt = :lastCreatedAt AND r.id < :lastId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<RoutineKeysetRow> findMyRoutineKeysOrderByCreatedAt(
+            @Param("userId") UUID userId,
+            @Param("dayOfWeek") DayOfWeek dayOfWeek,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") UUID lastId,
+            Pageable pageable);
+
+    // 인기순
+    @Query("""
+        SELECT r.id AS id, r.createdAt AS createdAt, r.likeCount AS likeCount FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND (:dayOfWeek IS NULL OR EXISTS (
+                SELECT 1 FROM RoutineSchedule s WHERE s.routine = r AND s.dayOfWeek = :dayOfWeek))
+          AND (:lastId IS NULL
+                OR r.likeCount < :lastLikeCount
+                OR (r.likeCount = :lastLikeCount AND r.createdAt < :lastCreatedAt)
+                OR (r.likeCount = :lastLikeCount AND r.createdAt = :lastCreatedAt AND r.id < :lastId))
+        ORDER BY r.likeCount DESC, r.createdAt DESC, r.id DESC
+    """)
+    List<RoutineKeysetRow> findMyRoutineKeysOrderByLikeCount(
+            @Param("userId") UUID userId,
+            @Param("dayOfWeek") DayOfWeek dayOfWeek,
+            @Param("lastLikeCount") Integer lastLikeCount,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") UUID lastId,
+            Pageable pageable);
+
+    // 시간순 (요일 선택, 그 요일의 가장 이른 스케줄 기준)
+    @Query("""
+        SELECT r.id AS id, MIN(s.time) AS time FROM Routine r
+        JOIN r.routineSchedules s
+        WHERE r.user.id = :userId
+          AND r.status = true
+          AND s.dayOfWeek = :dayOfWeek
+        GROUP BY r.id
+        HAVING :lastId IS NULL
+            OR MIN(s.time) > :lastTime
+            OR (MIN(s.time) = :lastTime AND r.id > :lastId)
+        ORDER BY MIN(s.time) ASC, r.id ASC
+    """)
+    List<RoutineTimeKeysetRow> findMyRoutineKeysByDayOrderByTime(
             @Param("userId") UUID userId,
             @Param("dayOfWeek") DayOfWeek dayOfWeek,
+            @Param("lastTime") LocalTime lastTime,
+            @Param("lastId") UUID lastId,
             Pageable pageable);
 
     List<Routine> findAllByUserId(UUID userId);
@@ -144,10 +290,11 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
      * @param weekAgo    조회 시작 시점 (일주일 전)
      * @param viewWeight 조회수 가중치
      * @param likeWeight 좋아요 수 가중치
+     * @param userId     제외할 소유자 ID (null이면 전체 사용자 대상)
      * @param pageable   결과 개수 제한
      * @return 인기 루틴 목록
      */
-    @Query(value = "SELECT r.id FROM Routine r WHERE r.createdAt >= :weekAgo AND r.user.id <> :userId " +
+    @Query(value = "SELECT r.id FROM Routine r WHERE r.createdAt >= :weekAgo AND (:userId IS NULL OR r.user.id <> :userId) " +
             "GROUP BY r.id, r.viewCount, r.likeCount, r.createdAt " + // GROUP BY에 정렬 기준 컬럼 추가
             "ORDER BY (CAST(r.viewCount AS double) * :viewWeight + CAST(r.likeCount AS double) * :likeWeight) DESC, r.createdAt DESC")
     List<UUID> findHotRoutinesIds(@Param("weekAgo") LocalDateTime weekAgo,
@@ -156,6 +303,16 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
                                   @Param("userId") UUID userId,
                                   Pageable pageable);
 
+    /**
+     * 인기 루틴 리더보드 재구성을 위해 최근 생성된 루틴의 점수 계산용 값만 조회합니다.
+     *
+     * @param since 조회 시작 시점
+     * @return 루틴 ID, 소유자 ID, 생성 시각, 조회수, 좋아요 수
+     */
+    @Query("SELECT r.id AS id, r.user.id AS ownerId, r.createdAt AS createdAt, r.viewCount AS viewCount, r.likeCount AS likeCount " +
+            "FROM Routine r WHERE r.createdAt >= :since")
+    List<HotRoutineScoreSource> findHotScoreSourcesCreatedAfter(@Param("since") LocalDateTime since);
+
     /**
      * 주어진 태그를 포함하는 루틴의 ID를, 태그 일치 개수가 많은 순으로 정렬하여 조회.
      * JOIN FETCH를 제거하여 COUNT 및 GROUP BY와 함께 사용할 수 있도록 수정했.
@@ -173,6 +330,49 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
         WHERE r.id IN :ids
     """)
     List<Routine> findWithAllDetailsByIds(@Param("ids") List<UUID> ids);
+
+    /**
+     * 카드 표시에 필요한 컬럼만 조회합니다. (태그는 RoutineTagRepository.findTagNamesByRoutineIds로 따로 조회)
+     */
+    @Query("""
+        SELECT new com.moru.backend.domain.routine.dao.routine.RoutineCardRow(
+            r.id, r.user.id, r.title, r.imageUrl, r.likeCount, r.createdAt, r.requiredTime)
+        FROM Routine r
+        WHERE r.id IN :ids
+    """)
+    List<RoutineCardRow> findCardRowsByIds(@Param("ids") List<UUID> ids);
+
+    // 프로필 화면용: 사용자에게 표시되는 루틴 카드 (최신순)
+    @Query("""
+        SELECT new com.moru.backend.domain.routine.dao.routine.RoutineCardRow(
+            r.id, r.user.id, r.title, r.imageUrl, r.likeCount, r.createdAt, r.requiredTime)
+        FROM Routine r
+        WHERE r.user.id = :userId
+          AND r.isUserVisible = true
+        ORDER BY r.createdAt DESC
+    """)
+    List<RoutineCardRow> findVisibleCardRowsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 검색 인덱스 재구성용으로 모든 루틴의 검색 필드를 흘려 읽습니다. (읽기 전용 트랜잭션 안에서 호출)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT r.id AS id, r.title AS title, r.content AS content, r.createdAt AS createdAt, r.likeCount AS likeCount, " +
+            "r.requiredTime AS requiredTime, r.stepCount AS stepCount FROM Routine r")
+    Stream<RoutineSearchDocument> streamSearchDocuments();
+
+    @Query("SELECT r.id AS id, r.title AS title, r.content AS content, r.createdAt AS createdAt, r.likeCount AS likeCount, " +
+            "r.requiredTime AS requiredTime, r.stepCount AS stepCount FROM Routine r WHERE r.id = :id")
+    Optional<RoutineSearchDocument> findSearchDocumentById(@Param("id") UUID id);
+
+    // 자동완성 인덱스 재구성/부분 갱신용
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT r.id AS id, r.title AS title, r.likeCount AS likeCount FROM Routine r")
+    Stream<RoutineTitleSource> streamTitleSources();
+
+    @Query("SELECT r.id AS id, r.title AS title, r.likeCount AS likeCount FROM Routine r WHERE r.id = :id")
+    Optional<RoutineTitleSource> findTitleSourceById(@Param("id") UUID id);
+
     /**
      * 두 개의 태그를 모두 포함하는 루틴을 인기순으로 정렬하여 조회합니다.
      *
@@ -191,15 +391,6 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
     """, countQuery = "SELECT COUNT(DISTINCT r.id) FROM Routine r JOIN r.routineTags rt1 JOIN r.routineTags rt2 WHERE rt1.tag.id = :tag1 AND rt2.tag.id = :tag2 AND r.user.id <> :userId")
     Page<UUID> findRoutineIdsByTagPair(@Param("tag1") UUID tag1, @Param("tag2") UUID tag2, @Param("userId") UUID userId, Pageable pageable);
 
-    /**
-     * 특정 루틴의 조회수를 1 증가시킵니다.
-     *
-     * @param id 조회수를 증가시킬 루틴의 ID
-     */
-    @Modifying
-    @Query("update Routine r set r.viewCount = r.viewCount + 1 where r.id = :id")
-    void incrementViewCount(@Param("id") UUID id);
-
     /**
      * 특정 루틴과 비슷한 태그를 가진 다른 루틴들을 추천합니다.
      *
@@ -218,22 +409,92 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID>, Routine
     Page<UUID> findSimilarRoutineIdsByTagIds(@Param("tagIds") List<UUID> tagIds, @Param("routineId") UUID routineId, Pageable pageable);
 
 
-    @Query("SELECT r.title FROM Routine r WHERE r.id = :routineId")
-    String findTitleById(@Param("routineId") UUID routineId);
+    /**
+     * (fromId, toId] 구간 루틴의 스텝 수 컬럼을 실제 스텝 개수와 맞춥니다. (컬럼 추가 전 데이터 보정 및 주기적 검증용)
+     * 구간 단위로 나눠 실행해 한 번에 잡는 행 락을 줄입니다. (첫 구간은 fromId = null)
+     *
+     * @return 보정한 루틴 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE routine r
+           SET r.step_count = (SELECT COUNT(*) FROM routine_step s WHERE s.routine_id = r.id)
+         WHERE (:fromId IS NULL OR r.id > :fromId)
+           AND r.id <= :toId
+           AND r.step_count <> (SELECT COUNT(*) FROM routine_step s WHERE s.routine_id = r.id)
+    """, nativeQuery = true)
+    int syncStepCountsInRange(@Param("fromId") UUID fromId, @Param("toId") UUID toId);
 
-    @Query("SELECT r.isUserVisible FROM Routine r WHERE r.id = :routineId")
-    boolean getIsUserVisibleById(@Param("routineId") UUID routineId);
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Routine r set r.stepCount = (select count(s) from RoutineStep s where s.routine.id = :id) where r.id = :id")
+    int refreshStepCount(@Param("id") UUID id);
+
+    /**
+     * 보정 배치를 ID 구간으로 나누기 위해 루틴 ID를 오름차순으로 조회합니다. (첫 구간은 lastId = null)
+     */
+    @Query("SELECT r.id FROM Routine r WHERE (:lastId IS NULL OR r.id > :lastId) ORDER BY r.id ASC")
+    List<UUID> findIdsAfter(@Param("lastId") UUID lastId, Pageable pageable);
+
+    /**
+     * (fromId, toId] 구간 루틴의 좋아요 행을 공유 락으로 잠급니다. (범위 락이라 트랜잭션이 끝날 때까지 이 구간의 좋아요 추가/취소가 커밋되지 않습니다)
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM routine_user_action a
+         WHERE (:fromId IS NULL OR a.routine_id > :fromId)
+           AND a.routine_id <= :toId
+           AND a.action_type = 'LIKE'
+         FOR SHARE
+    """, nativeQuery = true)
+    long lockLikeRowsInRange(@Param("fromId") UUID fromId, @Param("toId") UUID toId);
+
+    /**
+     * (fromId, toId] 구간 루틴의 좋아요 수 컬럼을 routine_user_action의 실제 좋아요 개수와 맞춥니다.
+     * 구간 단위로 나눠 실행해 한 번에 잡는 행 락을 줄입니다. (첫 구간은 fromId = null)
+     *
+     * @return 보정한 루틴 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE routine r
+           SET r.like_count = (SELECT COUNT(*) FROM routine_user_action a WHERE a.routine_id = r.id AND a.action_type = 'LIKE')
+         WHERE (:fromId IS NULL OR r.id > :fromId)
+           AND r.id <= :toId
+           AND r.like_count <> (SELECT COUNT(*) FROM routine_user_action a WHERE a.routine_id = r.id AND a.action_type = 'LIKE')
+    """, nativeQuery = true)
+    int syncLikeCountsInRange(@Param("fromId") UUID fromId, @Param("toId") UUID toId);
+
+    /**
+     * (fromId, toId] 구간 루틴의 스크랩 수 컬럼을 routine_user_action의 실제 스크랩 개수와 맞춥니다.
+     * (컬럼 추가 전 데이터 보정 및 주기적 검증용, 첫 구간은 fromId = null)
+     *
+     * @return 보정한 루틴 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE routine r
+           SET r.scrap_count = (SELECT COUNT(*) FROM routine_user_action a WHERE a.routine_id = r.id AND a.action_type = 'SCRAP')
+         WHERE (:fromId IS NULL OR r.id > :fromId)
+           AND r.id <= :toId
+           AND r.scrap_count <> (SELECT COUNT(*) FROM routine_user_action a WHERE a.routine_id = r.id AND a.action_type = 'SCRAP')
+    """, nativeQuery = true)
+    int syncScrapCountsInRange(@Param("fromId") UUID fromId, @Param("toId") UUID toId);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Routine r set r.likeCount = r.likeCount + 1 where r.id = :id")
-    int incrementLikeCount(@Param("id") UUID id);
+    @Query("update Routine r set r.scrapCount = r.scrapCount + 1 where r.id = :id")
+    int incrementScrapCount(@Param("id") UUID id);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
            update Routine r
-              set r.likeCount = case when r.likeCount > 0 then r.likeCount - 1 else 0 end
+              set r.scrapCount = case when r.scrapCount > 0 then r.scrapCount - 1 else 0 end
             where r.id = :id
            """)
-    int decrementLikeCount(@Param("id") UUID id);
+    int decrementScrapCount(@Param("id") UUID id);
+
+    @Query("SELECT r.title FROM Routine r WHERE r.id = :routineId")
+    String findTitleById(@Param("routineId") UUID routineId);
+
+    @Query("SELECT r.isUserVisible FROM Routine r WHERE r.id = :routineId")
+    boolean getIsUserVisibleById(@Param("routineId") UUID routineId);
 
 }
@@ -1,11 +1,20 @@
 package com.moru.backend.domain.routine.dao.routine;
 
-import com.moru.backend.domain.routine.domain.Routine;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
+import java.util.Map;
 import java.util.UUID;
 
 public interface RoutineRepositoryCustom {
-    Page<Routine> findRoutinesOrderByUpcoming(UUID userId, Pageable pageable);
+    /**
+     * 여러 루틴의 조회수를 UPDATE 한 번으로 더한다. (CASE로 루틴별 증가분 지정)
+     *
+     * @return 갱신된 행 수
+     */
+    int incrementViewCounts(Map<UUID, Long> increments);
+
+    /**
+     * 여러 루틴의 좋아요 수에 증감분을 UPDATE 한 번으로 더한다. (0 아래로는 내려가지 않음)
+     *
+     * @return 갱신된 행 수
+     */
+    int addLikeCounts(Map<UUID, Long> deltas);
 }
\ No newline at end of file
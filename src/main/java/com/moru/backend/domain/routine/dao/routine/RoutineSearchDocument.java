@@ -0,0 +1,18 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 검색 인덱스에 올리는 루틴 필드 (엔티티 전체를 읽지 않기 위한 프로젝션)
+ */
+public interface RoutineSearchDocument {
+    UUID getId();
+    String getTitle();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    Integer getLikeCount();
+    Duration getRequiredTime();
+    Integer getStepCount();
+}
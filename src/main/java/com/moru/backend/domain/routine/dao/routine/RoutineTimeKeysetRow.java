@@ -0,0 +1,12 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 요일별 시간순 커서 조회 결과 (그 요일의 가장 이른 스케줄 시각)
+ */
+public interface RoutineTimeKeysetRow {
+    UUID getId();
+    LocalTime getTime();
+}
@@ -0,0 +1,12 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.util.UUID;
+
+/**
+ * 루틴명 자동완성 인덱스용 프로젝션
+ */
+public interface RoutineTitleSource {
+    UUID getId();
+    String getTitle();
+    Integer getLikeCount();
+}
@@ -0,0 +1,10 @@
+package com.moru.backend.domain.routine.dao.routine;
+
+import java.util.UUID;
+
+/**
+ * 다가오는 스케줄순 커서 조회 결과
+ *
+ * @param secondsUntil 기준 시각부터 루틴의 다음 스케줄까지 남은 초 (일주일 안)
+ */
+public record RoutineUpcomingKey(UUID id, int secondsUntil) {}
@@ -0,0 +1,24 @@
+package com.moru.backend.domain.routine.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis에 모은 카운터 증감분을 DB에 반영한 배치 기록.
+ * 증감분과 같은 트랜잭션에서 남기므로, 반영 후 Redis 키 삭제가 실패해도 같은 배치를 두 번 더하지 않는다.
+ */
+@Entity
+@Table(name = "counter_flush_batch")
+@Getter
+@NoArgsConstructor
+public class CounterFlushBatch {
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
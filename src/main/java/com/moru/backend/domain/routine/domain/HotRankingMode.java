@@ -0,0 +1,10 @@
+package com.moru.backend.domain.routine.domain;
+
+/**
+ * 추천 피드의 인기 루틴 정렬 방식
+ */
+public enum HotRankingMode {
+    SQL,         // 최근 7일 루틴을 DB에서 가중치 점수로 정렬
+    LEADERBOARD, // 생성일 버킷별 Redis 리더보드 (최근 7일, 누적 점수)
+    TRENDING     // 반감기 기반으로 감쇠되는 트렌딩 점수 (기간 제한 없음)
+}
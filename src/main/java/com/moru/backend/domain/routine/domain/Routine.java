@@ -23,7 +23,13 @@ import com.moru.backend.domain.routine.domain.schedule.RoutineSchedule;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "routine")
+@Table(
+        name = "routine",
+        indexes = {
+                @Index(name = "idx_routine_required_time_created_at", columnList = "required_time, created_at"),
+                @Index(name = "idx_routine_step_count_created_at", columnList = "step_count, created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,6 +62,10 @@ public class Routine {
     @Column(columnDefinition = "int unsigned default 0", nullable = false)
     private Integer likeCount = 0;
 
+    @Builder.Default
+    @Column(columnDefinition = "int unsigned default 0", nullable = false)
+    private Integer scrapCount = 0;
+
     @Column(columnDefinition = "int unsigned default 0", nullable = false)
     @Builder.Default
     private Integer viewCount = 0;
@@ -64,6 +74,11 @@ public class Routine {
     @Convert(converter = DurationToLongConverter.class)
     private Duration requiredTime;
 
+    // 스텝 수 (검색 범위 조건용 비정규화 컬럼, 스텝 추가/삭제 시 함께 갱신)
+    @Builder.Default
+    @Column(columnDefinition = "int unsigned default 0", nullable = false)
+    private Integer stepCount = 0;
+
     @Column(length = 500)
     private String imageUrl;
 
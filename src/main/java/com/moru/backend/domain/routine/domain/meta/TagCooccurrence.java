@@ -0,0 +1,56 @@
+package com.moru.backend.domain.routine.domain.meta;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 두 태그가 같은 루틴에 함께 연결된 횟수.
+ * tag1_id < tag2_id (BINARY 비교 기준) 순서로만 저장한다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "tag_pair_count",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tag1_id", "tag2_id"}),
+        indexes = {
+                @Index(name = "idx_tag_pair_count_cnt", columnList = "cnt"),
+                @Index(name = "idx_tag_pair_count_tag1_cnt", columnList = "tag1_id, cnt"),
+                @Index(name = "idx_tag_pair_count_tag2_cnt", columnList = "tag2_id, cnt")
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagCooccurrence {
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(
+            name = "UUID",
+            strategy = "org.hibernate.id.UUIDGenerator"
+    )
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "tag1_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID tag1Id;
+
+    @Column(name = "tag2_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID tag2Id;
+
+    @Column(columnDefinition = "bigint default 0", nullable = false)
+    private Long cnt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
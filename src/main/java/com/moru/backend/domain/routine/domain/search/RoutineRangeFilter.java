@@ -0,0 +1,41 @@
+package com.moru.backend.domain.routine.domain.search;
+
+import java.time.Duration;
+
+/**
+ * 루틴 검색 범위 조건 (소요 시간은 분, 스텝 수는 개. null이면 해당 경계 없음)
+ * 소요 시간 조건이 있으면 소요 시간이 없는 간편 루틴은 제외된다.
+ */
+public record RoutineRangeFilter(
+        Integer minRequiredMinutes,
+        Integer maxRequiredMinutes,
+        Integer minStepCount,
+        Integer maxStepCount
+) {
+    public boolean isEmpty() {
+        return minRequiredMinutes == null && maxRequiredMinutes == null && minStepCount == null && maxStepCount == null;
+    }
+
+    public Duration minRequiredTime() {
+        return minRequiredMinutes == null ? null : Duration.ofMinutes(minRequiredMinutes);
+    }
+
+    public Duration maxRequiredTime() {
+        return maxRequiredMinutes == null ? null : Duration.ofMinutes(maxRequiredMinutes);
+    }
+
+    /**
+     * @param requiredSeconds 소요 시간(초), 없으면 음수
+     */
+    public boolean matches(long requiredSeconds, int stepCount) {
+        if (minRequiredMinutes != null || maxRequiredMinutes != null) {
+            if (requiredSeconds < 0
+                    || minRequiredMinutes != null && requiredSeconds < minRequiredMinutes * 60L
+                    || maxRequiredMinutes != null && requiredSeconds > maxRequiredMinutes * 60L) {
+                return false;
+            }
+        }
+        return (minStepCount == null || stepCount >= minStepCount)
+                && (maxStepCount == null || stepCount <= maxStepCount);
+    }
+}
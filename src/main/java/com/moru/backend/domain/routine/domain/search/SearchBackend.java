@@ -0,0 +1,11 @@
+package com.moru.backend.domain.routine.domain.search;
+
+/**
+ * 루틴 검색 백엔드
+ * - SQL: 제목 LIKE 검색 (기존 방식)
+ * - INDEX: 서버 메모리의 n-gram 역색인 + BM25 (제목/본문), 인덱스를 쓸 수 없는 요청은 SQL로 처리
+ */
+public enum SearchBackend {
+    SQL,
+    INDEX
+}
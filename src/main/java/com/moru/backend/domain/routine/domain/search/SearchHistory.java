@@ -5,14 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@EntityListeners(AuditingEntityListener.class)
 @Table(name = "search_history")
 @Getter
 @NoArgsConstructor
@@ -33,7 +30,14 @@ public class SearchHistory {
     @Column(nullable = false)
     private SearchType searchType;
 
-    @CreatedDate
+    // 대기열에서 늦게 저장되는 기록은 검색한 시각을 넘겨받는다 (감사 리스너는 저장 시각으로 덮어쓰므로 비어 있을 때만 채움)
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 }
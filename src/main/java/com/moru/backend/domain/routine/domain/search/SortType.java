@@ -3,5 +3,6 @@ package com.moru.backend.domain.routine.domain.search;
 public enum SortType {
     LATEST,
     POPULAR,
-    TIME
+    TIME,
+    RELEVANCE // 검색 전용: 검색어 일치도(BM25)순
 }
@@ -0,0 +1,32 @@
+package com.moru.backend.domain.routine.domain.search;
+
+import com.moru.backend.global.exception.CustomException;
+import com.moru.backend.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 트렌드 집계 구간. 1시간은 분 단위 버킷 60개, 24시간/7일은 시간 단위 버킷(현재 시간 포함)을 합쳐서 계산한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendWindow {
+    ONE_HOUR("1h", ChronoUnit.MINUTES, 60),
+    ONE_DAY("24h", ChronoUnit.HOURS, 24),
+    SEVEN_DAYS("7d", ChronoUnit.HOURS, 168);
+
+    private final String code;
+    private final ChronoUnit bucketUnit;
+    private final int bucketCount;
+
+    public static TrendWindow from(String code) {
+        for (TrendWindow window : values()) {
+            if (window.code.equalsIgnoreCase(code) || window.name().equalsIgnoreCase(code)) {
+                return window;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,11 @@
+package com.moru.backend.domain.routine.domain.search;
+
+/**
+ * 실시간 트렌드 집계 대상
+ * - KEYWORD: 루틴명 검색어
+ * - TAG: 루틴 생성/실행에 쓰인 태그
+ */
+public enum TrendingTermType {
+    KEYWORD,
+    TAG
+}
@@ -0,0 +1,46 @@
+package com.moru.backend.domain.routine.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 루틴 목록/검색 무한 스크롤 커서 (이전 페이지 마지막 루틴의 정렬 키).
+ * 정렬 방식마다 쓰는 값만 채워지며, routineId가 없으면 첫 페이지로 본다.
+ * - LATEST: createdAt, routineId
+ * - POPULAR: likeCount, createdAt, routineId
+ * - RELEVANCE: score, createdAt, routineId
+ * - TIME (요일 선택): time, routineId
+ * - TIME (요일 미선택): secondsUntil, routineId, anchorAt (첫 페이지 조회 시각, 이후 페이지도 같은 기준으로 계산)
+ */
+public record RoutineCursor(
+        UUID routineId,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt,
+        Integer likeCount,
+        Double score,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime time,
+        Integer secondsUntil,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime anchorAt
+) {
+    public boolean isFirstPage() {
+        return routineId == null;
+    }
+
+    public static RoutineCursor ofCreatedAt(UUID routineId, LocalDateTime createdAt, Integer likeCount) {
+        return new RoutineCursor(routineId, createdAt, likeCount, null, null, null, null);
+    }
+
+    public static RoutineCursor ofScore(UUID routineId, LocalDateTime createdAt, Integer likeCount, double score) {
+        return new RoutineCursor(routineId, createdAt, likeCount, score, null, null, null);
+    }
+
+    public static RoutineCursor ofTime(UUID routineId, LocalTime time) {
+        return new RoutineCursor(routineId, null, null, null, time, null, null);
+    }
+
+    public static RoutineCursor ofUpcoming(UUID routineId, int secondsUntil, LocalDateTime anchorAt) {
+        return new RoutineCursor(routineId, null, null, null, null, secondsUntil, anchorAt);
+    }
+}
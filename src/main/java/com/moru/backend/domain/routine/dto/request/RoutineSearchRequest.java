@@ -1,7 +1,10 @@
 package com.moru.backend.domain.routine.dto.request;
 
+import com.moru.backend.domain.routine.domain.search.RoutineRangeFilter;
 import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.domain.routine.dto.RoutineCursor;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +22,7 @@ public class RoutineSearchRequest {
     @Schema(description = "태그명 검색어 목록", example = "[\"운동\", \"건강\"]")
     private List<String> tagNames;
 
-    @Schema(description = "정렬 방식 (LATEST : 최신순, POPULAR : 인기순)", example = "LATEST")
+    @Schema(description = "정렬 방식 (LATEST : 최신순, POPULAR : 인기순, RELEVANCE : 검색어 일치도순)", example = "LATEST")
     private SortType sortType = SortType.LATEST;
 
     @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
@@ -27,4 +30,27 @@ public class RoutineSearchRequest {
 
     @Schema(description = "페이지 크기", example = "20")
     private Integer size = 20;
+
+    @Schema(description = "최소 소요 시간 (분)", example = "0")
+    @PositiveOrZero
+    private Integer minRequiredMinutes;
+
+    @Schema(description = "최대 소요 시간 (분, 예: 10분 이하)", example = "10")
+    @PositiveOrZero
+    private Integer maxRequiredMinutes;
+
+    @Schema(description = "최소 스텝 수", example = "1")
+    @PositiveOrZero
+    private Integer minStepCount;
+
+    @Schema(description = "최대 스텝 수 (예: 3개 이하)", example = "3")
+    @PositiveOrZero
+    private Integer maxStepCount;
+
+    @Schema(description = "무한 스크롤 커서 (/scroll 전용, 이전 응답의 nextCursor. 첫 페이지는 생략)")
+    private RoutineCursor cursor;
+
+    public RoutineRangeFilter toRangeFilter() {
+        return new RoutineRangeFilter(minRequiredMinutes, maxRequiredMinutes, minStepCount, maxStepCount);
+    }
 }
@@ -6,5 +6,6 @@ public record RecommendFeedResponse(
     List<RoutineListResponse> hotRoutines,
     List<RoutineListResponse> personalRoutines,
     TagPairSection tagPairSection1,
-    TagPairSection tagPairSection2
+    TagPairSection tagPairSection2,
+    List<RoutineListResponse> collaborativeRoutines
 ) {}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.moru.backend.domain.routine.dto.response;
 
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
 import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.meta.RoutineTag;
 import com.moru.backend.domain.log.domain.snapshot.RoutineSnapshot;
@@ -43,7 +44,13 @@ public record RoutineListResponse(
     Duration requiredTime,
 
     @Schema(description = "현재 사용자가 이 루틴을 실행 중인지 여부", example = "false")
-    boolean isRunning
+    boolean isRunning,
+
+    @Schema(description = "현재 사용자가 좋아요를 눌렀는지 여부", example = "false")
+    boolean isLiked,
+
+    @Schema(description = "현재 사용자가 스크랩했는지 여부", example = "false")
+    boolean isScrapped
 ) {
     /**
      * 일반 Routine 엔티티 기반 카드 응답 생성 (공개/소유 루틴 등)
@@ -62,6 +69,22 @@ public record RoutineListResponse(
                 .build();
     }
 
+    /**
+     * 카드 프로젝션 기반 응답 생성 (엔티티 없이 컬럼 + 태그 이름만 사용)
+     */
+    public static RoutineListResponse fromCardRow(RoutineCardRow row, String imageFullUrl, List<String> tagNames, boolean isRunning) {
+        return RoutineListResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .imageUrl(imageFullUrl)
+                .tags(tagNames)
+                .likeCount(row.likeCount())
+                .createdAt(row.createdAt())
+                .requiredTime(row.requiredTime())
+                .isRunning(isRunning)
+                .build();
+    }
+
     /**
      * 기존 코드 호환용 -> isRunning은 false로 기본 설정됨
      */
@@ -70,6 +93,26 @@ public record RoutineListResponse(
         return fromRoutine(routine, imageFullUrl, tags, false);
     }
 
+    /**
+     * 캐시된 카드에 최신 실행 상태만 덮어쓴 사본 생성
+     */
+    public RoutineListResponse withRunning(boolean isRunning) {
+        if (this.isRunning == isRunning) {
+            return this;
+        }
+        return new RoutineListResponse(id, title, imageUrl, tags, likeCount, createdAt, requiredTime, isRunning, isLiked, isScrapped);
+    }
+
+    /**
+     * 조회하는 사용자의 좋아요/스크랩 상태를 덮어쓴 사본 생성
+     */
+    public RoutineListResponse withEngagement(boolean isLiked, boolean isScrapped) {
+        if (this.isLiked == isLiked && this.isScrapped == isScrapped) {
+            return this;
+        }
+        return new RoutineListResponse(id, title, imageUrl, tags, likeCount, createdAt, requiredTime, isRunning, isLiked, isScrapped);
+    }
+
     /**
      * 실행중인 루틴(스냅샷 기반) 카드 응답 생성
      * RoutineSnapshot → RoutineListResponse
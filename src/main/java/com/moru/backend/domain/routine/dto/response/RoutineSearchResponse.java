@@ -29,7 +29,13 @@ public record RoutineSearchResponse(
     LocalDateTime createdAt,
 
     @Schema(description = "해당 루틴의 소유주가 루틴을 실행 중인지 여부", example = "false")
-    boolean isRunning
+    boolean isRunning,
+
+    @Schema(description = "현재 사용자가 좋아요를 눌렀는지 여부", example = "false")
+    boolean isLiked,
+
+    @Schema(description = "현재 사용자가 스크랩했는지 여부", example = "false")
+    boolean isScrapped
 
 ) {
 
@@ -41,7 +47,9 @@ public record RoutineSearchResponse(
             routineListResponse.tags(),
             routineListResponse.likeCount(),
             routineListResponse.createdAt(),
-            isRunning
+            isRunning,
+            routineListResponse.isLiked(),
+            routineListResponse.isScrapped()
         );
     }
 }
@@ -0,0 +1,12 @@
+package com.moru.backend.domain.routine.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "검색 결과의 태그별 루틴 수")
+public record TagFacetResponse(
+    @Schema(description = "태그명", example = "운동")
+    String tagName,
+
+    @Schema(description = "현재 검색어 결과 중 이 태그가 달린 루틴 수", example = "42")
+    long count
+) {}
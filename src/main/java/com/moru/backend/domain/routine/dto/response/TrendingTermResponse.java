@@ -0,0 +1,15 @@
+package com.moru.backend.domain.routine.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "실시간 인기 검색어/태그")
+public record TrendingTermResponse(
+    @Schema(description = "순위 (1부터 시작)", example = "1")
+    int rank,
+
+    @Schema(description = "검색어 또는 태그명", example = "아침")
+    String term,
+
+    @Schema(description = "집계 구간 동안의 검색/사용 횟수", example = "128")
+    long count
+) {}
@@ -0,0 +1,17 @@
+package com.moru.backend.domain.routine.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 특정 사용자의 추천 피드 입력(좋아요, 스크랩, 관심 태그)이 바뀌었음을 알리는 이벤트
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class RecommendFeedStaleEvent {
+    private final UUID userId;
+}
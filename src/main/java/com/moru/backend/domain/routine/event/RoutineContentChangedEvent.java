@@ -0,0 +1,17 @@
+package com.moru.backend.domain.routine.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 루틴의 제목/설명/스텝 구성이 바뀌었음을 알린다. (태그 변경은 RoutineTagsChangedEvent)
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class RoutineContentChangedEvent {
+    private final UUID routineId;
+}
@@ -0,0 +1,21 @@
+package com.moru.backend.domain.routine.event;
+
+import com.moru.backend.domain.routine.domain.ActionType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 사용자가 루틴에 좋아요/스크랩을 하거나 취소했음을 알린다. (active = 반영 후 상태)
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class RoutineEngagementChangedEvent {
+    private final UUID userId;
+    private final UUID routineId;
+    private final ActionType actionType;
+    private final boolean active;
+}
@@ -0,0 +1,26 @@
+package com.moru.backend.domain.routine.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인기/트렌딩 랭킹에 반영할 루틴 생성·조회·실행·삭제를 알린다. (랭킹 멤버에 필요한 소유자/생성일을 함께 담는다)
+ * 생성·실행은 트렌딩 태그 집계에 쓸 태그 이름도 담는다.
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class RoutineRankingChangedEvent {
+    public enum Type { CREATED, VIEWED, STARTED, DELETED }
+
+    private final Type type;
+    private final UUID routineId;
+    private final UUID ownerId;
+    private final LocalDateTime createdAt;
+    private final List<String> tagNames;
+}
@@ -0,0 +1,17 @@
+package com.moru.backend.domain.routine.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 사용자 루틴의 스케줄 구성이 바뀌었음을 알린다. (스케줄 추가/수정/삭제, 루틴 삭제/복제)
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class RoutineScheduleChangedEvent {
+    private final UUID userId;
+}
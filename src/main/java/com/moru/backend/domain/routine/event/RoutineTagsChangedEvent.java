@@ -0,0 +1,17 @@
+package com.moru.backend.domain.routine.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 루틴의 태그 구성이 바뀌었음을 알린다. (생성/수정/삭제/태그 연결·해제/복제)
+ */
+@RequiredArgsConstructor
+@Builder
+@Getter
+public class RoutineTagsChangedEvent {
+    private final UUID routineId;
+}
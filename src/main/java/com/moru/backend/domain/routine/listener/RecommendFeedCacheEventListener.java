@@ -0,0 +1,36 @@
+package com.moru.backend.domain.routine.listener;
+
+import com.moru.backend.domain.notification.event.RoutineCreatedEvent;
+import com.moru.backend.domain.routine.application.RecommendFeedCacheService;
+import com.moru.backend.domain.routine.event.RecommendFeedStaleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendFeedCacheEventListener {
+    private final RecommendFeedCacheService recommendFeedCacheService;
+
+    // 새 루틴은 모든 사용자의 피드에 들어갈 수 있으므로 전역 무효화를 예약한다 (버전은 최대 N분에 한 번 증가)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRoutineCreated(RoutineCreatedEvent event) {
+        try {
+            recommendFeedCacheService.invalidateAll();
+        } catch (Exception e) {
+            log.warn("추천 피드 전역 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFeedStale(RecommendFeedStaleEvent event) {
+        try {
+            recommendFeedCacheService.invalidateUser(event.getUserId());
+        } catch (Exception e) {
+            log.warn("추천 피드 무효화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.moru.backend.domain.routine.listener;
+
+import com.moru.backend.domain.routine.application.CollaborativeRoutineIndex;
+import com.moru.backend.domain.routine.application.HotRoutineLeaderboard;
+import com.moru.backend.domain.routine.application.RoutineLikeCounter;
+import com.moru.backend.domain.routine.application.RoutineSearchIndex;
+import com.moru.backend.domain.routine.application.TrendingRoutineEngine;
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.domain.ActionType;
+import com.moru.backend.domain.routine.event.RoutineEngagementChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 좋아요/스크랩 커밋 후에만 좋아요 수·랭킹·추천 인덱스를 갱신한다. (롤백된 요청은 이벤트가 전달되지 않는다)
+ * 랭킹 멤버에 필요한 소유자/생성일은 랭킹을 갱신할 때만 프로젝션으로 읽는다. (스크랩 취소는 읽지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineEngagementEventListener {
+    private final RoutineRepository routineRepository;
+    private final RoutineLikeCounter routineLikeCounter;
+    private final RoutineSearchIndex routineSearchIndex;
+    private final HotRoutineLeaderboard hotRoutineLeaderboard;
+    private final TrendingRoutineEngine trendingRoutineEngine;
+    private final CollaborativeRoutineIndex collaborativeRoutineIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleEngagementChanged(RoutineEngagementChangedEvent event) {
+        UUID routineId = event.getRoutineId();
+        // 협업 필터링은 좋아요/스크랩을 같은 반응으로 보며, 별도 스레드에서 반영된다
+        if (event.isActive()) {
+            collaborativeRoutineIndex.recordInteraction(event.getUserId(), routineId);
+        } else {
+            collaborativeRoutineIndex.recordRemoval(event.getUserId(), routineId);
+        }
+        if (event.getActionType() == ActionType.LIKE) {
+            applyLike(routineId, event.isActive());
+        } else if (event.isActive()) {
+            applyScrap(routineId);
+        }
+    }
+
+    // 좋아요 수 보정이 "커밋됐지만 아직 반영 대기에 오르지 않은" 좋아요를 알아볼 수 있도록 커밋 직전에 표시한다
+    // (표시 후 커밋이 실패하면 표시는 TTL로 사라지고, 그동안 그 루틴 구간의 보정만 미뤄진다)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void markLikeInFlight(RoutineEngagementChangedEvent event) {
+        if (event.getActionType() == ActionType.LIKE) {
+            routineLikeCounter.markInFlight(event.getRoutineId());
+        }
+    }
+
+    private void applyLike(UUID routineId, boolean active) {
+        int delta = active ? 1 : -1;
+        try {
+            routineLikeCounter.add(routineId, delta);
+            routineSearchIndex.publishLikeDelta(routineId, delta);
+        } catch (Exception e) {
+            log.warn("좋아요 수 반영 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+
+        try {
+            findCardRow(routineId).ifPresent(routine -> {
+                if (active) {
+                    hotRoutineLeaderboard.recordLike(routine);
+                    trendingRoutineEngine.recordLike(routine);
+                } else {
+                    hotRoutineLeaderboard.recordUnlike(routine);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 반영 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    private void applyScrap(UUID routineId) {
+        try {
+            findCardRow(routineId).ifPresent(trendingRoutineEngine::recordScrap);
+        } catch (Exception e) {
+            log.warn("스크랩 랭킹 반영 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+
+    private Optional<RoutineCardRow> findCardRow(UUID routineId) {
+        return routineRepository.findCardRowsByIds(List.of(routineId)).stream().findFirst();
+    }
+}
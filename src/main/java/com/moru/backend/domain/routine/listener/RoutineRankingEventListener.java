@@ -0,0 +1,57 @@
+package com.moru.backend.domain.routine.listener;
+
+import com.moru.backend.domain.routine.application.HotRoutineLeaderboard;
+import com.moru.backend.domain.routine.application.TrendingRoutineEngine;
+import com.moru.backend.domain.routine.application.TrendingTermCounter;
+import com.moru.backend.domain.routine.domain.search.TrendingTermType;
+import com.moru.backend.domain.routine.event.RoutineRankingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 루틴 생성/조회/실행/삭제가 커밋된 뒤에만 인기·트렌딩 랭킹과 트렌딩 태그를 갱신한다.
+ * (롤백된 요청이 랭킹에 남지 않고, Redis 지연이 DB 트랜잭션에 더해지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineRankingEventListener {
+    private final HotRoutineLeaderboard hotRoutineLeaderboard;
+    private final TrendingRoutineEngine trendingRoutineEngine;
+    private final TrendingTermCounter trendingTermCounter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRankingChanged(RoutineRankingChangedEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED -> {
+                    hotRoutineLeaderboard.register(event.getRoutineId(), event.getOwnerId(), event.getCreatedAt());
+                    recordTags(event);
+                }
+                case VIEWED -> {
+                    hotRoutineLeaderboard.recordView(event.getRoutineId(), event.getOwnerId(), event.getCreatedAt());
+                    trendingRoutineEngine.recordView(event.getRoutineId(), event.getOwnerId());
+                }
+                case STARTED -> {
+                    trendingRoutineEngine.recordStart(event.getRoutineId(), event.getOwnerId());
+                    recordTags(event);
+                }
+                case DELETED -> {
+                    hotRoutineLeaderboard.remove(event.getRoutineId(), event.getOwnerId(), event.getCreatedAt());
+                    trendingRoutineEngine.remove(event.getRoutineId(), event.getOwnerId());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("랭킹 갱신 실패: type={}, routineId={}, {}", event.getType(), event.getRoutineId(), e.getMessage());
+        }
+    }
+
+    private void recordTags(RoutineRankingChangedEvent event) {
+        if (event.getTagNames() != null && !event.getTagNames().isEmpty()) {
+            trendingTermCounter.record(TrendingTermType.TAG, event.getTagNames());
+        }
+    }
+}
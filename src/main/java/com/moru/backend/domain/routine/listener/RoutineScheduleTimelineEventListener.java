@@ -0,0 +1,25 @@
+package com.moru.backend.domain.routine.listener;
+
+import com.moru.backend.domain.routine.application.RoutineScheduleTimeline;
+import com.moru.backend.domain.routine.event.RoutineScheduleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineScheduleTimelineEventListener {
+    private final RoutineScheduleTimeline routineScheduleTimeline;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleScheduleChanged(RoutineScheduleChangedEvent event) {
+        try {
+            routineScheduleTimeline.invalidate(event.getUserId());
+        } catch (Exception e) {
+            log.warn("스케줄 타임라인 무효화 실패: {}", e.getMessage());
+        }
+    }
+}
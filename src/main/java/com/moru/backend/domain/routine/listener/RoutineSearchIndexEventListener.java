@@ -0,0 +1,38 @@
+package com.moru.backend.domain.routine.listener;
+
+import com.moru.backend.domain.routine.application.RoutineSearchIndex;
+import com.moru.backend.domain.routine.event.RoutineContentChangedEvent;
+import com.moru.backend.domain.routine.event.RoutineTagsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineSearchIndexEventListener {
+    private final RoutineSearchIndex routineSearchIndex;
+
+    // 생성/삭제/복제/태그 변경 (태그 필터에 쓰이는 태그 목록도 다시 색인)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRoutineTagsChanged(RoutineTagsChangedEvent event) {
+        reindex(event.getRoutineId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRoutineContentChanged(RoutineContentChangedEvent event) {
+        reindex(event.getRoutineId());
+    }
+
+    private void reindex(UUID routineId) {
+        try {
+            routineSearchIndex.publishDocumentChanged(routineId);
+        } catch (Exception e) {
+            log.warn("검색 인덱스 갱신 실패: routineId={}, {}", routineId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.moru.backend.domain.routine.listener;
+
+import com.moru.backend.domain.routine.application.SimilarRoutineIndex;
+import com.moru.backend.domain.routine.event.RoutineTagsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarRoutineIndexEventListener {
+    private final SimilarRoutineIndex similarRoutineIndex;
+
+    // 커밋된 태그 구성을 기준으로 해당 루틴과 이웃 루틴의 유사 목록을 갱신 (요청 스레드가 아닌 백그라운드에서)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRoutineTagsChanged(RoutineTagsChangedEvent event) {
+        try {
+            similarRoutineIndex.schedulePatch(event.getRoutineId());
+        } catch (Exception e) {
+            log.warn("유사 루틴 인덱스 갱신 실패: routineId={}, {}", event.getRoutineId(), e.getMessage());
+        }
+    }
+}
@@ -44,6 +44,15 @@ public class SocialController {
         return ResponseEntity.noContent().build(); // 204
     }
 
+    @Operation(summary = "좋아요 토글", description = "좋아요 상태를 뒤집고 바뀐 상태를 반환합니다.")
+    @PostMapping("/{routineId}/likes/toggle")
+    public ResponseEntity<EngagementToggleResponse> toggleLike(
+            @PathVariable UUID routineId,
+            @CurrentUser User user
+    ) {
+        return ResponseEntity.ok(new EngagementToggleResponse(likeService.toggle(routineId, user)));
+    }
+
     @Operation(summary = "스크랩 추가")
     @PostMapping("/{routineId}/scraps")
     public ResponseEntity<Void> scrap(
@@ -64,6 +73,15 @@ public class SocialController {
         return ResponseEntity.noContent().build(); // 204
     }
 
+    @Operation(summary = "스크랩 토글", description = "스크랩 상태를 뒤집고 바뀐 상태를 반환합니다.")
+    @PostMapping("/{routineId}/scraps/toggle")
+    public ResponseEntity<EngagementToggleResponse> toggleScrap(
+            @PathVariable UUID routineId,
+            @CurrentUser User user
+    ) {
+        return ResponseEntity.ok(new EngagementToggleResponse(scrapService.toggle(routineId, user)));
+    }
+
     @Operation(summary = "스크랩 조회")
     @GetMapping("/scraps")
     public ResponseEntity<ScrollResponse<ScrappedRoutineSummaryResponse, ScrapCursor>> getScraps(
@@ -2,66 +2,84 @@ package com.moru.backend.domain.social.application;
 
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
 import com.moru.backend.domain.routine.domain.ActionType;
-import com.moru.backend.domain.routine.domain.Routine;
+import com.moru.backend.domain.routine.event.RecommendFeedStaleEvent;
+import com.moru.backend.domain.routine.event.RoutineEngagementChangedEvent;
 import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
-import com.moru.backend.domain.social.domain.RoutineUserAction;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.exception.CustomException;
 import com.moru.backend.global.exception.ErrorCode;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
+/**
+ * 좋아요 추가/취소는 멱등하다. 같은 요청이 두 번 와도 행과 좋아요 수는 한 번만 바뀐다.
+ * (user_id, routine_id, action_type) 유니크 제약 + INSERT IGNORE로 조회 없이 한 문장에 처리하고,
+ * 실제로 추가/삭제된 경우에만 이벤트를 발행하고, 좋아요 수·랭킹은 커밋 후 RoutineEngagementEventListener가 갱신한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
     private final RoutineRepository routineRepository;
     private final RoutineUserActionRepository routineUserActionRepository;
-
-    public Long countLikes(UUID routineId) {
-        // 루틴 아이디가 유효(존재, 소유주 맞음)하다는 전제하에 이루어짐.
-        return routineUserActionRepository.countByRoutineIdAndActionType(routineId, ActionType.LIKE);
-    }
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void like(UUID routineId, User user) {
-        Routine routine = routineRepository.findById(routineId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROUTINE_NOT_FOUND));
-
-        boolean alreadyExists = routineUserActionRepository.existsByUserIdAndRoutineIdAndActionType(
-                user.getId(), routineId, ActionType.LIKE
-        );
-
-        if(alreadyExists) {
-            throw new CustomException(ErrorCode.LIKE_ALREADY_EXISTS);
-        }
-
-        RoutineUserAction routineUserAction = RoutineUserAction.builder()
-                .user(user)
-                .routine(routine)
-                .actionType(ActionType.LIKE)
-                .build();
-
-        routineUserActionRepository.save(routineUserAction);
-        routineRepository.incrementLikeCount(routineId);
+        addLike(routineId, user);
     }
 
     @Transactional
     public void unlike(UUID routineId, User user) {
-        Routine routine = routineRepository.findById(routineId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROUTINE_NOT_FOUND));
+        removeLike(routineId, user);
+    }
 
-        RoutineUserAction action = routineUserActionRepository.findByUserIdAndRoutineIdAndActionType(user.getId(), routineId, ActionType.LIKE)
-                .orElseThrow(() -> new CustomException(ErrorCode.LIKE_NOT_FOUND));
+    /**
+     * 좋아요 상태를 뒤집는다. (탭 한 번에 요청 한 번)
+     * @return 토글 후 좋아요 상태
+     */
+    @Transactional
+    public boolean toggle(UUID routineId, User user) {
+        if (removeLike(routineId, user)) {
+            return false;
+        }
+        addLike(routineId, user);
+        return true;
+    }
 
-        routineUserActionRepository.delete(action);
-        routineRepository.decrementLikeCount(routineId);
+    // 실제로 추가했으면 true, 이미 좋아요한 상태였으면 false
+    private boolean addLike(UUID routineId, User user) {
+        int inserted = routineUserActionRepository.insertIgnore(
+                UUID.randomUUID(), user.getId(), routineId, ActionType.LIKE.name(), null);
+        if (inserted == 0) {
+            // 추가되지 않은 이유가 중복이 아니라 루틴이 없어서인지 확인 (실패 경로에서만 조회)
+            if (!routineRepository.existsById(routineId)) {
+                throw new CustomException(ErrorCode.ROUTINE_NOT_FOUND);
+            }
+            return false;
+        }
+        publishChanged(user, routineId, true);
+        return true;
+    }
+
+    // 실제로 삭제했으면 true, 좋아요하지 않은 상태였으면 false
+    private boolean removeLike(UUID routineId, User user) {
+        int deleted = routineUserActionRepository.deleteByUserIdAndRoutineIdAndActionType(
+                user.getId(), routineId, ActionType.LIKE);
+        if (deleted == 0) {
+            return false;
+        }
+        publishChanged(user, routineId, false);
+        return true;
     }
 
-    public boolean isLiked(UUID userId, UUID routineId) {
-        return routineUserActionRepository.existsByUserIdAndRoutineIdAndActionType(userId, routineId, ActionType.LIKE);
+    private void publishChanged(User user, UUID routineId, boolean active) {
+        eventPublisher.publishEvent(RecommendFeedStaleEvent.builder().userId(user.getId()).build());
+        eventPublisher.publishEvent(RoutineEngagementChangedEvent.builder()
+                .userId(user.getId()).routineId(routineId).actionType(ActionType.LIKE).active(active).build());
     }
 }
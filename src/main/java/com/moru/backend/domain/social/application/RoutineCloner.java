@@ -1,5 +1,6 @@
 package com.moru.backend.domain.social.application;
 
+import com.moru.backend.domain.routine.application.TagCooccurrenceService;
 import com.moru.backend.domain.routine.dao.*;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
 import com.moru.backend.domain.routine.domain.Routine;
@@ -7,13 +8,18 @@ import com.moru.backend.domain.routine.domain.RoutineStep;
 import com.moru.backend.domain.routine.domain.meta.RoutineApp;
 import com.moru.backend.domain.routine.domain.meta.RoutineTag;
 import com.moru.backend.domain.routine.domain.schedule.RoutineSchedule;
+import com.moru.backend.domain.routine.event.RoutineScheduleChangedEvent;
+import com.moru.backend.domain.routine.event.RoutineTagsChangedEvent;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.global.util.S3Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -24,6 +30,8 @@ public class RoutineCloner {
     private final RoutineAppRepository routineAppRepository;
     private final RoutineScheduleRepository routineScheduleRepository;
     private final S3Service s3Service;
+    private final TagCooccurrenceService tagCooccurrenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Routine cloneRoutine(Routine origin, User owner) {
@@ -34,6 +42,7 @@ public class RoutineCloner {
                 .isSimple(origin.isSimple())
                 .isUserVisible(origin.isUserVisible())
                 .requiredTime(origin.getRequiredTime())
+                .stepCount(origin.getRoutineSteps().size())
                 .imageUrl(origin.getImageUrl())
                 .user(owner)
                 .build();
@@ -51,13 +60,17 @@ public class RoutineCloner {
         }
 
         // 태그 복제
+        List<UUID> copiedTagIds = new ArrayList<>();
         for(RoutineTag rt : origin.getRoutineTags()) {
             RoutineTag newRt = RoutineTag.builder()
                     .routine(copy)
                     .tag(rt.getTag())
                     .build();
             routineTagRepository.save(newRt);
+            copiedTagIds.add(rt.getTag().getId());
         }
+        tagCooccurrenceService.applyTagChange(List.of(), copiedTagIds);
+        eventPublisher.publishEvent(RoutineTagsChangedEvent.builder().routineId(copy.getId()).build());
 
         // 앱 복제
         for(RoutineApp ra : origin.getRoutineApps()) {
@@ -80,6 +93,9 @@ public class RoutineCloner {
                     .build();
             routineScheduleRepository.save(newRs);
         }
+        if (!schedules.isEmpty()) {
+            eventPublisher.publishEvent(RoutineScheduleChangedEvent.builder().userId(owner.getId()).build());
+        }
 
         return copy;
     }
@@ -1,10 +1,14 @@
 package com.moru.backend.domain.social.application;
 
+import com.moru.backend.domain.routine.application.RoutineCardLoader;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
 import com.moru.backend.domain.routine.domain.ActionType;
 import com.moru.backend.domain.routine.domain.Routine;
+import com.moru.backend.domain.routine.event.RecommendFeedStaleEvent;
+import com.moru.backend.domain.routine.event.RoutineEngagementChangedEvent;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
 import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
-import com.moru.backend.domain.social.domain.RoutineUserAction;
+import com.moru.backend.domain.social.dao.ScrapCardRow;
 import com.moru.backend.domain.social.dto.RoutineImportRequest;
 import com.moru.backend.domain.social.dto.ScrapCursor;
 import com.moru.backend.domain.social.dto.ScrappedRoutineSummaryResponse;
@@ -14,6 +18,7 @@ import com.moru.backend.global.exception.CustomException;
 import com.moru.backend.global.exception.ErrorCode;
 import com.moru.backend.global.util.S3Service;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -30,46 +36,74 @@ public class ScrapService {
     private final RoutineUserActionRepository routineUserActionRepository;
     private final RoutineCloner routineCloner;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserEngagementCache userEngagementCache;
+    private final RoutineCardLoader routineCardLoader;
 
-    public Long countScrap(UUID routineId) {
-        return routineUserActionRepository.countByRoutineIdAndActionType(routineId, ActionType.SCRAP);
+    /**
+     * 스크랩 추가 (멱등). 이미 스크랩한 루틴이면 아무것도 바꾸지 않는다.
+     */
+    @Transactional
+    public void scrap(UUID routineId, User user) {
+        addScrap(routineId, user);
     }
 
+    /**
+     * 스크랩 취소 (멱등). 스크랩하지 않은 루틴이면 아무것도 바꾸지 않는다.
+     */
     @Transactional
-    public void scrap(UUID routineId, User user) {
-        Routine routine = routineRepository.findById(routineId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROUTINE_NOT_FOUND));
+    public void unscrap(UUID routineId, User user) {
+        removeScrap(routineId, user);
+    }
 
-        if(routine.getUser().getId().equals(user.getId())) {
-            throw new CustomException(ErrorCode.SCRAP_SELF_NOT_ALLOWED);
+    /**
+     * 스크랩 상태를 뒤집는다. (탭 한 번에 요청 한 번)
+     * @return 토글 후 스크랩 상태
+     */
+    @Transactional
+    public boolean toggle(UUID routineId, User user) {
+        if (removeScrap(routineId, user)) {
+            return false;
         }
+        addScrap(routineId, user);
+        return true;
+    }
 
-        boolean alreadyExists = routineUserActionRepository.existsByUserIdAndRoutineIdAndActionType(
-                routineId, user.getId(), ActionType.SCRAP
-        );
-
-        if(alreadyExists) {
-            throw new CustomException(ErrorCode.SCRAP_ALREADY_EXISTS);
+    // 유니크 제약 + INSERT IGNORE로 한 문장에 추가하고, 실제로 추가했을 때만 스크랩 수를 올린다 (랭킹은 커밋 후 리스너가 갱신)
+    private boolean addScrap(UUID routineId, User user) {
+        int inserted = routineUserActionRepository.insertIgnore(
+                UUID.randomUUID(), user.getId(), routineId, ActionType.SCRAP.name(), user.getId());
+        if (inserted == 0) {
+            // 추가되지 않은 이유 확인 (실패 경로에서만 조회): 루틴 없음 / 본인 루틴 / 이미 스크랩
+            Routine routine = routineRepository.findById(routineId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.ROUTINE_NOT_FOUND));
+            if (routine.getUser().getId().equals(user.getId())) {
+                throw new CustomException(ErrorCode.SCRAP_SELF_NOT_ALLOWED);
+            }
+            return false;
         }
 
-        RoutineUserAction routineUserAction = RoutineUserAction.builder()
-                .user(user)
-                .routine(routine)
-                .actionType(ActionType.SCRAP)
-                .build();
-
-        routineUserActionRepository.save(routineUserAction);
+        routineRepository.incrementScrapCount(routineId);
+        publishChanged(user, routineId, true);
+        return true;
     }
 
-    @Transactional
-    public void unscrap(UUID routineId, User user) {
-        Routine routine = routineRepository.findById(routineId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROUTINE_NOT_FOUND));
+    private boolean removeScrap(UUID routineId, User user) {
+        int deleted = routineUserActionRepository.deleteByUserIdAndRoutineIdAndActionType(
+                user.getId(), routineId, ActionType.SCRAP);
+        if (deleted == 0) {
+            return false;
+        }
 
-        RoutineUserAction action = routineUserActionRepository.findByUserIdAndRoutineIdAndActionType(user.getId(), routineId, ActionType.SCRAP)
-                .orElseThrow(() -> new CustomException(ErrorCode.SCRAP_NOT_FOUND));
+        routineRepository.decrementScrapCount(routineId);
+        publishChanged(user, routineId, false);
+        return true;
+    }
 
-        routineUserActionRepository.delete(action);
+    private void publishChanged(User user, UUID routineId, boolean active) {
+        eventPublisher.publishEvent(RecommendFeedStaleEvent.builder().userId(user.getId()).build());
+        eventPublisher.publishEvent(RoutineEngagementChangedEvent.builder()
+                .userId(user.getId()).routineId(routineId).actionType(ActionType.SCRAP).active(active).build());
     }
 
     public ScrollResponse<ScrappedRoutineSummaryResponse, ScrapCursor> getScrappedRoutine(
@@ -77,23 +111,32 @@ public class ScrapService {
             LocalDateTime lastCreatedAt, UUID lastScrapId, int limit
     ) {
         Pageable pageable = PageRequest.of(0, limit);
-        List<RoutineUserAction> scraps = routineUserActionRepository.findScrapsByCursor(
+        List<ScrapCardRow> scraps = routineUserActionRepository.findScrapsByCursor(
                 user.getId(), ActionType.SCRAP,
                 lastCreatedAt, lastScrapId, pageable
         );
 
+        List<UUID> routineIds = scraps.stream().map(ScrapCardRow::getRoutineId).toList();
+
+        // 스크랩 목록의 좋아요 여부는 참여 상태 캐시에서 한 번에 조회
+        Map<UUID, Engagement> engagements = userEngagementCache.findAll(user.getId(), routineIds);
+        // 태그 이름도 루틴마다 지연 로딩하지 않고 한 번에 조회
+        Map<UUID, List<String>> tagNames = routineCardLoader.loadTagNames(routineIds);
+
         List<ScrappedRoutineSummaryResponse> result = scraps.stream()
                 .map(scrap 
                         -> ScrappedRoutineSummaryResponse.from(
-                                scrap.getRoutine(),
-                                s3Service.getImageUrl(scrap.getRoutine().getImageUrl())
+                                scrap,
+                                s3Service.getImageUrl(scrap.getImageUrl()),
+                                tagNames.getOrDefault(scrap.getRoutineId(), List.of()),
+                                engagements.getOrDefault(scrap.getRoutineId(), Engagement.NONE).liked()
                         )
                 )
                 .toList();
 
         boolean hasNext = scraps.size() == limit;
         ScrapCursor nextCursor = hasNext
-                ? new ScrapCursor(scraps.getLast().getCreatedAt(), scraps.getLast().getId())
+                ? new ScrapCursor(scraps.getLast().getScrappedAt(), scraps.getLast().getScrapId())
                 : null;
         return ScrollResponse.of(result, hasNext, nextCursor);
     }
@@ -111,8 +154,4 @@ public class ScrapService {
             routineCloner.cloneRoutine(origin, user);
         }
     }
-
-    public boolean isScrapped(UUID userId, UUID routineId) {
-        return routineUserActionRepository.existsByUserIdAndRoutineIdAndActionType(userId, routineId, ActionType.SCRAP);
-    }
 }
@@ -0,0 +1,215 @@
+package com.moru.backend.domain.social.application;
+
+import com.moru.backend.domain.routine.domain.ActionType;
+import com.moru.backend.domain.social.dao.RoutineActionRow;
+import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
+import com.moru.backend.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 좋아요/스크랩 상태를 Redis HASH에 들고 있는다.
+ * - 저장 형태: user:engagement:{userId} = { routineId: 비트(1=좋아요, 2=스크랩), _loaded: 1, _ver: 변경 횟수 }
+ * - 처음 조회할 때 그 사용자의 좋아요/스크랩을 한 번에 읽어 채우고, 이후 변경은 커밋 후 이벤트로 반영한다
+ * - 조회는 HMGET 한 번 (적재 표시 + 버전 + 루틴 필드), 목록 화면은 여러 루틴을 같은 HMGET으로 묶는다
+ * - Redis 장애 시 DB 조회로 대신한다 (목록은 findExistingPairs로 한 번에)
+ * 변경은 적재 여부와 관계없이 _ver를 올린다. 적재는 DB를 읽기 전에 본 _ver가 그대로일 때만 HASH를 채우므로,
+ * DB를 읽는 사이에 들어온 변경을 덮어쓰지 않는다. (버전이 바뀌었으면 이번 조회만 DB 값으로 답하고 다음 조회 때 다시 적재)
+ * 적재용 DB 조회는 새 읽기 트랜잭션으로 열어, 버전을 본 뒤의 스냅샷을 읽게 한다. (호출자 트랜잭션의 예전 스냅샷을 쓰지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEngagementCache {
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String VERSION_FIELD = "_ver";
+    private static final int LIKE_BIT = 1;
+    private static final int SCRAP_BIT = 2;
+
+    // 버전을 올리고, 이미 적재된 사용자만 비트를 켜거나 끈다 (적재 전이면 다음 조회 때 DB에서 읽는다)
+    private static final DefaultRedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[1], ARGV[4], 1)
+            if redis.call('TTL', KEYS[1]) == -1 then
+                redis.call('EXPIRE', KEYS[1], tonumber(ARGV[6]))
+            end
+            if redis.call('HEXISTS', KEYS[1], ARGV[5]) == 0 then
+                return 0
+            end
+            local flags = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if ARGV[3] == '1' then
+                flags = bit.bor(flags, tonumber(ARGV[2]))
+            else
+                flags = bit.band(flags, bit.bnot(tonumber(ARGV[2])))
+            end
+            if flags == 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            else
+                redis.call('HSET', KEYS[1], ARGV[1], flags)
+            end
+            return 1
+            """, Long.class);
+
+    // DB를 읽기 전에 본 버전(ARGV[1], 없으면 빈 문자열)이 그대로일 때만 HASH를 새로 채운다
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[2]) or ''
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 4, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if ARGV[1] ~= '' then
+                redis.call('HSET', KEYS[1], ARGV[2], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+            return 1
+            """, Long.class);
+
+    private final RoutineUserActionRepository routineUserActionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${moru.social.engagement-cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    public record Engagement(boolean liked, boolean scrapped) {
+        public static final Engagement NONE = new Engagement(false, false);
+
+        static Engagement of(int flags) {
+            return new Engagement((flags & LIKE_BIT) != 0, (flags & SCRAP_BIT) != 0);
+        }
+    }
+
+    /**
+     * 사용자가 루틴에 좋아요/스크랩했는지 반환한다.
+     */
+    public Engagement find(UUID userId, UUID routineId) {
+        String key = RedisKeyUtil.userEngagementKey(userId);
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of(LOADED_FIELD, VERSION_FIELD, routineId.toString()));
+            if (values.get(0) != null) {
+                return values.get(2) == null ? Engagement.NONE : Engagement.of(Integer.parseInt(values.get(2).toString()));
+            }
+            return Engagement.of(load(userId, values.get(1)).getOrDefault(routineId, 0));
+        } catch (Exception e) {
+            log.warn("참여 상태 캐시 조회 실패: userId={}, {}", userId, e.getMessage());
+            return new Engagement(
+                    routineUserActionRepository.existsByUserIdAndRoutineIdAndActionType(userId, routineId, ActionType.LIKE),
+                    routineUserActionRepository.existsByUserIdAndRoutineIdAndActionType(userId, routineId, ActionType.SCRAP));
+        }
+    }
+
+    /**
+     * 여러 루틴에 대한 좋아요/스크랩 상태를 한 번에 반환한다. 좋아요도 스크랩도 하지 않은 루틴은 결과에서 빠진다.
+     */
+    public Map<UUID, Engagement> findAll(UUID userId, Collection<UUID> routineIds) {
+        if (routineIds == null || routineIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(routineIds));
+        String key = RedisKeyUtil.userEngagementKey(userId);
+        try {
+            List<Object> fields = new ArrayList<>(ids.size() + 2);
+            fields.add(LOADED_FIELD);
+            fields.add(VERSION_FIELD);
+            ids.forEach(id -> fields.add(id.toString()));
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+
+            Map<UUID, Integer> flags;
+            if (values.get(0) != null) {
+                flags = new HashMap<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    Object value = values.get(i + 2);
+                    if (value != null) {
+                        flags.put(ids.get(i), Integer.parseInt(value.toString()));
+                    }
+                }
+            } else {
+                flags = load(userId, values.get(1));
+            }
+
+            Map<UUID, Engagement> result = new HashMap<>();
+            for (UUID id : ids) {
+                Integer value = flags.get(id);
+                if (value != null && value != 0) {
+                    result.put(id, Engagement.of(value));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("참여 상태 캐시 조회 실패: userId={}, {}", userId, e.getMessage());
+            return findAllFromDb(userId, ids);
+        }
+    }
+
+    /**
+     * 좋아요/스크랩 변경을 반영한다. 적재되지 않은 사용자는 버전만 올려, 진행 중인 적재가 옛 값을 채우지 못하게 한다.
+     */
+    public void apply(UUID userId, UUID routineId, ActionType actionType, boolean active) {
+        int bit = actionType == ActionType.LIKE ? LIKE_BIT : SCRAP_BIT;
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(RedisKeyUtil.userEngagementKey(userId)),
+                routineId.toString(), Integer.toString(bit), active ? "1" : "0",
+                VERSION_FIELD, LOADED_FIELD, Long.toString(Duration.ofMinutes(ttlMinutes).toSeconds()));
+    }
+
+    private Map<UUID, Engagement> findAllFromDb(UUID userId, List<UUID> routineIds) {
+        Set<UUID> liked = existingRoutineIds(ActionType.LIKE, userId, routineIds);
+        Set<UUID> scrapped = existingRoutineIds(ActionType.SCRAP, userId, routineIds);
+        Map<UUID, Engagement> result = new HashMap<>();
+        for (UUID id : routineIds) {
+            if (liked.contains(id) || scrapped.contains(id)) {
+                result.put(id, new Engagement(liked.contains(id), scrapped.contains(id)));
+            }
+        }
+        return result;
+    }
+
+    private Set<UUID> existingRoutineIds(ActionType actionType, UUID userId, List<UUID> routineIds) {
+        Set<UUID> ids = new HashSet<>();
+        for (Object[] pair : routineUserActionRepository.findExistingPairs(actionType, List.of(userId), routineIds)) {
+            ids.add((UUID) pair[1]);
+        }
+        return ids;
+    }
+
+    // 사용자의 좋아요/스크랩을 모두 읽어 HASH를 새로 채운다 (읽는 사이 버전이 바뀌었으면 채우지 않는다)
+    private Map<UUID, Integer> load(UUID userId, Object expectedVersion) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(true);
+        List<RoutineActionRow> rows = transaction.execute(status -> routineUserActionRepository.findActionRowsByUserId(userId));
+
+        Map<UUID, Integer> flags = new HashMap<>();
+        for (RoutineActionRow row : rows) {
+            flags.merge(row.getRoutineId(), row.getActionType() == ActionType.LIKE ? LIKE_BIT : SCRAP_BIT, (a, b) -> a | b);
+        }
+
+        List<String> args = new ArrayList<>(flags.size() * 2 + 5);
+        args.add(expectedVersion == null ? "" : expectedVersion.toString());
+        args.add(VERSION_FIELD);
+        args.add(Long.toString(Duration.ofMinutes(ttlMinutes).toSeconds()));
+        flags.forEach((routineId, value) -> {
+            args.add(routineId.toString());
+            args.add(value.toString());
+        });
+        args.add(LOADED_FIELD);
+        args.add("1");
+
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT, List.of(RedisKeyUtil.userEngagementKey(userId)), args.toArray());
+        if (!Long.valueOf(1).equals(loaded)) {
+            log.debug("참여 상태 적재 중 변경이 있어 캐시하지 않음: userId={}", userId);
+        }
+        return flags;
+    }
+}
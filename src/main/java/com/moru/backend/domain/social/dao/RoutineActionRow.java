@@ -0,0 +1,13 @@
+package com.moru.backend.domain.social.dao;
+
+import com.moru.backend.domain.routine.domain.ActionType;
+
+import java.util.UUID;
+
+/**
+ * 사용자 한 명의 좋아요/스크랩 한 건 (참여 상태 캐시 적재용 프로젝션)
+ */
+public interface RoutineActionRow {
+    UUID getRoutineId();
+    ActionType getActionType();
+}
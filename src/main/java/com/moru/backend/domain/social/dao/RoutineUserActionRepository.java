@@ -3,15 +3,19 @@ package com.moru.backend.domain.social.dao;
 import com.moru.backend.domain.routine.domain.ActionType;
 import com.moru.backend.domain.social.domain.RoutineUserAction;
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface RoutineUserActionRepository extends JpaRepository<RoutineUserAction, UUID> {
     Optional<RoutineUserAction> findByUserIdAndRoutineIdAndActionType(
@@ -22,13 +26,52 @@ public interface RoutineUserActionRepository extends JpaRepository<RoutineUserAc
     );
     Long countByRoutineIdAndActionType(UUID routineId, ActionType actionType);
 
+    /**
+     * 좋아요/스크랩을 한 문장으로 추가한다. 이미 있으면 (user_id, routine_id, action_type) 유니크 제약에 걸려 무시된다.
+     * 루틴이 없거나 excludeOwnerId가 루틴 소유자이면 추가하지 않는다.
+     *
+     * @return 실제로 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO routine_user_action (id, user_id, routine_id, action_type, created_at, updated_at)
+        SELECT :id, :userId, r.id, :actionType, NOW(6), NOW(6)
+          FROM routine r
+         WHERE r.id = :routineId
+           AND (:excludeOwnerId IS NULL OR r.user_id <> :excludeOwnerId)
+    """, nativeQuery = true)
+    int insertIgnore(
+            @Param("id") UUID id,
+            @Param("userId") UUID userId,
+            @Param("routineId") UUID routineId,
+            @Param("actionType") String actionType,
+            @Param("excludeOwnerId") UUID excludeOwnerId
+    );
+
+    /**
+     * @return 실제로 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM RoutineUserAction rua
+        WHERE rua.user.id = :userId AND rua.routine.id = :routineId AND rua.actionType = :actionType
+    """)
+    int deleteByUserIdAndRoutineIdAndActionType(
+            @Param("userId") UUID userId,
+            @Param("routineId") UUID routineId,
+            @Param("actionType") ActionType actionType
+    );
+
     List<RoutineUserAction> findByRoutineIdAndActionType(UUID routineId, ActionType actionType);
 
     List<RoutineUserAction> findAllByUserIdAndActionType(UUID userId, ActionType actionType);
 
+    // 스크랩 목록은 카드 컬럼만 프로젝션으로 읽는다 (루틴 엔티티를 영속성 컨텍스트에 올리지 않음)
     @Query("""
-        SELECT rua FROM RoutineUserAction rua
-        JOIN FETCH rua.routine r
+        SELECT rua.id AS scrapId, rua.createdAt AS scrappedAt,
+               r.id AS routineId, r.title AS title, r.imageUrl AS imageUrl
+        FROM RoutineUserAction rua
+        JOIN rua.routine r
         WHERE rua.user.id = :userId
         AND rua.actionType = :actionType
         AND (
@@ -38,7 +81,7 @@ public interface RoutineUserActionRepository extends JpaRepository<RoutineUserAc
         )
         ORDER BY rua.createdAt DESC, rua.id DESC
     """)
-    List<RoutineUserAction> findScrapsByCursor(
+    List<ScrapCardRow> findScrapsByCursor(
             @Param("userId") UUID userId,
             @Param("actionType") ActionType actionType,
             @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
@@ -59,4 +102,28 @@ public interface RoutineUserActionRepository extends JpaRepository<RoutineUserAc
             @Param("routineIds") List<UUID> routineIds
     );
 
+    // 협업 필터링 배치용: 사용자별로 묶어 읽을 수 있게 사용자 순으로 흘려보낸다 (좋아요/스크랩 구분 없음)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("""
+        SELECT rua.user.id AS userId, rua.routine.id AS routineId
+        FROM RoutineUserAction rua
+        ORDER BY rua.user.id, rua.createdAt DESC
+    """)
+    Stream<UserRoutinePair> streamAllOrderByUser();
+
+    // 사용자의 좋아요/스크랩 전체 (참여 상태 캐시 적재용)
+    @Query("""
+        SELECT rua.routine.id AS routineId, rua.actionType AS actionType FROM RoutineUserAction rua
+        WHERE rua.user.id = :userId
+    """)
+    List<RoutineActionRow> findActionRowsByUserId(@Param("userId") UUID userId);
+
+    // 사용자가 최근에 좋아요/스크랩한 루틴 ID (중복 포함, 최신순)
+    @Query("""
+        SELECT rua.routine.id FROM RoutineUserAction rua
+        WHERE rua.user.id = :userId
+        ORDER BY rua.createdAt DESC
+    """)
+    List<UUID> findRecentRoutineIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
 }
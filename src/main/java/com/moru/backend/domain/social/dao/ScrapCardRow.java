@@ -0,0 +1,15 @@
+package com.moru.backend.domain.social.dao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스크랩 목록 한 줄 (스크랩 커서 + 카드에 필요한 루틴 컬럼만, 루틴 엔티티는 읽지 않는다)
+ */
+public interface ScrapCardRow {
+    UUID getScrapId();
+    LocalDateTime getScrappedAt();
+    UUID getRoutineId();
+    String getTitle();
+    String getImageUrl();
+}
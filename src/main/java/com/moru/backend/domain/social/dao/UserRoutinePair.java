@@ -0,0 +1,11 @@
+package com.moru.backend.domain.social.dao;
+
+import java.util.UUID;
+
+/**
+ * 좋아요/스크랩 한 건의 (사용자, 루틴) 쌍 (협업 필터링 배치용 프로젝션)
+ */
+public interface UserRoutinePair {
+    UUID getUserId();
+    UUID getRoutineId();
+}
@@ -0,0 +1,8 @@
+package com.moru.backend.domain.social.dto;
+
+/**
+ * 좋아요/스크랩 토글 결과 (active = 토글 후 상태)
+ */
+public record EngagementToggleResponse(
+        boolean active
+) {}
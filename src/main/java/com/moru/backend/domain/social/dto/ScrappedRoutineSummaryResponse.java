@@ -1,6 +1,6 @@
 package com.moru.backend.domain.social.dto;
 
-import com.moru.backend.domain.routine.domain.Routine;
+import com.moru.backend.domain.social.dao.ScrapCardRow;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,16 +9,19 @@ public record ScrappedRoutineSummaryResponse(
         UUID routineId,
         String title,
         String imageUrl,
-        List<String> tagNames
+        List<String> tagNames,
+        boolean isLiked,
+        boolean isScrapped
 ) {
-    public static ScrappedRoutineSummaryResponse from(Routine routine, String imageFullUrl) {
+    // 스크랩 목록이므로 isScrapped는 항상 true
+    public static ScrappedRoutineSummaryResponse from(ScrapCardRow row, String imageFullUrl, List<String> tagNames, boolean isLiked) {
         return new ScrappedRoutineSummaryResponse(
-                routine.getId(),
-                routine.getTitle(),
+                row.getRoutineId(),
+                row.getTitle(),
                 imageFullUrl,
-                routine.getRoutineTags().stream()
-                        .map(routineTag -> routineTag.getTag().getName())
-                        .toList()
+                tagNames,
+                isLiked,
+                true
         );
     }
 }
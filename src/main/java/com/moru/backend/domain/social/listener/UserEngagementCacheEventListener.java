@@ -0,0 +1,25 @@
+package com.moru.backend.domain.social.listener;
+
+import com.moru.backend.domain.routine.event.RoutineEngagementChangedEvent;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEngagementCacheEventListener {
+    private final UserEngagementCache userEngagementCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleEngagementChanged(RoutineEngagementChangedEvent event) {
+        try {
+            userEngagementCache.apply(event.getUserId(), event.getRoutineId(), event.getActionType(), event.isActive());
+        } catch (Exception e) {
+            log.warn("참여 상태 캐시 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.moru.backend.domain.user.application;
 
 import com.moru.backend.domain.meta.dao.TagRepository;
 import com.moru.backend.domain.meta.domain.Tag;
+import com.moru.backend.domain.routine.event.RecommendFeedStaleEvent;
 import com.moru.backend.domain.user.dao.UserFavoriteTagRepository;
 import com.moru.backend.domain.user.domain.User;
 import com.moru.backend.domain.user.domain.UserFavoriteTag;
@@ -11,6 +12,7 @@ import com.moru.backend.global.exception.CustomException;
 import com.moru.backend.global.exception.ErrorCode;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,6 +24,7 @@ public class UserFavoriteTagService {
 
     private final TagRepository tagRepository;
     private final UserFavoriteTagRepository userFavoriteTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addFavoriteTag(User user, FavoriteTagRequest request) {
@@ -41,6 +44,8 @@ public class UserFavoriteTagService {
 
             userFavoriteTagRepository.save(favoriteTag);
         }
+
+        eventPublisher.publishEvent(RecommendFeedStaleEvent.builder().userId(user.getId()).build());
     }
 
     @Transactional
@@ -48,6 +53,8 @@ public class UserFavoriteTagService {
         UserFavoriteTag userFavoriteTag = userFavoriteTagRepository.findByUserIdAndTagId(user.getId(), tagId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TAG_NOT_FOUND));
         userFavoriteTagRepository.delete(userFavoriteTag);
+
+        eventPublisher.publishEvent(RecommendFeedStaleEvent.builder().userId(user.getId()).build());
     }
 
     public List<FavoriteTagResponse> getFavoriteTags(User user) {
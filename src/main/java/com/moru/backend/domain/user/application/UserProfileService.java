@@ -3,12 +3,12 @@ package com.moru.backend.domain.user.application;
 
 import com.moru.backend.domain.log.dao.RoutineLogRepository;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
-import com.moru.backend.domain.routine.dao.RoutineTagRepository;
-import com.moru.backend.domain.routine.domain.Routine;
-import com.moru.backend.domain.routine.domain.meta.RoutineTag;
+import com.moru.backend.domain.routine.application.RoutineCardLoader;
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
 import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
 import com.moru.backend.domain.social.application.FollowService;
-import com.moru.backend.domain.social.application.LikeService;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
 import com.moru.backend.domain.social.dao.UserFollowRepository;
 
 import com.moru.backend.domain.social.dto.FollowCountResponse;
@@ -26,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -35,9 +36,9 @@ public class UserProfileService {
     private final UserFollowRepository userFollowRepository;
     private final UserRepository userRepository;
     private final RoutineLogRepository routineLogRepository;
-    private final RoutineTagRepository routineTagRepository;
+    private final RoutineCardLoader routineCardLoader;
     private final FollowService followService;
-    private final LikeService likeService;
+    private final UserEngagementCache userEngagementCache;
     private final S3Service s3Service;
 
     public UserProfileResponse getProfile(User user) {
@@ -71,16 +72,19 @@ public class UserProfileService {
                 ))
                 .orElse(null); // Optional이 비어있으면 null을 할당
 
-        // 소유한 루틴 목록
-        List<RoutineListResponse> routineLists = routineRepository.findAllByUserId(targetUserId).stream()
-                .filter(Routine::isUserVisible)
+        // 소유한 루틴 목록 (카드 컬럼 조회 1번 + 태그 조회 1번)
+        List<RoutineListResponse> routineLists = routineCardLoader.toCards(
+                        routineRepository.findVisibleCardRowsByUserId(targetUserId)).stream()
+                .map(RoutineCard::response)
+                .toList();
+
+        // 보는 사람의 좋아요/스크랩 여부를 한 번에 채운다
+        Map<UUID, Engagement> engagements = userEngagementCache.findAll(currentUser.getId(),
+                routineLists.stream().map(RoutineListResponse::id).toList());
+        routineLists = routineLists.stream()
                 .map(r -> {
-                    List<RoutineTag> tags = routineTagRepository.findByRoutine(r);
-                    return RoutineListResponse.fromRoutine(
-                            r,
-                            s3Service.getImageUrl(r.getImageUrl()),
-                            tags
-                    );
+                    Engagement engagement = engagements.getOrDefault(r.id(), Engagement.NONE);
+                    return r.withEngagement(engagement.liked(), engagement.scrapped());
                 })
                 .toList();
 
@@ -0,0 +1,63 @@
+package com.moru.backend.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 여러 노드 중 하나만 작업하도록 잡는 Redis 락 (SET NX PX). 주인(owner)일 때만 연장/해제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean tryLock(String key, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+    }
+
+    /**
+     * 다른 노드가 짧게 잡고 있는 락이면 풀릴 때까지 기다린다. (최대 attempts * interval)
+     */
+    public boolean lock(String key, String owner, Duration ttl, int attempts, Duration interval) {
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            if (tryLock(key, owner, ttl)) {
+                return true;
+            }
+            try {
+                Thread.sleep(interval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    public boolean extend(String key, String owner, Duration ttl) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), owner, Long.toString(ttl.toMillis()));
+        return Long.valueOf(1).equals(extended);
+    }
+
+    public void unlock(String key, String owner) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), owner);
+    }
+}
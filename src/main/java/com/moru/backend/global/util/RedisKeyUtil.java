@@ -1,11 +1,50 @@
 package com.moru.backend.global.util;
 
+import com.moru.backend.domain.routine.domain.search.SearchType;
+import com.moru.backend.domain.routine.domain.search.TrendWindow;
+import com.moru.backend.domain.routine.domain.search.TrendingTermType;
+
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 public class RedisKeyUtil {
-    public static String routineViewKey(UUID routineId, UUID userId) {
-        return "routine:view:" + routineId + ":user:" + userId;
+    // 루틴별 구간 조회자 (HyperLogLog) / 조회수 반영 대기 증가분 (HASH) / 반영 처리 중인 증가분 / 반영 락 (한 번에 한 노드만)
+    public static String routineViewWindowKey(UUID routineId, long window) {
+        return "routine:view:hll:" + routineId + ":" + window;
+    }
+
+    public static final String ROUTINE_VIEW_PENDING = "routine:view:pending";
+
+    public static final String ROUTINE_VIEW_PROCESSING = "routine:view:processing";
+
+    public static final String ROUTINE_VIEW_FLUSH_LOCK = "routine:view:flush:lock";
+
+    // 좋아요 수 반영 대기 증감분 (줄무늬별 HASH) / 반영 처리 중인 증감분 / 반영·보정 락 (한 번에 한 노드만)
+    // 줄무늬 번호를 해시 태그로 두어 같은 줄무늬의 대기/처리용 키는 클러스터에서 같은 슬롯에 놓인다 (RENAME 스크립트용)
+    public static String routineLikePendingKey(int stripe) {
+        return "routine:like:{" + stripe + "}:pending";
+    }
+
+    public static String routineLikeProcessingKey(int stripe) {
+        return "routine:like:{" + stripe + "}:processing";
+    }
+
+    public static final String ROUTINE_LIKE_FLUSH_LOCK = "routine:like:flush:lock";
+
+    // 커밋 직전 표시한 뒤 아직 대기 증감분에 오르지 않은 좋아요 수 (루틴별, 보정이 두 번 세지 않도록)
+    public static String routineLikeInFlightKey(UUID routineId) {
+        return "routine:like:inflight:" + routineId;
+    }
+
+    // 루틴 집계 컬럼(스텝 수·스크랩 수) 최초 보정 완료 표시 / 보정 락
+    public static final String ROUTINE_COUNT_BACKFILL_DONE = "routine:migration:count-backfill:v1";
+
+    public static final String ROUTINE_COUNT_BACKFILL_LOCK = "routine:migration:count-backfill:lock";
+
+    // 사용자별 좋아요/스크랩 상태 (HASH)
+    public static String userEngagementKey(UUID userId) {
+        return "user:engagement:" + userId;
     }
 
     public static String refreshTokenKey(String userId) {
@@ -20,6 +59,90 @@ public class RedisKeyUtil {
         return "insight:global:" + localDate;
     }
 
+    public static String recommendFeedKey(UUID userId) {
+        return "routine:recommend:feed:" + userId;
+    }
+
+    // 인기 루틴 리더보드 (루틴 생성일 단위 버킷)
+    public static String hotRoutineBucketKey(LocalDate createdDate) {
+        return "routine:hot:" + createdDate;
+    }
+
+    // 재구성 중인 버킷 (채운 뒤 hotRoutineBucketKey로 RENAME, 같은 슬롯에 오도록 버킷 키를 해시 태그로 쓴다)
+    public static String hotRoutineRebuildKey(LocalDate createdDate) {
+        return "{" + hotRoutineBucketKey(createdDate) + "}:rebuild";
+    }
+
+    // 재구성 중에 들어온 증감 (재구성 결과에 합친 뒤 지운다)
+    public static String hotRoutineDeltaKey(LocalDate createdDate) {
+        return "{" + hotRoutineBucketKey(createdDate) + "}:delta";
+    }
+
+    // 인기 루틴 리더보드 재구성 락 (한 노드만 실행)
+    public static final String HOT_ROUTINE_REBUILD_LOCK = "routine:hot:rebuild:lock";
+
+    // 트렌딩 루틴 점수 (로그 공간 감쇠 점수)
+    public static final String TRENDING_ROUTINES = "routine:trending";
+
+    // 전역 인기 루틴 스냅샷 (저장 키 / 갱신 락 / 갱신 알림 채널)
+    public static final String HOT_SNAPSHOT = "routine:hot:snapshot";
+    public static final String HOT_SNAPSHOT_LOCK = "routine:hot:snapshot:lock";
+    public static final String HOT_SNAPSHOT_CHANNEL = "routine:hot:snapshot:channel";
+
+    // 태그 쌍 전체 재계산 락 (한 노드만 실행)
+    public static final String TAG_PAIR_REBUILD_LOCK = "routine:tag-pair:rebuild:lock";
+
+    // 사용자별 스케줄 타임라인 무효화 알림 채널 (메시지 = userId)
+    public static final String SCHEDULE_TIMELINE_CHANNEL = "routine:schedule-timeline:channel";
+
+    // 루틴별 유사 루틴 목록
+    public static String similarRoutineKey(UUID routineId) {
+        return "routine:similar:" + routineId;
+    }
+
+    // 유사 루틴 목록 읽고-고쳐-쓰기 락 (루틴별)
+    public static String similarRoutineLockKey(UUID routineId) {
+        return "routine:similar:lock:" + routineId;
+    }
+
+    // 협업 필터링 이웃 루틴 (ZSET, 점수 = 공동 반응 횟수) / 루틴별 반응 사용자 수 (HASH)
+    public static String collaborativeRoutineKey(UUID routineId) {
+        return "routine:collab:" + routineId;
+    }
+
+    public static final String COLLABORATIVE_ITEM_COUNTS = "routine:collab:count";
+    // 협업 필터링 전체 재계산 락 (한 노드만 실행)
+    public static final String COLLABORATIVE_REBUILD_LOCK = "routine:collab:rebuild:lock";
+
+    // 사용자별 최근 검색 기록 (LIST, 최신이 앞) / search_history 테이블 적재 대기열 (LIST)
+    public static String searchHistoryKey(UUID userId, SearchType searchType) {
+        return "search:history:" + searchType + ":" + userId;
+    }
+
+    public static final String SEARCH_HISTORY_PENDING = "search:history:pending";
+
+    // 검색어/태그 트렌드 버킷 (ZSET, 분/시간 단위) / 구간별 합산 결과 캐시
+    public static String trendingTermBucketKey(TrendingTermType type, ChronoUnit unit, long bucketIndex) {
+        return "trend:" + type + ":" + (unit == ChronoUnit.MINUTES ? "m" : "h") + ":" + bucketIndex;
+    }
+
+    public static String trendingTermMergedKey(TrendingTermType type, TrendWindow window) {
+        return "trend:" + type + ":merged:" + window.getCode();
+    }
+
+    // 루틴 검색 인덱스 변경 알림 채널 (노드 간 인덱스 동기화)
+    public static final String ROUTINE_SEARCH_INDEX_CHANNEL = "routine:search:changed";
+
+    // 태그 사전 갱신 알림 채널
+    public static final String TAG_DICTIONARY_CHANNEL = "meta:tag:changed";
+
+    // 추천 피드 전역 버전 (새 루틴 생성 시 증가) / 아직 반영하지 않은 무효화 표시 / 최근 증가 표시 (증가 간격 제한)
+    public static final String RECOMMEND_FEED_VERSION = "routine:recommend:feed:version";
+
+    public static final String RECOMMEND_FEED_INVALIDATE_PENDING = "routine:recommend:feed:invalidate:pending";
+
+    public static final String RECOMMEND_FEED_INVALIDATE_THROTTLE = "routine:recommend:feed:invalidate:throttle";
+
     // 루틴 FCM 스케줄 큐
     public static final String ROUTINE_SCHEDULE_QUEUE = "fcm:routine:scheduled";
 
@@ -1,7 +1,7 @@
 package com.moru.backend.global.validator;
 
+import com.moru.backend.domain.meta.application.TagDictionary;
 import com.moru.backend.domain.meta.dao.TagRepository;
-import com.moru.backend.domain.meta.domain.Tag;
 import com.moru.backend.domain.routine.dao.RoutineTagRepository;
 import com.moru.backend.domain.routine.domain.Routine;
 import com.moru.backend.domain.routine.domain.meta.RoutineTag;
@@ -17,6 +17,7 @@ import java.util.*;
 public class RoutineTagValidator {
     private final RoutineTagRepository routineTagRepository;
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
 
     /**
      * 여러 개 태그의 중복, 개수, 존재 여부 검증
@@ -43,8 +44,10 @@ public class RoutineTagValidator {
 
         // 존재 여부 및 중복 연결 체크
         for (UUID tagId : tagIds) {
-            Tag tag = tagRepository.findById(tagId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.TAG_NOT_FOUND));
+            // 사전에 없으면 다른 노드에서 막 생성되었을 수 있으므로 DB로 한 번 더 확인
+            if (!tagDictionary.contains(tagId) && !tagRepository.existsById(tagId)) {
+                throw new CustomException(ErrorCode.TAG_NOT_FOUND);
+            }
             if (routineTagRepository.existsByRoutineAndTag_Id(routine, tagId)) {
                 throw new CustomException(ErrorCode.ALREADY_CONNECTED_TAG);
             }
@@ -0,0 +1,62 @@
+package com.moru.backend.domain.routine.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void 완성형_음절을_초성_중성_종성으로_분해한다() {
+        // when & then
+        assertThat(HangulJamo.decompose("운동")).isEqualTo("ㅇㅜㄴㄷㅗㅇ");
+        assertThat(HangulJamo.decompose("아침")).isEqualTo("ㅇㅏㅊㅣㅁ");
+    }
+
+    @Test
+    void 겹받침과_이중모음은_기본_자모로_푼다() {
+        // when & then
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄳ")).isEqualTo("ㄱㅅ");
+    }
+
+    @Test
+    void 입력_중인_글자도_완성된_제목의_접두사가_된다() {
+        // given
+        String title = HangulJamo.decompose("운동하기");
+
+        // when & then
+        assertThat(title).startsWith(HangulJamo.decompose("운ㄷ"));
+        assertThat(title).startsWith(HangulJamo.decompose("운도"));
+        assertThat(HangulJamo.decompose("닭가슴살")).startsWith(HangulJamo.decompose("달"));
+    }
+
+    @Test
+    void 한글이_아닌_문자는_그대로_둔다() {
+        // when & then
+        assertThat(HangulJamo.decompose("run 5k")).isEqualTo("run 5k");
+    }
+
+    @Test
+    void 비교용_키는_공백을_줄이고_소문자로_바꾼다() {
+        // when & then
+        assertThat(HangulJamo.normalizeKey("  Morning   Run ")).isEqualTo("morning run");
+        assertThat(HangulJamo.normalizeKey(null)).isEmpty();
+    }
+
+    @Test
+    void 비교용_키는_기본_로케일과_관계없이_같다() {
+        // given
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // when & then
+            assertThat(HangulJamo.normalizeKey("MORNING RUN")).isEqualTo("morning run");
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+}
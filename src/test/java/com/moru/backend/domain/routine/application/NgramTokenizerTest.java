@@ -0,0 +1,68 @@
+package com.moru.backend.domain.routine.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    void 두_글자_이상_단어는_2gram과_3gram으로_센다() {
+        // given
+        Map<String, Integer> terms = new HashMap<>();
+
+        // when
+        NgramTokenizer.countTerms("아침운동", 1, terms);
+
+        // then
+        assertThat(terms).containsOnlyKeys("아침", "침운", "운동", "아침운", "침운동");
+    }
+
+    @Test
+    void 한_글자_단어는_그_글자로_세고_가중치만큼_더한다() {
+        // given
+        Map<String, Integer> terms = new HashMap<>();
+
+        // when
+        NgramTokenizer.countTerms("물 물 마시기", 3, terms);
+
+        // then
+        assertThat(terms.get("물")).isEqualTo(6);
+        assertThat(terms.get("마시")).isEqualTo(3);
+    }
+
+    @Test
+    void 구분자로_단어를_나누고_전각_대문자는_정규화한다() {
+        // given
+        Map<String, Integer> terms = new HashMap<>();
+
+        // when: 전각 "ＡＢ"는 NFKC로 "ab"가 되고, 공백/문장부호는 단어를 나눈다
+        NgramTokenizer.countTerms("ＡＢ,운동!", 1, terms);
+
+        // then
+        assertThat(terms).containsOnlyKeys("ab", "운동");
+    }
+
+    @Test
+    void 필수_term은_단어별_2gram이고_중복은_한_번만_담는다() {
+        // when & then
+        assertThat(NgramTokenizer.requiredTerms("운동 운동하기")).containsExactly("운동", "동하", "하기");
+    }
+
+    @Test
+    void 한_글자_단어가_있거나_단어가_없으면_필수_term이_없다() {
+        // when & then
+        assertThat(NgramTokenizer.requiredTerms("물 마시기")).isNull();
+        assertThat(NgramTokenizer.requiredTerms("  !! ")).isNull();
+        assertThat(NgramTokenizer.requiredTerms(null)).isNull();
+    }
+
+    @Test
+    void 점수용_term은_2gram과_3gram을_모두_담는다() {
+        // when & then
+        assertThat(NgramTokenizer.scoringTerms("독서록")).containsExactly("독서", "서록", "독서록");
+    }
+}
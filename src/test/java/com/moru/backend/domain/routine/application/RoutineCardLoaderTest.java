@@ -0,0 +1,123 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
+import com.moru.backend.domain.routine.dao.RoutineTagName;
+import com.moru.backend.domain.routine.dao.RoutineTagRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.global.util.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutineCardLoaderTest {
+
+    @InjectMocks
+    private RoutineCardLoader routineCardLoader;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private RoutineTagRepository routineTagRepository;
+    @Mock private S3Service s3Service;
+
+    private UUID ownerId;
+    private List<UUID> routineIds;
+    private List<RoutineCardRow> rows;
+
+    @BeforeEach
+    void setup() {
+        ownerId = UUID.randomUUID();
+        routineIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        // DB는 IN 조회 결과를 요청 순서와 다르게 돌려줄 수 있다
+        rows = List.of(row(routineIds.get(2)), row(routineIds.get(0)), row(routineIds.get(1)));
+    }
+
+    @Test
+    void 카드_여러_장을_조회해도_루틴_조회와_태그_조회는_한_번씩이다() {
+        // given
+        when(routineRepository.findCardRowsByIds(anyList())).thenReturn(rows);
+        when(routineTagRepository.findTagNamesByRoutineIds(anyCollection())).thenReturn(List.of(
+                tagName(routineIds.get(0), "건강"),
+                tagName(routineIds.get(0), "운동"),
+                tagName(routineIds.get(2), "공부")
+        ));
+        when(s3Service.getImageUrl(any())).thenAnswer(inv -> "https://cdn/" + inv.getArgument(0));
+
+        // when
+        List<RoutineCard> cards = routineCardLoader.loadOrderedCards(routineIds);
+
+        // then
+        assertThat(cards).extracting(card -> card.response().id()).containsExactlyElementsOf(routineIds);
+        assertThat(cards.get(0).response().tags()).containsExactly("건강", "운동");
+        assertThat(cards.get(1).response().tags()).isEmpty();
+        assertThat(cards.get(2).ownerId()).isEqualTo(ownerId);
+
+        verify(routineRepository, times(1)).findCardRowsByIds(anyList());
+        verify(routineTagRepository, times(1)).findTagNamesByRoutineIds(anyCollection());
+        verifyNoMoreInteractions(routineRepository, routineTagRepository);
+    }
+
+    @Test
+    void 이미_조회한_카드_행은_태그_조회_한_번으로_행_순서대로_변환된다() {
+        // given
+        when(routineTagRepository.findTagNamesByRoutineIds(anyCollection())).thenReturn(List.of());
+
+        // when
+        List<RoutineCard> cards = routineCardLoader.toCards(rows);
+
+        // then
+        assertThat(cards).extracting(card -> card.response().id())
+                .containsExactly(routineIds.get(2), routineIds.get(0), routineIds.get(1));
+
+        verify(routineTagRepository, times(1)).findTagNamesByRoutineIds(anyCollection());
+        verifyNoInteractions(routineRepository);
+        verifyNoMoreInteractions(routineTagRepository);
+    }
+
+    @Test
+    void 빈_ID_목록이면_쿼리를_보내지_않는다() {
+        // when
+        List<RoutineCard> cards = routineCardLoader.loadOrderedCards(List.of());
+
+        // then
+        assertThat(cards).isEmpty();
+        verifyNoInteractions(routineRepository, routineTagRepository);
+    }
+
+    private RoutineCardRow row(UUID routineId) {
+        return new RoutineCardRow(routineId, ownerId, "루틴", "image.png", 0,
+                LocalDateTime.now(), Duration.ofMinutes(30));
+    }
+
+    private RoutineTagName tagName(UUID routineId, String name) {
+        return new RoutineTagName() {
+            @Override
+            public UUID getRoutineId() {
+                return routineId;
+            }
+
+            @Override
+            public String getTagName() {
+                return name;
+            }
+        };
+    }
+}
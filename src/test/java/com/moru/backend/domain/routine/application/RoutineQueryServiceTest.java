@@ -0,0 +1,64 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
+import com.moru.backend.domain.user.domain.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutineQueryServiceTest {
+
+    @InjectMocks
+    private RoutineQueryService routineQueryService;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private RoutineCardLoader routineCardLoader;
+
+    @Test
+    void 내_루틴_목록은_ID_조회_한_번과_카드_조회_한_번으로_만든다() {
+        // given
+        User user = User.builder().id(UUID.randomUUID()).build();
+        Pageable pageable = PageRequest.of(0, 2);
+        List<UUID> routineIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(routineRepository.findMyRoutineIdsOrderByCreatedAt(user.getId(), null, pageable))
+                .thenReturn(new PageImpl<>(routineIds, pageable, 5));
+        when(routineCardLoader.loadOrderedCards(routineIds)).thenReturn(List.of(
+                card(routineIds.get(0), user.getId()),
+                card(routineIds.get(1), user.getId())));
+
+        // when
+        Page<RoutineListResponse> page = routineQueryService.getRoutineList(user, SortType.LATEST, null, pageable);
+
+        // then
+        assertThat(page.getContent()).extracting(RoutineListResponse::id).containsExactlyElementsOf(routineIds);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+
+        verify(routineRepository, times(1)).findMyRoutineIdsOrderByCreatedAt(user.getId(), null, pageable);
+        verify(routineCardLoader, times(1)).loadOrderedCards(routineIds);
+        // 루틴 엔티티(스텝/태그/앱)를 따로 읽지 않는다
+        verifyNoMoreInteractions(routineRepository, routineCardLoader);
+    }
+
+    private RoutineCard card(UUID routineId, UUID ownerId) {
+        return new RoutineCard(RoutineListResponse.builder().id(routineId).title("루틴").tags(List.of()).build(), ownerId);
+    }
+}
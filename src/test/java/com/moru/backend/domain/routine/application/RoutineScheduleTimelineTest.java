@@ -0,0 +1,172 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.RoutineScheduleRepository;
+import com.moru.backend.domain.routine.dao.RoutineScheduleSlot;
+import com.moru.backend.domain.routine.dao.routine.RoutineUpcomingKey;
+import com.moru.backend.domain.routine.domain.schedule.DayOfWeek;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutineScheduleTimelineTest {
+
+    private static final int HOUR = 3600;
+    private static final int WEEK = 7 * 24 * HOUR;
+
+    @InjectMocks
+    private RoutineScheduleTimeline routineScheduleTimeline;
+
+    @Mock private RoutineScheduleRepository routineScheduleRepository;
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID routineA = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private final UUID routineB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private final UUID routineC = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+
+    // 2026-10-18은 일요일
+    private final LocalDateTime sundayNight = LocalDateTime.of(2026, 10, 18, 22, 0);
+
+    private void givenWeekSlots() {
+        when(routineScheduleRepository.findActiveSlotsByUserId(userId)).thenReturn(List.of(
+                slot(routineA, DayOfWeek.SUN, LocalTime.of(23, 0)),
+                slot(routineA, DayOfWeek.MON, LocalTime.of(8, 0)),
+                slot(routineB, DayOfWeek.MON, LocalTime.of(7, 0)),
+                slot(routineB, DayOfWeek.SAT, LocalTime.of(9, 0)),
+                // 오늘 이미 지난 스케줄은 다음 주로 본다
+                slot(routineC, DayOfWeek.SUN, LocalTime.of(21, 0))
+        ));
+    }
+
+    @Test
+    void 주말에서_월요일로_넘어가는_스케줄을_남은_시간순으로_돌려준다() {
+        // given
+        givenWeekSlots();
+
+        // when
+        List<RoutineUpcomingKey> keys = routineScheduleTimeline.findUpcoming(userId, sundayNight, null, null, 10);
+
+        // then
+        assertThat(keys).containsExactly(
+                new RoutineUpcomingKey(routineA, HOUR),
+                new RoutineUpcomingKey(routineB, 9 * HOUR),
+                new RoutineUpcomingKey(routineC, WEEK - HOUR));
+        assertThat(routineScheduleTimeline.countRoutines(userId)).isEqualTo(3);
+    }
+
+    @Test
+    void 스케줄이_여러_개인_루틴은_가장_가까운_스케줄로_한_번만_나온다() {
+        // given: 월요일 7시 30분 기준이면 A는 월 8시, B는 토 9시가 가장 가깝다
+        givenWeekSlots();
+        LocalDateTime mondayMorning = LocalDateTime.of(2026, 10, 19, 7, 30);
+
+        // when
+        List<RoutineUpcomingKey> keys = routineScheduleTimeline.findUpcoming(userId, mondayMorning, null, null, 10);
+
+        // then
+        assertThat(keys).extracting(RoutineUpcomingKey::id).containsExactly(routineA, routineB, routineC);
+        assertThat(keys).extracting(RoutineUpcomingKey::secondsUntil)
+                .containsExactly(HOUR / 2, 5 * 24 * HOUR + HOUR + HOUR / 2, 6 * 24 * HOUR + 13 * HOUR + HOUR / 2);
+    }
+
+    @Test
+    void 커서로_이어_읽으면_한_번에_읽은_결과와_같다() {
+        // given
+        givenWeekSlots();
+        List<RoutineUpcomingKey> all = routineScheduleTimeline.findUpcoming(userId, sundayNight, null, null, 10);
+
+        // when: 한 건씩 커서로 이어 읽는다
+        List<RoutineUpcomingKey> paged = new ArrayList<>();
+        RoutineUpcomingKey last = null;
+        while (true) {
+            List<RoutineUpcomingKey> page = routineScheduleTimeline.findUpcoming(userId, sundayNight,
+                    last == null ? null : last.secondsUntil(), last == null ? null : last.id(), 1);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(page);
+            last = page.get(0);
+        }
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void 같은_시각의_스케줄은_루틴_ID_순이고_커서가_그_사이를_이어준다() {
+        // given
+        when(routineScheduleRepository.findActiveSlotsByUserId(userId)).thenReturn(List.of(
+                slot(routineB, DayOfWeek.MON, LocalTime.of(9, 0)),
+                slot(routineA, DayOfWeek.MON, LocalTime.of(9, 0))
+        ));
+
+        // when
+        List<RoutineUpcomingKey> first = routineScheduleTimeline.findUpcoming(userId, sundayNight, null, null, 1);
+        List<RoutineUpcomingKey> second = routineScheduleTimeline.findUpcoming(userId, sundayNight,
+                first.get(0).secondsUntil(), first.get(0).id(), 1);
+
+        // then
+        assertThat(first).containsExactly(new RoutineUpcomingKey(routineA, 11 * HOUR));
+        assertThat(second).containsExactly(new RoutineUpcomingKey(routineB, 11 * HOUR));
+    }
+
+    @Test
+    void 타임라인을_읽는_도중_무효화되면_읽은_타임라인을_보관하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(routineScheduleTimeline, "ttlMinutes", 10L);
+        ReflectionTestUtils.setField(routineScheduleTimeline, "maxEntries", 100);
+        when(routineScheduleRepository.findActiveSlotsByUserId(userId))
+                .thenAnswer(invocation -> {
+                    // DB를 읽은 직후 다른 요청이 스케줄을 바꾸고 무효화한다
+                    routineScheduleTimeline.invalidate(userId);
+                    return List.of(slot(routineA, DayOfWeek.MON, LocalTime.of(8, 0)));
+                })
+                .thenReturn(List.of(slot(routineB, DayOfWeek.MON, LocalTime.of(9, 0))));
+
+        // when
+        List<RoutineUpcomingKey> stale = routineScheduleTimeline.findUpcoming(userId, sundayNight, null, null, 10);
+        List<RoutineUpcomingKey> reloaded = routineScheduleTimeline.findUpcoming(userId, sundayNight, null, null, 10);
+        List<RoutineUpcomingKey> cached = routineScheduleTimeline.findUpcoming(userId, sundayNight, null, null, 10);
+
+        // then: 무효화 전에 읽은 타임라인은 그 요청에만 쓰고, 다음 조회는 DB를 다시 읽은 뒤 보관한다
+        assertThat(stale).extracting(RoutineUpcomingKey::id).containsExactly(routineA);
+        assertThat(reloaded).extracting(RoutineUpcomingKey::id).containsExactly(routineB);
+        assertThat(cached).isEqualTo(reloaded);
+        verify(routineScheduleRepository, times(2)).findActiveSlotsByUserId(userId);
+    }
+
+    private RoutineScheduleSlot slot(UUID routineId, DayOfWeek dayOfWeek, LocalTime time) {
+        return new RoutineScheduleSlot() {
+            @Override
+            public UUID getRoutineId() {
+                return routineId;
+            }
+
+            @Override
+            public DayOfWeek getDayOfWeek() {
+                return dayOfWeek;
+            }
+
+            @Override
+            public LocalTime getTime() {
+                return time;
+            }
+        };
+    }
+}
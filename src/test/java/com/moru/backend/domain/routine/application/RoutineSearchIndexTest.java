@@ -0,0 +1,254 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.application.RoutineSearchIndex.KeyedHit;
+import com.moru.backend.domain.routine.application.RoutineSearchIndex.TagFacet;
+import com.moru.backend.domain.routine.dao.RoutineTagRepository;
+import com.moru.backend.domain.routine.dao.RoutineTagRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineSearchDocument;
+import com.moru.backend.domain.routine.domain.search.RoutineRangeFilter;
+import com.moru.backend.domain.routine.domain.search.SortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutineSearchIndexTest {
+
+    @InjectMocks
+    private RoutineSearchIndex routineSearchIndex;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private RoutineTagRepository routineTagRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private final LocalDateTime base = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(routineSearchIndex, "snapshotPath", tempDir.resolve("index.bin").toString());
+    }
+
+    @Test
+    void 일치도순은_제목_일치와_짧은_문서를_앞에_둔다() {
+        // given
+        UUID titleMatch = id(1);
+        UUID longTitleMatch = id(2);
+        UUID contentMatch = id(3);
+        givenDocuments(
+                document(titleMatch, "아침 운동", "", 0, base),
+                document(longTitleMatch, "운동 일지 작성 정리 기록", "", 0, base),
+                document(contentMatch, "하루 루틴", "아침 운동 하기", 0, base),
+                document(id(4), "저녁 독서", "", 0, base)
+        );
+
+        // when
+        List<KeyedHit> hits = routineSearchIndex.searchAfter("운동", null, null, SortType.RELEVANCE, null, 10).orElseThrow();
+
+        // then: 검색어 2-gram이 없는 문서는 빠지고, 같은 빈도면 짧은 문서가, 제목(가중치)이 본문보다 앞선다
+        assertThat(hits).extracting(KeyedHit::routineId).containsExactly(titleMatch, longTitleMatch, contentMatch);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        assertThat(hits.get(1).score()).isGreaterThan(hits.get(2).score());
+    }
+
+    @Test
+    void 인기순은_좋아요_수_다음_최신순_다음_루틴_ID_역순이다() {
+        // given
+        givenRankedDocuments();
+
+        // when
+        List<KeyedHit> hits = routineSearchIndex.searchAfter("운동", null, null, SortType.POPULAR, null, 10).orElseThrow();
+
+        // then
+        assertThat(hits).extracting(KeyedHit::routineId).containsExactly(id(3), id(2), id(1), id(5), id(4));
+    }
+
+    @Test
+    void 최신순_커서로_이어_읽으면_한_번에_읽은_결과와_같다() {
+        // given
+        givenRankedDocuments();
+
+        // when & then
+        List<KeyedHit> all = routineSearchIndex.searchAfter("운동", null, null, SortType.LATEST, null, 10).orElseThrow();
+        assertThat(all).extracting(KeyedHit::routineId).containsExactly(id(5), id(4), id(2), id(1), id(3));
+        assertThat(readByPages(SortType.LATEST, 2)).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void 인기순과_일치도순도_커서로_이어_읽으면_한_번에_읽은_결과와_같다() {
+        // given
+        givenRankedDocuments();
+
+        // when & then
+        for (SortType sortType : List.of(SortType.POPULAR, SortType.RELEVANCE)) {
+            List<KeyedHit> all = routineSearchIndex.searchAfter("운동", null, null, sortType, null, 10).orElseThrow();
+            assertThat(readByPages(sortType, 2)).containsExactlyElementsOf(all);
+        }
+    }
+
+    @Test
+    void 한_글자_단어가_있는_검색어는_인덱스로_처리하지_않는다() {
+        // given
+        givenRankedDocuments();
+
+        // when & then
+        assertThat(routineSearchIndex.searchAfter("물 운동", null, null, SortType.LATEST, null, 10)).isEmpty();
+    }
+
+    @Test
+    void 태그별_개수는_검색과_같은_태그와_범위_조건으로_센다() {
+        // given
+        UUID morning = new UUID(1, 1);
+        UUID evening = new UUID(1, 2);
+        when(routineTagRepository.findAllRoutineTagRows()).thenReturn(List.of(
+                tagRow(id(1), morning), tagRow(id(2), morning), tagRow(id(2), evening),
+                tagRow(id(3), evening), tagRow(id(4), morning)
+        ));
+        when(routineRepository.streamSearchDocuments()).thenReturn(Stream.of(
+                document(id(1), "아침 운동", "", 0, base, 1),
+                document(id(2), "저녁 운동", "", 0, base, 5),
+                document(id(3), "주말 운동", "", 0, base, 5),
+                document(id(4), "저녁 독서", "", 0, base, 1)
+        ));
+        routineSearchIndex.rebuild();
+        RoutineRangeFilter atLeastThreeSteps = new RoutineRangeFilter(null, null, 3, null);
+
+        // when & then
+        assertThat(routineSearchIndex.tagFacets("운동", null, null, 10).orElseThrow())
+                .containsExactlyInAnyOrder(new TagFacet(morning, 2), new TagFacet(evening, 2));
+        assertThat(routineSearchIndex.tagFacets("운동", null, atLeastThreeSteps, 10).orElseThrow())
+                .containsExactly(new TagFacet(evening, 2), new TagFacet(morning, 1));
+        assertThat(routineSearchIndex.tagFacets("운동", Set.of(morning), null, 10).orElseThrow())
+                .containsExactly(new TagFacet(morning, 2), new TagFacet(evening, 1));
+        assertThat(routineSearchIndex.tagFacets(null, null, atLeastThreeSteps, 1).orElseThrow())
+                .containsExactly(new TagFacet(evening, 2));
+    }
+
+    @Test
+    void 재구성_전에는_검색하지_않는다() {
+        // when & then
+        assertThat(routineSearchIndex.isReady()).isFalse();
+        assertThat(routineSearchIndex.searchAfter("운동", null, null, SortType.LATEST, null, 10)).isEmpty();
+    }
+
+    // 좋아요 수/생성 시각이 겹치는 문서 (인기순: 3, 2, 1, 5, 4 / 최신순: 5, 4, 2, 1, 3)
+    private void givenRankedDocuments() {
+        givenDocuments(
+                document(id(1), "아침 운동", "", 5, base.plusDays(1)),
+                document(id(2), "저녁 운동", "", 5, base.plusDays(2)),
+                document(id(3), "주말 운동", "", 9, base),
+                document(id(4), "운동 기록", "", 0, base.plusDays(3)),
+                document(id(5), "운동 일지", "", 0, base.plusDays(3))
+        );
+    }
+
+    private List<KeyedHit> readByPages(SortType sortType, int size) {
+        List<KeyedHit> paged = new ArrayList<>();
+        KeyedHit cursor = null;
+        while (true) {
+            List<KeyedHit> page = routineSearchIndex.searchAfter("운동", null, null, sortType, cursor, size).orElseThrow();
+            if (page.isEmpty()) {
+                return paged;
+            }
+            paged.addAll(page);
+            cursor = page.get(page.size() - 1);
+        }
+    }
+
+    private void givenDocuments(RoutineSearchDocument... documents) {
+        when(routineTagRepository.findAllRoutineTagRows()).thenReturn(List.of());
+        when(routineRepository.streamSearchDocuments()).thenReturn(Stream.of(documents));
+        routineSearchIndex.rebuild();
+    }
+
+    private UUID id(int n) {
+        return new UUID(0, n);
+    }
+
+    private RoutineSearchDocument document(UUID id, String title, String content, int likeCount, LocalDateTime createdAt) {
+        return document(id, title, content, likeCount, createdAt, 1);
+    }
+
+    private RoutineSearchDocument document(UUID id, String title, String content, int likeCount, LocalDateTime createdAt,
+                                           int stepCount) {
+        return new RoutineSearchDocument() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getContent() {
+                return content;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public Integer getLikeCount() {
+                return likeCount;
+            }
+
+            @Override
+            public Duration getRequiredTime() {
+                return Duration.ofMinutes(10);
+            }
+
+            @Override
+            public Integer getStepCount() {
+                return stepCount;
+            }
+        };
+    }
+
+    private RoutineTagRow tagRow(UUID routineId, UUID tagId) {
+        return new RoutineTagRow() {
+            @Override
+            public UUID getRoutineId() {
+                return routineId;
+            }
+
+            @Override
+            public UUID getOwnerId() {
+                return null;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return null;
+            }
+
+            @Override
+            public UUID getTagId() {
+                return tagId;
+            }
+        };
+    }
+}
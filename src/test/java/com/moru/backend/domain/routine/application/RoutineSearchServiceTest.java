@@ -0,0 +1,142 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.log.dao.RoutineLogRepository;
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
+import com.moru.backend.domain.routine.dao.routine.RoutineKeysetRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.domain.search.SortType;
+import com.moru.backend.domain.routine.dto.RoutineCursor;
+import com.moru.backend.domain.routine.dto.request.RoutineSearchRequest;
+import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
+import com.moru.backend.domain.routine.dto.response.RoutineSearchResponse;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
+import com.moru.backend.domain.user.domain.User;
+import com.moru.backend.global.common.dto.ScrollResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutineSearchServiceTest {
+
+    @InjectMocks
+    private RoutineSearchService routineSearchService;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private RoutineLogRepository routineLogRepository;
+    @Mock private RoutineCardLoader routineCardLoader;
+    @Mock private SearchResultCache searchResultCache;
+    @Mock private UserEngagementCache userEngagementCache;
+
+    @Test
+    void 검색_결과는_카드_실행중_참여상태를_각각_한_번씩_조회한다() {
+        // given
+        User user = User.builder().id(UUID.randomUUID()).build();
+        UUID ownerId = UUID.randomUUID();
+        List<UUID> routineIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<RoutineCursor> keys = routineIds.stream()
+                .map(id -> RoutineCursor.ofCreatedAt(id, LocalDateTime.now(), 0))
+                .toList();
+        RoutineSearchRequest request = new RoutineSearchRequest();
+        request.setTitleKeyword("아침");
+        request.setSize(2);
+
+        when(searchResultCache.<List<RoutineCursor>>get(any(), any())).thenReturn(keys);
+        when(routineCardLoader.loadOrderedCards(routineIds)).thenReturn(List.of(
+                card(routineIds.get(0), ownerId),
+                card(routineIds.get(1), ownerId)));
+        when(routineLogRepository.findActiveLogsForUsers(anyList())).thenReturn(List.of());
+        when(userEngagementCache.findAll(user.getId(), routineIds))
+                .thenReturn(Map.of(routineIds.get(1), new Engagement(true, false)));
+
+        // when
+        ScrollResponse<RoutineSearchResponse, RoutineCursor> response = routineSearchService.scrollRoutines(request, user);
+
+        // then
+        assertThat(response.content()).extracting(RoutineSearchResponse::id).containsExactlyElementsOf(routineIds);
+        assertThat(response.content()).extracting(RoutineSearchResponse::isLiked).containsExactly(false, true);
+        assertThat(response.hasNext()).isFalse();
+
+        verify(routineCardLoader, times(1)).loadOrderedCards(routineIds);
+        verify(routineLogRepository, times(1)).findActiveLogsForUsers(List.of(ownerId));
+        verify(userEngagementCache, times(1)).findAll(user.getId(), routineIds);
+        // 루틴 엔티티를 따로 읽지 않는다
+        verifyNoInteractions(routineRepository);
+    }
+
+    @Test
+    void 다음_커서로_요청하면_마지막_행의_정렬_키_다음부터_읽는다() {
+        // given: 인기순 DB 검색, 한 페이지 2건 (다음 페이지 확인용으로 3건 읽는다)
+        User user = User.builder().id(UUID.randomUUID()).build();
+        LocalDateTime now = LocalDateTime.now();
+        List<RoutineKeysetRow> rows = List.of(
+                keysetRow(UUID.randomUUID(), now, 9),
+                keysetRow(UUID.randomUUID(), now.minusDays(1), 5),
+                keysetRow(UUID.randomUUID(), now.minusDays(2), 5));
+        RoutineSearchRequest request = new RoutineSearchRequest();
+        request.setTitleKeyword("아침");
+        request.setSortType(SortType.POPULAR);
+        request.setSize(2);
+
+        when(searchResultCache.get(any(), any())).thenAnswer(inv -> inv.<Supplier<?>>getArgument(1).get());
+        when(routineRepository.findSearchKeysOrderByLikeCount(
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(rows, List.of());
+
+        // when
+        ScrollResponse<RoutineSearchResponse, RoutineCursor> first = routineSearchService.scrollRoutines(request, user);
+        request.setCursor(first.nextCursor());
+        routineSearchService.scrollRoutines(request, user);
+
+        // then: 다음 커서는 두 번째 행의 (좋아요 수, 생성 시각, ID)이고, 다음 요청은 그 값 다음부터 읽는다
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isEqualTo(RoutineCursor.ofCreatedAt(rows.get(1).getId(), rows.get(1).getCreatedAt(), 5));
+        verify(routineRepository).findSearchKeysOrderByLikeCount(
+                eq("아침"), any(), any(), any(), any(), any(), isNull(), isNull(), isNull(), any());
+        verify(routineRepository).findSearchKeysOrderByLikeCount(
+                eq("아침"), any(), any(), any(), any(), any(),
+                eq(5), eq(rows.get(1).getCreatedAt()), eq(rows.get(1).getId()), any());
+    }
+
+    private RoutineKeysetRow keysetRow(UUID id, LocalDateTime createdAt, int likeCount) {
+        return new RoutineKeysetRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public Integer getLikeCount() {
+                return likeCount;
+            }
+        };
+    }
+
+    private RoutineCard card(UUID routineId, UUID ownerId) {
+        return new RoutineCard(RoutineListResponse.builder().id(routineId).title("아침 루틴").tags(List.of()).build(), ownerId);
+    }
+}
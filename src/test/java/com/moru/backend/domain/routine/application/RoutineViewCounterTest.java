@@ -0,0 +1,101 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.CounterFlushBatchRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.global.redis.RedisLock;
+import com.moru.backend.global.util.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutineViewCounterTest {
+
+    private static final String BATCH_ID = "batch-1";
+
+    @InjectMocks
+    private RoutineViewCounter routineViewCounter;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private CounterFlushBatchRepository counterFlushBatchRepository;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private RedisLock redisLock;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private final UUID routineId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        // 처리용 키에 배치 ID와 루틴 하나의 증가분 3이 있다
+        when(redisLock.tryLock(eq(RedisKeyUtil.ROUTINE_VIEW_FLUSH_LOCK), anyString(), any())).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("_batch"), anyString())).thenReturn(BATCH_ID);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        Map<Object, Object> processing = new LinkedHashMap<>();
+        processing.put("_batch", BATCH_ID);
+        processing.put(routineId.toString(), "3");
+        when(hashOperations.entries(RedisKeyUtil.ROUTINE_VIEW_PROCESSING)).thenReturn(processing);
+    }
+
+    @Test
+    void 가져간_배치를_반영하고_처리용_키를_지운다() {
+        // when
+        int flushed = routineViewCounter.flush(100);
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        verify(counterFlushBatchRepository).insertBatch(BATCH_ID);
+        verify(routineRepository).incrementViewCounts(Map.of(routineId, 3L));
+        verify(redisTemplate).delete(RedisKeyUtil.ROUTINE_VIEW_PROCESSING);
+    }
+
+    @Test
+    void 이미_반영된_배치_ID면_다시_더하지_않고_처리용_키를_지운다() {
+        // given: 지난 주기에 반영은 끝났고 키 삭제만 실패했다
+        when(counterFlushBatchRepository.insertBatch(BATCH_ID)).thenThrow(new DataIntegrityViolationException("duplicate batch"));
+        when(counterFlushBatchRepository.existsById(BATCH_ID)).thenReturn(true);
+
+        // when
+        routineViewCounter.flush(100);
+
+        // then
+        verify(routineRepository, never()).incrementViewCounts(any());
+        verify(redisTemplate).delete(RedisKeyUtil.ROUTINE_VIEW_PROCESSING);
+    }
+
+    @Test
+    void 배치_기록_외의_무결성_오류면_처리용_키를_남겨_다음_주기에_다시_시도한다() {
+        // given
+        when(routineRepository.incrementViewCounts(Map.of(routineId, 3L)))
+                .thenThrow(new DataIntegrityViolationException("out of range"));
+        when(counterFlushBatchRepository.existsById(BATCH_ID)).thenReturn(false);
+
+        // when
+        int flushed = routineViewCounter.flush(100);
+
+        // then
+        assertThat(flushed).isZero();
+        verify(redisTemplate, never()).delete(RedisKeyUtil.ROUTINE_VIEW_PROCESSING);
+    }
+}
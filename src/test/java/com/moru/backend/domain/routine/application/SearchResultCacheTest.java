@@ -0,0 +1,69 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.application.SearchResultCache.Key;
+import com.moru.backend.domain.routine.domain.search.RoutineRangeFilter;
+import com.moru.backend.domain.routine.domain.search.SortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final SearchResultCache searchResultCache = new SearchResultCache();
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(searchResultCache, "enabled", true);
+        ReflectionTestUtils.setField(searchResultCache, "ttlMs", 10000L);
+        ReflectionTestUtils.setField(searchResultCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(searchResultCache, "waitTimeoutMs", 1000L);
+    }
+
+    @Test
+    void 검색어의_앞뒤_공백_연속_공백_대소문자는_같은_키로_본다() {
+        Key key = Key.of("  Morning   Run ", List.of("운동"), null, SortType.LATEST, "0:20");
+
+        assertThat(key).isEqualTo(Key.of("morning run", List.of("운동"), null, SortType.LATEST, "0:20"));
+        assertThat(key.keyword()).isEqualTo("morning run");
+        assertThat(key).isNotEqualTo(Key.of("morning run", List.of("운동"), null, SortType.POPULAR, "0:20"));
+    }
+
+    @Test
+    void 태그는_순서와_중복과_앞뒤_공백을_무시한다() {
+        Key key = Key.of("운동", List.of("아침 ", "건강", "아침"), null, SortType.LATEST, "0:20");
+
+        assertThat(key.tagNames()).containsExactly("건강", "아침");
+        assertThat(key).isEqualTo(Key.of("운동", List.of("건강", "아침"), null, SortType.LATEST, "0:20"));
+    }
+
+    @Test
+    void 빈_검색어_태그_범위_조건은_없는_것과_같은_키다() {
+        Key empty = Key.of(null, null, null, SortType.LATEST, "0:20");
+
+        assertThat(Key.of("   ", List.of(), new RoutineRangeFilter(null, null, null, null), SortType.LATEST, "0:20"))
+                .isEqualTo(empty);
+    }
+
+    @Test
+    void 정규화된_키가_같으면_한_번만_조회한다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        List<Integer> first = searchResultCache.get(
+                Key.of("Morning Run", List.of("아침", "운동"), null, SortType.LATEST, "0:20"),
+                () -> List.of(loads.incrementAndGet()));
+        List<Integer> second = searchResultCache.get(
+                Key.of(" morning  run", List.of("운동", "아침"), null, SortType.LATEST, "0:20"),
+                () -> List.of(loads.incrementAndGet()));
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isEqualTo(first);
+    }
+}
@@ -0,0 +1,198 @@
+package com.moru.backend.domain.routine.application;
+
+import com.moru.backend.domain.routine.dao.SearchHistoryRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dao.routine.RoutineTitleSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TitleAutocompleteIndexTest {
+
+    @InjectMocks
+    private TitleAutocompleteIndex titleAutocompleteIndex;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private SearchHistoryRepository searchHistoryRepository;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(titleAutocompleteIndex, "topK", 10);
+    }
+
+    @Test
+    void 입력_중인_자모로_가중치_순_제목을_제안한다() {
+        // given
+        givenTitles(
+                title(id(1), "운동하기", 5),
+                title(id(2), "운전 연습", 1),
+                title(id(3), "운동", 0)
+        );
+
+        // when & then
+        assertThat(titleAutocompleteIndex.suggest("운ㄷ", 10)).containsExactly("운동하기", "운동");
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactly("운동하기", "운전 연습", "운동");
+        assertThat(titleAutocompleteIndex.suggest("운", 1)).containsExactly("운동하기");
+        assertThat(titleAutocompleteIndex.suggest("독서", 10)).isEmpty();
+    }
+
+    @Test
+    void 구간_중간에서_갈라지는_제목을_추가하면_노드를_나눈다() {
+        // given
+        givenTitles(title(id(1), "운동하기", 0));
+        when(routineRepository.findTitleSourceById(id(2))).thenReturn(Optional.of(title(id(2), "운전", 0)));
+
+        // when
+        titleAutocompleteIndex.onMessage(changed(id(2)), null);
+
+        // then
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactlyInAnyOrder("운동하기", "운전");
+        assertThat(titleAutocompleteIndex.suggest("운동", 10)).containsExactly("운동하기");
+        assertThat(titleAutocompleteIndex.suggest("운저", 10)).containsExactly("운전");
+    }
+
+    @Test
+    void 제목을_지우면_빈_잎을_떼고_남은_구간을_합친다() {
+        // given
+        givenTitles(
+                title(id(1), "운동", 0),
+                title(id(2), "운전하기", 0)
+        );
+        when(routineRepository.findTitleSourceById(id(1))).thenReturn(Optional.empty());
+        when(routineRepository.findTitleSourceById(id(3))).thenReturn(Optional.of(title(id(3), "운동", 0)));
+
+        // when
+        titleAutocompleteIndex.onMessage(changed(id(1)), null);
+
+        // then
+        assertThat(titleAutocompleteIndex.suggest("운ㄷ", 10)).isEmpty();
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactly("운전하기");
+        assertThat(titleAutocompleteIndex.suggest("운전하", 10)).containsExactly("운전하기");
+
+        // 합쳐진 구간에 다시 갈라지는 제목을 넣어도 찾을 수 있다
+        titleAutocompleteIndex.onMessage(changed(id(3)), null);
+        assertThat(titleAutocompleteIndex.suggest("운ㄷ", 10)).containsExactly("운동");
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactlyInAnyOrder("운동", "운전하기");
+    }
+
+    @Test
+    void 다른_제목의_접두사인_제목을_지워도_긴_제목은_남는다() {
+        // given
+        givenTitles(
+                title(id(1), "운동", 3),
+                title(id(2), "운동하기", 0)
+        );
+        when(routineRepository.findTitleSourceById(id(1))).thenReturn(Optional.empty());
+
+        // when
+        titleAutocompleteIndex.onMessage(changed(id(1)), null);
+
+        // then
+        assertThat(titleAutocompleteIndex.suggest("운동", 10)).containsExactly("운동하기");
+        assertThat(titleAutocompleteIndex.suggest("운동하", 10)).containsExactly("운동하기");
+    }
+
+    @Test
+    void 같은_제목의_루틴이_남아_있으면_후보를_유지한다() {
+        // given
+        givenTitles(
+                title(id(1), "운동", 0),
+                title(id(2), " 운동 ", 0)
+        );
+        when(routineRepository.findTitleSourceById(id(1))).thenReturn(Optional.empty());
+
+        // when
+        titleAutocompleteIndex.onMessage(changed(id(1)), null);
+
+        // then
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactly("운동");
+    }
+
+    @Test
+    void 좋아요_변경이_제안_순서에_반영된다() {
+        // given
+        givenTitles(
+                title(id(1), "운동", 3),
+                title(id(2), "운전", 0)
+        );
+
+        // when
+        titleAutocompleteIndex.onMessage(message("node|L|" + id(2) + "|5"), null);
+
+        // then
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactly("운전", "운동");
+    }
+
+    @Test
+    void 재구성_도중_들어온_변경과_검색은_교체한_뒤_반영한다() {
+        // given
+        when(routineRepository.streamTitleSources()).thenAnswer(invocation -> {
+            titleAutocompleteIndex.onMessage(changed(id(3)), null);
+            titleAutocompleteIndex.recordSearch("운전");
+            return Stream.of(title(id(1), "운동", 1), title(id(2), "운전", 0));
+        });
+        when(searchHistoryRepository.countKeywordsSince(any(), any())).thenReturn(List.of());
+        when(routineRepository.findTitleSourceById(id(3))).thenReturn(Optional.of(title(id(3), "운동장", 0)));
+
+        // when
+        titleAutocompleteIndex.rebuild();
+
+        // then
+        assertThat(titleAutocompleteIndex.suggest("운", 10)).containsExactly("운전", "운동", "운동장");
+    }
+
+    private void givenTitles(RoutineTitleSource... titles) {
+        when(routineRepository.streamTitleSources()).thenReturn(Stream.of(titles));
+        when(searchHistoryRepository.countKeywordsSince(any(), any())).thenReturn(List.of());
+        titleAutocompleteIndex.rebuild();
+    }
+
+    private DefaultMessage changed(UUID routineId) {
+        return message("node|D|" + routineId);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(new byte[0], body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UUID id(int n) {
+        return new UUID(0, n);
+    }
+
+    private RoutineTitleSource title(UUID id, String title, int likeCount) {
+        return new RoutineTitleSource() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public Integer getLikeCount() {
+                return likeCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.moru.backend.domain.routine.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.validation.DataBinder;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutineCursorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final UUID routineId = UUID.randomUUID();
+    private final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_000_000);
+
+    @Test
+    void 정렬_방식별_커서는_응답에서_요청으로_그대로_돌아온다() throws Exception {
+        // given
+        List<RoutineCursor> cursors = List.of(
+                RoutineCursor.ofCreatedAt(routineId, createdAt, null),
+                RoutineCursor.ofCreatedAt(routineId, createdAt, 12),
+                RoutineCursor.ofScore(routineId, createdAt, 3, 1.8734),
+                RoutineCursor.ofTime(routineId, LocalTime.of(7, 5, 30)),
+                RoutineCursor.ofUpcoming(routineId, 86_399, createdAt)
+        );
+
+        for (RoutineCursor cursor : cursors) {
+            // when
+            RoutineCursor bound = bindQueryParams(toQueryParams(cursor));
+
+            // then
+            assertThat(bound).isEqualTo(cursor);
+            assertThat(bound.isFirstPage()).isFalse();
+        }
+    }
+
+    @Test
+    void 파라미터가_없으면_첫_페이지_커서다() {
+        // when
+        RoutineCursor bound = bindQueryParams(Map.of());
+
+        // then
+        assertThat(bound.isFirstPage()).isTrue();
+    }
+
+    // 클라이언트는 nextCursor의 null이 아닌 필드만 쿼리 파라미터로 보낸다
+    private Map<String, String> toQueryParams(RoutineCursor cursor) throws Exception {
+        Map<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(cursor), Map.class);
+        Map<String, String> params = new LinkedHashMap<>();
+        json.forEach((name, value) -> {
+            if (value != null) {
+                params.put(name, value.toString());
+            }
+        });
+        return params;
+    }
+
+    // @ModelAttribute RoutineCursor와 같은 생성자 바인딩
+    private RoutineCursor bindQueryParams(Map<String, String> params) {
+        DataBinder binder = new DataBinder(null);
+        binder.setTargetType(ResolvableType.forClass(RoutineCursor.class));
+        binder.setConversionService(new DefaultFormattingConversionService());
+        binder.construct(new DataBinder.ValueResolver() {
+            @Override
+            public Object resolveValue(String name, Class<?> type) {
+                return params.get(name);
+            }
+
+            @Override
+            public Set<String> getNames() {
+                return params.keySet();
+            }
+        });
+        assertThat(binder.getBindingResult().hasErrors()).isFalse();
+        return (RoutineCursor) binder.getTarget();
+    }
+}
@@ -0,0 +1,68 @@
+package com.moru.backend.domain.social.application;
+
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.domain.ActionType;
+import com.moru.backend.domain.routine.event.RoutineEngagementChangedEvent;
+import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
+import com.moru.backend.domain.user.domain.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private RoutineUserActionRepository routineUserActionRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final User user = User.builder().id(UUID.randomUUID()).build();
+    private final UUID routineId = UUID.randomUUID();
+
+    @Test
+    void 같은_좋아요가_두_번_와도_좋아요_수_변경_이벤트는_한_번만_발행한다() {
+        // given: 두 번째 INSERT IGNORE는 유니크 제약에 걸려 0행이다
+        when(routineUserActionRepository.insertIgnore(any(), eq(user.getId()), eq(routineId), eq(ActionType.LIKE.name()), isNull()))
+                .thenReturn(1, 0);
+        when(routineRepository.existsById(routineId)).thenReturn(true);
+
+        // when
+        likeService.like(routineId, user);
+        likeService.like(routineId, user);
+
+        // then: 좋아요 수는 이 이벤트를 받은 커밋 후 리스너만 올리므로 +1 한 번이다
+        verify(eventPublisher, times(1)).publishEvent(ArgumentMatchers.<Object>argThat(event ->
+                event instanceof RoutineEngagementChangedEvent changed && changed.getRoutineId().equals(routineId) && changed.isActive()));
+    }
+
+    @Test
+    void 같은_좋아요_취소가_두_번_와도_좋아요_수_변경_이벤트는_한_번만_발행한다() {
+        // given
+        when(routineUserActionRepository.deleteByUserIdAndRoutineIdAndActionType(user.getId(), routineId, ActionType.LIKE))
+                .thenReturn(1, 0);
+
+        // when
+        likeService.unlike(routineId, user);
+        likeService.unlike(routineId, user);
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(ArgumentMatchers.<Object>argThat(event ->
+                event instanceof RoutineEngagementChangedEvent changed && !changed.isActive()));
+    }
+}
@@ -2,6 +2,7 @@ package com.moru.backend.domain.social.application;
 
 import com.moru.backend.domain.meta.domain.App;
 import com.moru.backend.domain.meta.domain.Tag;
+import com.moru.backend.domain.routine.application.TagCooccurrenceService;
 import com.moru.backend.domain.routine.dao.*;
 import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
 import com.moru.backend.domain.routine.domain.Routine;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Duration;
 import java.time.LocalTime;
@@ -39,6 +41,8 @@ class RoutineClonerTest {
     @Mock private RoutineTagRepository routineTagRepository;
     @Mock private RoutineAppRepository routineAppRepository;
     @Mock private RoutineScheduleRepository routineScheduleRepository;
+    @Mock private TagCooccurrenceService tagCooccurrenceService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Routine origin;
     private User owner;
@@ -111,5 +115,6 @@ class RoutineClonerTest {
         verify(routineTagRepository).save(any());
         verify(routineAppRepository).save(any());
         verify(routineScheduleRepository).save(any());
+        verify(tagCooccurrenceService).applyTagChange(any(), any());
     }
 }
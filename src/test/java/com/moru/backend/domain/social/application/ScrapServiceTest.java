@@ -0,0 +1,109 @@
+package com.moru.backend.domain.social.application;
+
+import com.moru.backend.domain.routine.application.RoutineCardLoader;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.domain.ActionType;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
+import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
+import com.moru.backend.domain.social.dao.ScrapCardRow;
+import com.moru.backend.domain.social.dto.ScrapCursor;
+import com.moru.backend.domain.social.dto.ScrappedRoutineSummaryResponse;
+import com.moru.backend.domain.user.domain.User;
+import com.moru.backend.global.common.dto.ScrollResponse;
+import com.moru.backend.global.util.S3Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScrapServiceTest {
+
+    @InjectMocks
+    private ScrapService scrapService;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private RoutineUserActionRepository routineUserActionRepository;
+    @Mock private UserEngagementCache userEngagementCache;
+    @Mock private RoutineCardLoader routineCardLoader;
+    @Mock private S3Service s3Service;
+
+    @Test
+    void 스크랩_목록은_프로젝션_조회와_태그_참여상태_조회_한_번씩이다() {
+        // given
+        User user = User.builder().id(UUID.randomUUID()).build();
+        List<UUID> routineIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        LocalDateTime now = LocalDateTime.now();
+        List<ScrapCardRow> rows = List.of(
+                row(UUID.randomUUID(), now, routineIds.get(0)),
+                row(UUID.randomUUID(), now.minusMinutes(1), routineIds.get(1)));
+
+        when(routineUserActionRepository.findScrapsByCursor(eq(user.getId()), eq(ActionType.SCRAP), isNull(), isNull(), any()))
+                .thenReturn(rows);
+        when(userEngagementCache.findAll(user.getId(), routineIds))
+                .thenReturn(Map.of(routineIds.get(1), new Engagement(true, true)));
+        when(routineCardLoader.loadTagNames(routineIds)).thenReturn(Map.of(routineIds.get(0), List.of("건강")));
+
+        // when
+        ScrollResponse<ScrappedRoutineSummaryResponse, ScrapCursor> response =
+                scrapService.getScrappedRoutine(user, null, null, 2);
+
+        // then
+        assertThat(response.content()).extracting(ScrappedRoutineSummaryResponse::routineId).containsExactlyElementsOf(routineIds);
+        assertThat(response.content().get(0).tagNames()).containsExactly("건강");
+        assertThat(response.content()).extracting(ScrappedRoutineSummaryResponse::isLiked).containsExactly(false, true);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo(new ScrapCursor(rows.get(1).getScrappedAt(), rows.get(1).getScrapId()));
+
+        verify(routineUserActionRepository, times(1))
+                .findScrapsByCursor(eq(user.getId()), eq(ActionType.SCRAP), isNull(), isNull(), any());
+        verify(routineCardLoader, times(1)).loadTagNames(routineIds);
+        verify(userEngagementCache, times(1)).findAll(user.getId(), routineIds);
+        // 루틴 엔티티를 읽지 않는다
+        verifyNoInteractions(routineRepository);
+    }
+
+    private ScrapCardRow row(UUID scrapId, LocalDateTime scrappedAt, UUID routineId) {
+        return new ScrapCardRow() {
+            @Override
+            public UUID getScrapId() {
+                return scrapId;
+            }
+
+            @Override
+            public LocalDateTime getScrappedAt() {
+                return scrappedAt;
+            }
+
+            @Override
+            public UUID getRoutineId() {
+                return routineId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "루틴";
+            }
+
+            @Override
+            public String getImageUrl() {
+                return null;
+            }
+        };
+    }
+}
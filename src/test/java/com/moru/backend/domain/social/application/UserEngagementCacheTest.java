@@ -0,0 +1,106 @@
+package com.moru.backend.domain.social.application;
+
+import com.moru.backend.domain.routine.domain.ActionType;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
+import com.moru.backend.domain.social.dao.RoutineActionRow;
+import com.moru.backend.domain.social.dao.RoutineUserActionRepository;
+import com.moru.backend.global.util.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserEngagementCacheTest {
+
+    @InjectMocks
+    private UserEngagementCache userEngagementCache;
+
+    @Mock private RoutineUserActionRepository routineUserActionRepository;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID routineId = UUID.randomUUID();
+    private final List<Object> expectedVersions = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(userEngagementCache, "ttlMinutes", 30L);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(routineUserActionRepository.findActionRowsByUserId(userId)).thenReturn(List.of(likeRow(routineId)));
+        // 적재 스크립트는 DB를 읽기 전에 본 버전(첫 인자)이 지금 버전과 다르면 0을 돌려주고 채우지 않는다
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(RedisKeyUtil.userEngagementKey(userId))), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    expectedVersions.add(invocation.getArgument(2));
+                    return 0L;
+                });
+    }
+
+    @Test
+    void 적재_중에_버전이_바뀌면_이번_조회는_DB_값으로_답하고_다음_조회에서_다시_적재한다() {
+        // given: 적재 표시는 없고 버전은 3이며, DB를 읽는 사이 다른 변경이 버전을 올려 적재 스크립트가 거절한다
+        when(hashOperations.multiGet(eq(RedisKeyUtil.userEngagementKey(userId)), anyList()))
+                .thenReturn(Arrays.asList(null, "3", null));
+
+        // when
+        Engagement first = userEngagementCache.find(userId, routineId);
+        Engagement second = userEngagementCache.find(userId, routineId);
+
+        // then
+        assertThat(first).isEqualTo(new Engagement(true, false));
+        assertThat(second).isEqualTo(new Engagement(true, false));
+        assertThat(expectedVersions).containsExactly("3", "3");
+        verify(routineUserActionRepository, times(2)).findActionRowsByUserId(userId);
+    }
+
+    @Test
+    void 버전이_없을_때_적재하면_빈_버전을_넘긴다() {
+        // given: 변경이 한 번도 없던 사용자
+        when(hashOperations.multiGet(eq(RedisKeyUtil.userEngagementKey(userId)), anyList()))
+                .thenReturn(Arrays.asList(null, null, null, null));
+
+        // when
+        Map<UUID, Engagement> result = userEngagementCache.findAll(userId, List.of(routineId, UUID.randomUUID()));
+
+        // then
+        assertThat(result).containsOnlyKeys(routineId);
+        assertThat(expectedVersions).containsExactly("");
+    }
+
+    private RoutineActionRow likeRow(UUID routineId) {
+        return new RoutineActionRow() {
+            @Override
+            public UUID getRoutineId() {
+                return routineId;
+            }
+
+            @Override
+            public ActionType getActionType() {
+                return ActionType.LIKE;
+            }
+        };
+    }
+}
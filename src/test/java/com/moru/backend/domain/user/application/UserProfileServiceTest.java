@@ -0,0 +1,89 @@
+package com.moru.backend.domain.user.application;
+
+import com.moru.backend.domain.log.dao.RoutineLogRepository;
+import com.moru.backend.domain.routine.application.RoutineCardLoader;
+import com.moru.backend.domain.routine.application.RoutineCardLoader.RoutineCard;
+import com.moru.backend.domain.routine.dao.routine.RoutineCardRow;
+import com.moru.backend.domain.routine.dao.routine.RoutineRepository;
+import com.moru.backend.domain.routine.dto.response.RoutineListResponse;
+import com.moru.backend.domain.social.application.FollowService;
+import com.moru.backend.domain.social.application.UserEngagementCache;
+import com.moru.backend.domain.social.application.UserEngagementCache.Engagement;
+import com.moru.backend.domain.social.dto.FollowCountResponse;
+import com.moru.backend.domain.user.dao.UserRepository;
+import com.moru.backend.domain.user.domain.User;
+import com.moru.backend.domain.user.dto.OtherUserProfileResponse;
+import com.moru.backend.global.util.S3Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileServiceTest {
+
+    @InjectMocks
+    private UserProfileService userProfileService;
+
+    @Mock private RoutineRepository routineRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private RoutineLogRepository routineLogRepository;
+    @Mock private RoutineCardLoader routineCardLoader;
+    @Mock private FollowService followService;
+    @Mock private UserEngagementCache userEngagementCache;
+    @Mock private S3Service s3Service;
+
+    @Test
+    void 다른_사용자_프로필의_루틴_목록은_카드_행_조회_한_번과_참여상태_조회_한_번이다() {
+        // given
+        User viewer = User.builder().id(UUID.randomUUID()).build();
+        User target = User.builder().id(UUID.randomUUID()).nickname("target").build();
+        List<UUID> routineIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<RoutineCardRow> rows = routineIds.stream()
+                .map(id -> new RoutineCardRow(id, target.getId(), "루틴", null, 0, LocalDateTime.now(), Duration.ofMinutes(10)))
+                .toList();
+
+        when(userRepository.findById(target.getId())).thenReturn(Optional.of(target));
+        when(routineRepository.countByUserId(target.getId())).thenReturn(2);
+        when(followService.countFollow(target.getId())).thenReturn(new FollowCountResponse(3L, 4L));
+        when(routineLogRepository.findTopByUserIdAndEndedAtIsNullOrderByStartedAtDesc(target.getId())).thenReturn(Optional.empty());
+        when(routineRepository.findVisibleCardRowsByUserId(target.getId())).thenReturn(rows);
+        when(routineCardLoader.toCards(rows)).thenReturn(List.of(
+                card(routineIds.get(0), target.getId()),
+                card(routineIds.get(1), target.getId())));
+        when(userEngagementCache.findAll(viewer.getId(), routineIds))
+                .thenReturn(Map.of(routineIds.get(0), new Engagement(false, true)));
+
+        // when
+        OtherUserProfileResponse response = userProfileService.getOtherProfile(target.getId(), viewer);
+
+        // then
+        assertThat(response.routines()).extracting(RoutineListResponse::id).containsExactlyElementsOf(routineIds);
+        assertThat(response.routines()).extracting(RoutineListResponse::isScrapped).containsExactly(true, false);
+
+        verify(routineRepository, times(1)).countByUserId(target.getId());
+        verify(routineRepository, times(1)).findVisibleCardRowsByUserId(target.getId());
+        verify(routineCardLoader, times(1)).toCards(rows);
+        verify(userEngagementCache, times(1)).findAll(viewer.getId(), routineIds);
+        // 루틴 엔티티를 따로 읽지 않는다
+        verifyNoMoreInteractions(routineRepository, routineCardLoader, userEngagementCache);
+    }
+
+    private RoutineCard card(UUID routineId, UUID ownerId) {
+        return new RoutineCard(RoutineListResponse.builder().id(routineId).title("루틴").tags(List.of()).build(), ownerId);
+    }
+}